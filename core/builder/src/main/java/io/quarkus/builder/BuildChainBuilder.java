@@ -39,6 +39,7 @@ public final class BuildChainBuilder {
     private final Map<BuildStepBuilder, StackTraceElement[]> steps = new HashMap<BuildStepBuilder, StackTraceElement[]>();
     private final Set<ItemId> initialIds = new HashSet<>();
     private final Set<ItemId> finalIds = new HashSet<>();
+    private Map<String, Long> stepDurations = Collections.emptyMap();
 
     BuildChainBuilder() {
         finalStep = addBuildStep(new FinalStep());
@@ -163,6 +164,21 @@ public final class BuildChainBuilder {
         return this;
     }
 
+    /**
+     * Set the durations of build steps recorded by a previous build, keyed by the string representation of the build
+     * step. The durations are used to start the steps on the longest path through the chain first. Steps without a
+     * recorded duration are assumed to take one millisecond.
+     *
+     * @param stepDurations the step durations in milliseconds (must not be {@code null})
+     * @return this builder
+     * @see BuildResult#getStepDurations()
+     */
+    public BuildChainBuilder setStepDurations(Map<String, Long> stepDurations) {
+        Assert.checkNotNullParam("stepDurations", stepDurations);
+        this.stepDurations = stepDurations;
+        return this;
+    }
+
     /**
      * Build the build step chain from the current builder configuration.
      *
@@ -431,7 +447,9 @@ public final class BuildChainBuilder {
                 includedDependents++;
             }
         }
-        final StepInfo stepInfo = new StepInfo(toBuild, includedDependencies, dependentStepInfos);
+        final Long duration = stepDurations.get(toBuild.getBuildStep().toString());
+        final StepInfo stepInfo = new StepInfo(toBuild, includedDependencies, dependentStepInfos,
+                duration != null ? Math.max(1, duration) : 1);
         mapped.put(toBuild, stepInfo);
         if (includedDependencies == 0) {
             // it's a start step!
@@ -394,11 +394,15 @@ public final class BuildContext {
         }
     }
 
+    long getPriority() {
+        return stepInfo.getPriority();
+    }
+
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
@@ -425,7 +429,9 @@ public final class BuildContext {
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            final long duration = System.currentTimeMillis() - start;
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
+            execution.stepFinished(stepInfo, start, duration);
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
@@ -3,6 +3,7 @@ package io.quarkus.builder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -22,14 +23,16 @@ public final class BuildResult {
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems;
     private final List<Diagnostic> diagnostics;
     private final long nanos;
+    private final Map<String, Long> stepDurations;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos) {
+            final List<Diagnostic> diagnostics, final long nanos, final Map<String, Long> stepDurations) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
         this.nanos = nanos;
+        this.stepDurations = stepDurations;
     }
 
     /**
@@ -86,6 +89,16 @@ public final class BuildResult {
         return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Get the durations of the executed build steps in milliseconds, keyed by the string representation of the build
+     * step. The result can be passed to {@link BuildChainBuilder#setStepDurations(Map)} of a subsequent build.
+     *
+     * @return the step durations (not {@code null})
+     */
+    public Map<String, Long> getStepDurations() {
+        return stepDurations;
+    }
+
     /**
      * Close all the resultant resources, logging any failures.
      */
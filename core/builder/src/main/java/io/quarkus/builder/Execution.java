@@ -3,11 +3,20 @@ package io.quarkus.builder;
 import static java.lang.Math.max;
 import static java.util.concurrent.locks.LockSupport.*;
 
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,12 +35,17 @@ final class Execution {
 
     static final Logger log = Logger.getLogger("io.quarkus.builder");
 
+    private static final String TIMING_OUTPUT = System.getProperty("jboss.builder.timing-output");
+
     private final BuildChain chain;
     private final ConcurrentHashMap<ItemId, BuildItem> singles;
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multis;
     private final Set<ItemId> finalIds;
     private final ConcurrentHashMap<StepInfo, BuildContext> contextCache = new ConcurrentHashMap<>();
     private final EnhancedQueueExecutor executor;
+    private final PriorityBlockingQueue<BuildContext> readySteps = new PriorityBlockingQueue<>(16,
+            Comparator.comparingLong(BuildContext::getPriority).reversed());
+    private final ConcurrentHashMap<StepInfo, long[]> stepTimings = new ConcurrentHashMap<>();
     private final List<Diagnostic> diagnostics = new ArrayList<>();
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
@@ -70,11 +84,12 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        final long startMillis = System.currentTimeMillis();
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -116,8 +131,82 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
-        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+        final long nanos = max(0, System.nanoTime() - start);
+        if (TIMING_OUTPUT != null && !TIMING_OUTPUT.isEmpty()) {
+            writeTimings(startMillis, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+        final Map<String, Long> stepDurations = new HashMap<>();
+        for (Map.Entry<StepInfo, long[]> entry : stepTimings.entrySet()) {
+            stepDurations.put(entry.getKey().getBuildStep().toString(), entry.getValue()[1]);
+        }
+        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics), nanos,
+                Collections.unmodifiableMap(stepDurations));
+    }
+
+    /**
+     * Schedule a step whose dependencies are all finished. When more steps are ready than there are free threads, the
+     * steps on the longest path through the chain are started first.
+     *
+     * @param context the build context of the step
+     */
+    void schedule(BuildContext context) {
+        readySteps.add(context);
+        executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        final BuildContext context = readySteps.poll();
+        if (context != null) {
+            context.run();
+        }
+    }
+
+    void stepFinished(StepInfo stepInfo, long start, long duration) {
+        stepTimings.put(stepInfo, new long[] { start, duration });
+    }
+
+    private void writeTimings(long buildStart, long buildDuration) {
+        final List<Map.Entry<StepInfo, long[]>> timings = new ArrayList<>(stepTimings.entrySet());
+        timings.sort(Comparator.comparingLong(e -> e.getValue()[0]));
+        final Map<StepInfo, Long> criticalPaths = new HashMap<>();
+        try (FileOutputStream fos = new FileOutputStream(TIMING_OUTPUT)) {
+            try (OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8)) {
+                try (BufferedWriter writer = new BufferedWriter(osw)) {
+                    writer.write(String.format("# Build \"%s\" completed in %d ms", buildTargetName, buildDuration));
+                    writer.newLine();
+                    writer.write("# start [ms]\tduration [ms]\tcritical path [ms]\tstep -> dependents");
+                    writer.newLine();
+                    for (Map.Entry<StepInfo, long[]> entry : timings) {
+                        final StepInfo stepInfo = entry.getKey();
+                        writer.write(String.format("%d\t%d\t%d\t%s", entry.getValue()[0] - buildStart, entry.getValue()[1],
+                                criticalPath(stepInfo, criticalPaths), stepInfo.getBuildStep()));
+                        for (StepInfo dependent : stepInfo.getDependents()) {
+                            writer.newLine();
+                            writer.write("\t\t\t-> ");
+                            writer.write(dependent.getBuildStep().toString());
+                        }
+                        writer.newLine();
+                    }
+                }
+            }
+        } catch (IOException ioe) {
+            log.warnf(ioe, "Failed to write build step timings to %s", TIMING_OUTPUT);
+        }
+    }
+
+    private long criticalPath(StepInfo stepInfo, Map<StepInfo, Long> criticalPaths) {
+        final Long known = criticalPaths.get(stepInfo);
+        if (known != null) {
+            return known.longValue();
+        }
+        long longestDependent = 0;
+        for (StepInfo dependent : stepInfo.getDependents()) {
+            longestDependent = Math.max(longestDependent, criticalPath(dependent, criticalPaths));
+        }
+        final long[] timing = stepTimings.get(stepInfo);
+        final long result = (timing != null ? timing[1] : 0) + longestDependent;
+        criticalPaths.put(stepInfo, Long.valueOf(result));
+        return result;
     }
 
     EnhancedQueueExecutor getExecutor() {
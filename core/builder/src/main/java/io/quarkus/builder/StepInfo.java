@@ -10,13 +10,19 @@ final class StepInfo {
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final long priority;
 
-    StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
+    StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents, long cost) {
         buildStep = builder.getBuildStep();
         consumes = builder.getRealConsumes();
         produces = builder.getRealProduces();
         this.dependencies = dependencies;
         this.dependents = dependents;
+        long longestDependent = 0;
+        for (StepInfo dependent : dependents) {
+            longestDependent = Math.max(longestDependent, dependent.getPriority());
+        }
+        this.priority = cost + longestDependent;
     }
 
     BuildStep getBuildStep() {
@@ -38,4 +44,13 @@ final class StepInfo {
     Set<ItemId> getProduces() {
         return produces;
     }
+
+    /**
+     * Get the estimated length of the longest path from this step to an end step, including this step.
+     *
+     * @return the priority of this step; steps with higher priority are started first
+     */
+    long getPriority() {
+        return priority;
+    }
 }
@@ -149,4 +149,46 @@ public class BasicTests {
         }
     }
 
+    @Test
+    public void testStepDurations() throws ChainBuildException, BuildException {
+        final BuildStep producer = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "producer";
+            }
+        };
+        final BuildStep consumer = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                assertNotNull(context.consume(DummyItem.class));
+                context.produce(new DummyItem2());
+            }
+
+            @Override
+            public String toString() {
+                return "consumer";
+            }
+        };
+        BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(producer).produces(DummyItem.class).build();
+        builder.addBuildStep(consumer).consumes(DummyItem.class).produces(DummyItem2.class).build();
+        builder.addFinal(DummyItem2.class);
+        BuildResult result = builder.build().createExecutionBuilder("my-app.jar").execute();
+        assertEquals(2, result.getStepDurations().size());
+        assertTrue(result.getStepDurations().containsKey("producer"));
+        assertTrue(result.getStepDurations().containsKey("consumer"));
+        // durations of a previous build only influence the order in which ready steps are started
+        builder = BuildChain.builder();
+        builder.setStepDurations(result.getStepDurations());
+        builder.addBuildStep(producer).produces(DummyItem.class).build();
+        builder.addBuildStep(consumer).consumes(DummyItem.class).produces(DummyItem2.class).build();
+        builder.addFinal(DummyItem2.class);
+        result = builder.build().createExecutionBuilder("my-app.jar").execute();
+        assertNotNull(result.consume(DummyItem2.class));
+    }
 }
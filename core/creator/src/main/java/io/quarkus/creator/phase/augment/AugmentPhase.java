@@ -338,6 +338,7 @@ public class AugmentPhase implements AppCreationPhase<AugmentPhase>, AugmentOutc
                 builder.setClassLoader(runnerClassLoader);
                 builder.setOutput(classOutput);
                 builder.setBuildSystemProperties(buildSystemProperties);
+                builder.setStepDurationsFile(outputDir.resolve("quarkus-build-step-durations.properties"));
                 builder.addFinal(BytecodeTransformerBuildItem.class)
                         .addFinal(ApplicationArchivesBuildItem.class)
                         .addFinal(MainClassBuildItem.class)
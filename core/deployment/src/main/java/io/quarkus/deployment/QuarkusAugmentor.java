@@ -1,5 +1,8 @@
 package io.quarkus.deployment;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -7,8 +10,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -45,6 +50,7 @@ public class QuarkusAugmentor {
     private final Collection<Path> excludedFromIndexing;
     private final LiveReloadBuildItem liveReloadBuildItem;
     private final Properties buildSystemProperties;
+    private final Path stepDurationsFile;
 
     QuarkusAugmentor(Builder builder) {
         this.output = builder.output;
@@ -57,6 +63,7 @@ public class QuarkusAugmentor {
         this.excludedFromIndexing = builder.excludedFromIndexing;
         this.liveReloadBuildItem = builder.liveReloadState;
         this.buildSystemProperties = builder.buildSystemProperties;
+        this.stepDurationsFile = builder.stepDurationsFile;
     }
 
     public BuildResult run() throws Exception {
@@ -75,6 +82,9 @@ public class QuarkusAugmentor {
                 ExtensionLoader.loadStepsFrom(classLoader, launchMode).accept(chainBuilder);
             }
             chainBuilder.loadProviders(classLoader);
+            if (stepDurationsFile != null) {
+                chainBuilder.setStepDurations(readStepDurations(stepDurationsFile));
+            }
 
             chainBuilder
                     .addInitial(QuarkusConfig.class)
@@ -121,6 +131,9 @@ public class QuarkusAugmentor {
             for (GeneratedResourceBuildItem i : buildResult.consumeMulti(GeneratedResourceBuildItem.class)) {
                 output.writeResource(i.getName(), i.getClassData());
             }
+            if (stepDurationsFile != null) {
+                writeStepDurations(stepDurationsFile, buildResult.getStepDurations());
+            }
             log.info("Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms");
             return buildResult;
         } finally {
@@ -134,6 +147,45 @@ public class QuarkusAugmentor {
         }
     }
 
+    private static Map<String, Long> readStepDurations(Path file) {
+        final Map<String, Long> durations = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return durations;
+        }
+        final Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read build step durations from %s", file);
+            return durations;
+        }
+        for (String step : properties.stringPropertyNames()) {
+            try {
+                durations.put(step, Long.valueOf(properties.getProperty(step)));
+            } catch (NumberFormatException e) {
+                // ignore the entry, it is replaced once this build completes
+            }
+        }
+        return durations;
+    }
+
+    private static void writeStepDurations(Path file, Map<String, Long> durations) {
+        final Properties properties = new Properties();
+        for (Map.Entry<String, Long> entry : durations.entrySet()) {
+            properties.setProperty(entry.getKey(), entry.getValue().toString());
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Quarkus build step durations in ms");
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to write build step durations to %s", file);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -150,6 +202,7 @@ public class QuarkusAugmentor {
         LaunchMode launchMode = LaunchMode.NORMAL;
         LiveReloadBuildItem liveReloadState = new LiveReloadBuildItem();
         Properties buildSystemProperties;
+        Path stepDurationsFile;
 
         public Builder addBuildChainCustomizer(Consumer<BuildChainBuilder> customizer) {
             this.buildChainCustomizers.add(customizer);
@@ -220,6 +273,22 @@ public class QuarkusAugmentor {
             return this;
         }
 
+        public Path getStepDurationsFile() {
+            return stepDurationsFile;
+        }
+
+        /**
+         * Set the file used to remember how long each build step took. The durations recorded by a previous build are
+         * used to start the steps on the critical path of the build chain first.
+         *
+         * @param stepDurationsFile the file, or {@code null} to not persist the step durations
+         * @return this builder
+         */
+        public Builder setStepDurationsFile(Path stepDurationsFile) {
+            this.stepDurationsFile = stepDurationsFile;
+            return this;
+        }
+
         public QuarkusAugmentor build() {
             return new QuarkusAugmentor(this);
         }
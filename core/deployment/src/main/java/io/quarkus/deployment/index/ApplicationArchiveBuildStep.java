@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -17,10 +18,15 @@ import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -56,8 +62,12 @@ public class ApplicationArchiveBuildStep {
     // At least Jandex 2.1 is needed
     private static final int REQUIRED_INDEX_VERSION = 8;
 
+    private static final String INDEX_CACHE_DIRECTORY = "quarkus-index-cache";
+
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -68,6 +78,23 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * Whether the indexes of application dependencies that do not contain a {@code META-INF/jandex.idx} should be
+         * stored on disk and reused by subsequent builds
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+
+        /**
+         * The directory the dependency indexes are stored in. If not set the {@code quarkus-index-cache} directory
+         * next to the application root is used.
+         */
+        @ConfigItem
+        Optional<Path> directory;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -94,16 +121,31 @@ public class ApplicationArchiveBuildStep {
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
+        PersistentIndexCache persistentIndexCache = getPersistentIndexCache(root);
+
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(Thread.currentThread().getContextClassLoader(),
-                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache);
+                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
+                persistentIndexCache);
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getArchiveRoot(), null, false, root.getArchiveLocation()),
                 applicationArchives);
     }
 
+    private PersistentIndexCache getPersistentIndexCache(ArchiveRootBuildItem root) {
+        if (!indexCacheConfig.enabled) {
+            return null;
+        }
+        if (indexCacheConfig.directory.isPresent()) {
+            return new PersistentIndexCache(indexCacheConfig.directory.get());
+        }
+        Path parent = root.getArchiveLocation().toAbsolutePath().getParent();
+        return parent == null ? null : new PersistentIndexCache(parent.resolve(INDEX_CACHE_DIRECTORY));
+    }
+
     private List<ApplicationArchive> scanForOtherIndexes(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache)
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache,
+            PersistentIndexCache persistentIndexCache)
             throws IOException {
         Set<Path> dependenciesToIndex = new HashSet<>();
         //get paths that are included via index-dependencies
@@ -120,7 +162,7 @@ public class ApplicationArchiveBuildStep {
             dependenciesToIndex.add(i.getPath());
         }
 
-        return indexPaths(dependenciesToIndex, classLoader, indexCache);
+        return indexPaths(dependenciesToIndex, classLoader, indexCache, persistentIndexCache);
     }
 
     public List<Path> getIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems,
@@ -150,17 +192,25 @@ public class ApplicationArchiveBuildStep {
     }
 
     private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader,
-            IndexCache indexCache)
+            IndexCache indexCache, PersistentIndexCache persistentIndexCache)
             throws IOException {
         List<ApplicationArchive> ret = new ArrayList<>();
 
+        List<Path> jarsToIndex = new ArrayList<>();
+        for (Path dep : dependenciesToIndex) {
+            if (!Files.isDirectory(dep) && !indexCache.cache.containsKey(dep)) {
+                jarsToIndex.add(dep);
+            }
+        }
+        indexJars(jarsToIndex, indexCache, persistentIndexCache);
+
         for (final Path dep : dependenciesToIndex) {
             LOGGER.debugf("Indexing dependency: %s", dep);
             if (Files.isDirectory(dep)) {
                 IndexView indexView = handleFilePath(dep);
                 ret.add(new ApplicationArchiveImpl(indexView, dep, null, false, dep));
             } else {
-                IndexView index = handleJarPath(dep, indexCache);
+                IndexView index = indexCache.cache.get(dep);
                 FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
                 ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep));
             }
@@ -245,31 +295,71 @@ public class ApplicationArchiveBuildStep {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache) throws IOException {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try (JarFile file = new JarFile(path.toFile())) {
-                    ZipEntry existing = file.getEntry(JANDEX_INDEX);
-                    if (existing != null) {
-                        try (InputStream in = file.getInputStream(existing)) {
-                            IndexReader reader = new IndexReader(in);
-                            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                                LOGGER.warnf(
-                                        "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                        path);
-                                return indexJar(file);
-                            } else {
-                                return reader.read();
-                            }
-                        }
+    /**
+     * Indexes the given jars and adds the result to the index cache. The jars are processed in parallel, as most of
+     * them usually need to be read in full.
+     */
+    private static void indexJars(List<Path> jars, IndexCache indexCache, PersistentIndexCache persistentIndexCache)
+            throws IOException {
+        if (jars.size() < 2) {
+            for (Path jar : jars) {
+                indexCache.cache.put(jar, handleJarPath(jar, persistentIndexCache));
+            }
+            return;
+        }
+        ExecutorService executor = Executors
+                .newFixedThreadPool(Math.min(jars.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            Map<Path, Future<Index>> indexes = new LinkedHashMap<>();
+            for (Path jar : jars) {
+                indexes.put(jar, executor.submit(() -> handleJarPath(jar, persistentIndexCache)));
+            }
+            for (Map.Entry<Path, Future<Index>> entry : indexes.entrySet()) {
+                try {
+                    indexCache.cache.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
                     }
-                    return indexJar(file);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
+                    throw new RuntimeException("Failed to process " + entry.getKey(), cause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while indexing " + entry.getKey());
                 }
             }
-        });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Index handleJarPath(Path path, PersistentIndexCache persistentIndexCache) {
+        try (JarFile file = new JarFile(path.toFile())) {
+            ZipEntry existing = file.getEntry(JANDEX_INDEX);
+            if (existing != null) {
+                try (InputStream in = file.getInputStream(existing)) {
+                    IndexReader reader = new IndexReader(in);
+                    if (reader.getIndexVersion() >= REQUIRED_INDEX_VERSION) {
+                        return reader.read();
+                    }
+                    LOGGER.warnf("Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                            path);
+                }
+            }
+            if (persistentIndexCache == null) {
+                return indexJar(file);
+            }
+            Index index = persistentIndexCache.read(path);
+            if (index == null) {
+                index = indexJar(file);
+                persistentIndexCache.write(path, index);
+            } else {
+                LOGGER.debugf("Using cached index of %s from %s", path, persistentIndexCache.getDirectory());
+            }
+            return index;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
     }
 
     private static Index indexJar(JarFile file) throws IOException {
@@ -0,0 +1,131 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.util.HashUtil;
+
+/**
+ * Stores the indexes computed for application dependencies that do not contain a {@code META-INF/jandex.idx} on disk,
+ * so that they do not need to be indexed again by subsequent builds.
+ * <p>
+ * An entry is keyed by the location, size and last modification time of the archive, a modified archive is therefore
+ * never served from the cache. Writing an entry deletes the older entries of the same archive. Failures to read or write
+ * an entry are not fatal, the archive is simply indexed again, and several builds may share the same cache directory.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @param archive the archive
+     * @return the cached index of the given archive, or {@code null} if there is no up-to-date entry
+     */
+    Index read(Path archive) {
+        try {
+            Path entry = entryFor(archive);
+            if (!Files.isRegularFile(entry)) {
+                return null;
+            }
+            try (InputStream in = Files.newInputStream(entry)) {
+                return new IndexReader(in).read();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to read the cached index of %s", archive);
+            return null;
+        }
+    }
+
+    /**
+     * @param archive the archive
+     * @param index the index of the archive
+     */
+    void write(Path archive, Index index) {
+        Path tmp = null;
+        try {
+            Path entry = entryFor(archive);
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, archive.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+            deleteStaleEntries(archive, entry);
+        } catch (FileAlreadyExistsException e) {
+            // another build cached the same index concurrently
+            LOGGER.debugf("The index of %s was cached concurrently", archive);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to cache the index of %s", archive);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the entries of the previous versions of the given archive, which are never read again.
+     */
+    private void deleteStaleEntries(Path archive, Path current) throws IOException {
+        String prefix = entryPrefix(archive);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (name.startsWith(prefix) && name.endsWith(SUFFIX) && !entry.equals(current)) {
+                    try {
+                        Files.deleteIfExists(entry);
+                    } catch (IOException e) {
+                        // e.g. being read by another build, it will be deleted by the next write
+                        LOGGER.debugf(e, "Unable to delete the stale cached index %s", entry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the entry of the given archive, named {@code <name>-<location hash>-<version hash>.idx}
+     */
+    private Path entryFor(Path archive) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+        String version = attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        return directory.resolve(entryPrefix(archive) + HashUtil.sha1(version) + SUFFIX);
+    }
+
+    private static String entryPrefix(Path archive) {
+        return archive.getFileName() + "-" + HashUtil.sha1(archive.toAbsolutePath().normalize().toString()) + "-";
+    }
+}
@@ -0,0 +1,118 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.quarkus.deployment.util.IoUtil;
+
+public class PersistentIndexCacheTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadWrite() throws IOException {
+        Path archive = folder.newFile("dependency.jar").toPath();
+        PersistentIndexCache cache = new PersistentIndexCache(folder.getRoot().toPath().resolve("cache"));
+        assertNull(cache.read(archive));
+
+        cache.write(archive, index(PersistentIndexCacheTestCase.class));
+        Index cached = cache.read(archive);
+        assertNotNull(cached);
+        assertEquals(1, cached.getKnownClasses().size());
+        assertNotNull(cached.getClassByName(DotName.createSimple(PersistentIndexCacheTestCase.class.getName())));
+    }
+
+    @Test
+    public void testModifiedArchive() throws IOException {
+        Path archive = folder.newFile("dependency.jar").toPath();
+        PersistentIndexCache cache = new PersistentIndexCache(folder.getRoot().toPath().resolve("cache"));
+
+        cache.write(archive, index(PersistentIndexCacheTestCase.class));
+        assertNotNull(cache.read(archive));
+
+        Files.setLastModifiedTime(archive, FileTime.fromMillis(Files.getLastModifiedTime(archive).toMillis() + 5000));
+        assertNull(cache.read(archive));
+    }
+
+    @Test
+    public void testStaleEntriesAreDeleted() throws IOException {
+        Path archive = folder.newFile("dependency.jar").toPath();
+        Path sameName = folder.newFolder("other").toPath().resolve("dependency.jar");
+        Files.createFile(sameName);
+        Path directory = folder.getRoot().toPath().resolve("cache");
+        PersistentIndexCache cache = new PersistentIndexCache(directory);
+
+        cache.write(archive, index(PersistentIndexCacheTestCase.class));
+        cache.write(sameName, index(PersistentIndexCacheTestCase.class));
+        assertEquals(2, entries(directory).size());
+
+        Files.setLastModifiedTime(archive, FileTime.fromMillis(Files.getLastModifiedTime(archive).toMillis() + 5000));
+        cache.write(archive, index(PersistentIndexCacheTestCase.class));
+        assertEquals(2, entries(directory).size());
+        assertNotNull(cache.read(archive));
+        // an archive with the same name at another location has its own entry
+        assertNotNull(cache.read(sameName));
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        Path archive = folder.newFile("dependency.jar").toPath();
+        Path directory = folder.getRoot().toPath().resolve("cache");
+        Index index = index(PersistentIndexCacheTestCase.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                // each build has its own cache instance
+                writes.add(executor.submit(() -> new PersistentIndexCache(directory).write(archive, index)));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // no temporary file is left behind
+        assertEquals(1, entries(directory).size());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        assertNotNull(new PersistentIndexCache(directory).read(archive));
+    }
+
+    private static List<Path> entries(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".idx")).collect(Collectors.toList());
+        }
+    }
+
+    private static Index index(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = IoUtil.readClass(clazz.getClassLoader(), clazz.getName())) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+}
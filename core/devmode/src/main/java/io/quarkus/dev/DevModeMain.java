@@ -256,6 +256,9 @@ public class DevModeMain implements Closeable {
 
     public void close() {
         stop();
+        if (runtimeUpdatesProcessor != null) {
+            runtimeUpdatesProcessor.close();
+        }
         for (HotReplacementSetup i : hotReplacement) {
             i.close();
         }
@@ -0,0 +1,322 @@
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps track of the files that were created, modified or deleted below a set of root directories, so that a scan for
+ * changes only needs to look at these files instead of walking the whole tree.
+ * <p>
+ * The changes are collected in the background by a {@link WatchService}. Whenever the journal of a root is not
+ * reliable, i.e. the root could not be watched, events were lost or the journal was just created,
+ * {@link #drainChanges(Path)} returns {@code null} and the caller needs to fall back to walking the root.
+ * <p>
+ * As the events are delivered asynchronously, a drain that follows new events first waits for the watcher to be quiet
+ * for a short period, so that the events of a change in progress, e.g. a directory being copied, are drained together.
+ * The drains of the other roots in the same scan do not wait again unless more events arrived in between.
+ */
+final class FileChangeJournal implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeJournal.class);
+
+    /**
+     * How long the watcher must be quiet before draining, to let the pending events be delivered.
+     */
+    static final long SETTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    /**
+     * How long a drain waits at most for the watcher to settle, e.g. while a build keeps writing files.
+     */
+    static final long MAX_SETTLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final WatchService watchService;
+    private final Map<Path, RootJournal> roots = new LinkedHashMap<>();
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private volatile boolean closed;
+    // the last time the watcher received or finished processing events
+    private volatile long lastEventNanos;
+    // the last time a drain waited for the watcher to settle, only accessed by the draining thread
+    private long settledNanos;
+
+    FileChangeJournal(Collection<Path> roots) {
+        this(roots, newWatchService(), Clock.SYSTEM, FileChangeJournal::startWatcher);
+    }
+
+    /**
+     * @param roots the root directories
+     * @param watchService the watch service, or {@code null} if the roots cannot be watched
+     * @param clock the clock used to wait for the watcher to settle
+     * @param watcher runs the loop receiving the events of the watch service
+     */
+    FileChangeJournal(Collection<Path> roots, WatchService watchService, Clock clock, Executor watcher) {
+        this.watchService = watchService;
+        this.clock = clock;
+        this.lastEventNanos = clock.nanoTime();
+        this.settledNanos = lastEventNanos;
+        boolean watching = false;
+        for (Path root : roots) {
+            RootJournal journal = new RootJournal(root);
+            this.roots.put(root, journal);
+            if (watchService != null && Files.isDirectory(root)) {
+                try {
+                    registerAll(root, false);
+                    journal.watched = true;
+                    watching = true;
+                } catch (IOException e) {
+                    log.debugf(e, "Unable to watch %s, changes will be detected by scanning it", root);
+                }
+            }
+        }
+        if (watching) {
+            watcher.execute(this::run);
+        }
+    }
+
+    private static void startWatcher(Runnable watcher) {
+        Thread thread = new Thread(watcher, "Quarkus dev mode file watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static WatchService newWatchService() {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+                // the polling implementation only notices changes every couple of seconds, scanning is faster
+                watchService.close();
+                return null;
+            }
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("File system watching is not available, changes will be detected by scanning", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the files below the given root that changed since the previous call and resets the journal of the root.
+     *
+     * @param root the root directory
+     * @return the changed files, or {@code null} if the whole root needs to be scanned
+     */
+    Set<Path> drainChanges(Path root) {
+        RootJournal journal = roots.get(root);
+        if (journal == null) {
+            return null;
+        }
+        if (journal.watched) {
+            awaitSettled();
+        }
+        return journal.drain();
+    }
+
+    /**
+     * Waits until no event was received for {@link #SETTLE_NANOS}, if any event was received since the previous wait.
+     */
+    private void awaitSettled() {
+        if (lastEventNanos - settledNanos <= 0) {
+            return;
+        }
+        long deadline = clock.nanoTime() + MAX_SETTLE_NANOS;
+        while (!closed) {
+            long now = clock.nanoTime();
+            long wait = Math.min(lastEventNanos + SETTLE_NANOS - now, deadline - now);
+            if (wait <= 0) {
+                break;
+            }
+            try {
+                clock.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        settledNanos = clock.nanoTime();
+    }
+
+    /**
+     * Records the given files as changed again, for instance because they could not be processed.
+     *
+     * @param root the root directory
+     * @param files the files to report on the next call to {@link #drainChanges(Path)}
+     */
+    void requeue(Path root, Collection<Path> files) {
+        RootJournal journal = roots.get(root);
+        if (journal != null) {
+            for (Path file : files) {
+                journal.record(file);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Failed to close the watch service", e);
+            }
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = directories.get(key);
+            if (directory != null) {
+                onEvents(directory, key.pollEvents());
+            }
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Records the changes reported by the events of a watched directory.
+     */
+    void onEvents(Path directory, List<WatchEvent<?>> events) {
+        lastEventNanos = clock.nanoTime();
+        for (WatchEvent<?> event : events) {
+            if (event.kind() == OVERFLOW) {
+                invalidate(directory);
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (event.kind() == ENTRY_DELETE && directories.containsValue(file)) {
+                // the events for the content of the directory may not have been delivered
+                invalidate(file);
+            } else if (event.kind() == ENTRY_CREATE && Files.isDirectory(file, LinkOption.NOFOLLOW_LINKS)) {
+                try {
+                    registerAll(file, true);
+                } catch (IOException e) {
+                    invalidate(file);
+                }
+            }
+            record(file);
+        }
+        lastEventNanos = clock.nanoTime();
+    }
+
+    private void registerAll(Path start, boolean recordFiles) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                directories.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (recordFiles) {
+                    // the file may have been created before the directory was registered
+                    record(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void record(Path file) {
+        for (RootJournal journal : roots.values()) {
+            if (file.startsWith(journal.root)) {
+                journal.record(file);
+            }
+        }
+    }
+
+    private void invalidate(Path file) {
+        for (RootJournal journal : roots.values()) {
+            if (file.startsWith(journal.root) || journal.root.startsWith(file)) {
+                journal.invalidate();
+            }
+        }
+    }
+
+    /**
+     * The time source of the journal.
+     */
+    interface Clock {
+
+        Clock SYSTEM = new Clock() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleep(long nanos) throws InterruptedException {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private static final class RootJournal {
+
+        final Path root;
+        volatile boolean watched;
+        // the first scan always walks the root, so that the caller knows the initial state
+        private boolean complete;
+        private Set<Path> changes = new HashSet<>();
+
+        RootJournal(Path root) {
+            this.root = root;
+        }
+
+        synchronized void record(Path file) {
+            changes.add(file);
+        }
+
+        synchronized void invalidate() {
+            complete = false;
+        }
+
+        synchronized Set<Path> drain() {
+            Set<Path> result = changes;
+            changes = new HashSet<>();
+            if (!watched || !complete) {
+                complete = true;
+                return null;
+            }
+            return result;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkus.dev;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -29,8 +30,9 @@ import io.quarkus.deployment.devmode.HotReplacementContext;
 import io.quarkus.deployment.devmode.HotReplacementSetup;
 import io.quarkus.runtime.Timing;
 
-public class RuntimeUpdatesProcessor implements HotReplacementContext {
+public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable {
     private static final String CLASS_EXTENSION = ".class";
+    private static final String WATCH_FILES = "quarkus.dev.watch-files";
     private final DevModeContext context;
     private final ClassLoaderCompiler compiler;
     private volatile long lastChange = System.currentTimeMillis();
@@ -45,11 +47,27 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private final List<Consumer<Set<String>>> noRestartChangesConsumers = new CopyOnWriteArrayList<>();
     private final List<HotReplacementSetup> hotReplacementSetup = new ArrayList<>();
     private final DevModeMain devModeMain;
+    private final FileChangeJournal journal;
 
     public RuntimeUpdatesProcessor(DevModeContext context, ClassLoaderCompiler compiler, DevModeMain devModeMain) {
         this.context = context;
         this.compiler = compiler;
         this.devModeMain = devModeMain;
+        this.journal = Boolean.parseBoolean(System.getProperty(WATCH_FILES, "true")) ? new FileChangeJournal(getWatchedRoots())
+                : null;
+    }
+
+    private List<Path> getWatchedRoots() {
+        List<Path> ret = new ArrayList<>();
+        for (DevModeContext.ModuleInfo module : context.getModules()) {
+            for (String sourcePath : module.getSourcePaths()) {
+                ret.add(Paths.get(sourcePath));
+            }
+            if (module.getClassesPath() != null) {
+                ret.add(Paths.get(module.getClassesPath()));
+            }
+        }
+        return ret;
     }
 
     @Override
@@ -144,15 +162,29 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         boolean hasChanges = false;
         for (DevModeContext.ModuleInfo module : context.getModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            final Set<Path> moduleDeletedSourceFilePaths = new HashSet<>();
             for (String sourcePath : module.getSourcePaths()) {
+                final Path sourceRoot = Paths.get(sourcePath);
+                final Set<Path> journaledChanges = journal == null ? null : journal.drainChanges(sourceRoot);
                 final Set<File> changedSourceFiles;
-                try (final Stream<Path> sourcesStream = Files.walk(Paths.get(sourcePath))) {
-                    changedSourceFiles = sourcesStream
-                            .parallel()
-                            .filter(p -> matchingHandledExtension(p).isPresent() && wasRecentlyModified(p))
+                if (journaledChanges != null) {
+                    changedSourceFiles = journaledChanges.stream()
+                            .filter(p -> matchingHandledExtension(p).isPresent() && Files.isRegularFile(p))
                             .map(Path::toFile)
-                            //Needing a concurrent Set, not many standard options:
-                            .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                            .collect(Collectors.toSet());
+                    // the class files of deleted sources are removed when checking the class files
+                    journaledChanges.stream()
+                            .filter(p -> matchingHandledExtension(p).isPresent() && Files.notExists(p))
+                            .forEach(moduleDeletedSourceFilePaths::add);
+                } else {
+                    try (final Stream<Path> sourcesStream = Files.walk(sourceRoot)) {
+                        changedSourceFiles = sourcesStream
+                                .parallel()
+                                .filter(p -> matchingHandledExtension(p).isPresent() && wasRecentlyModified(p))
+                                .map(Path::toFile)
+                                //Needing a concurrent Set, not many standard options:
+                                .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                    }
                 }
                 if (!changedSourceFiles.isEmpty()) {
                     log.info("Changed source files detected, recompiling " + changedSourceFiles);
@@ -166,13 +198,17 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
                         DevModeMain.compileProblem = null;
                     } catch (Exception e) {
                         DevModeMain.compileProblem = e;
+                        if (journaledChanges != null) {
+                            // make sure the sources are compiled again on the next scan
+                            journal.requeue(sourceRoot, journaledChanges);
+                        }
                         return false;
                     }
                 }
 
             }
 
-            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths)) {
+            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, moduleDeletedSourceFilePaths)) {
                 hasChanges = true;
             }
         }
@@ -184,7 +220,8 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return hasChanges;
     }
 
-    private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles) {
+    private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
+            Set<Path> moduleDeletedSourceFiles) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
 
         if (module.getClassesPath() == null) {
@@ -193,38 +230,56 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
         try {
             final Path moduleClassesPath = Paths.get(module.getClassesPath());
-            try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
-                final Set<Path> classFilePaths = classesStream
-                        .parallel()
-                        .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
-                        .collect(Collectors.toSet());
-
-                for (Path classFilePath : classFilePaths) {
-                    final Path sourceFilePath = retrieveSourceFilePathForClassFile(classFilePath, moduleChangedSourceFiles,
-                            module);
-                    final long classFileModificationTime = Files.getLastModifiedTime(classFilePath).toMillis();
-                    if (sourceFilePath != null) {
-                        if (Files.notExists(sourceFilePath)) {
-                            // Source file has been deleted. Delete class and restart
+            final Set<Path> journaledChanges = journal == null ? null : journal.drainChanges(moduleClassesPath);
+            final Set<Path> classFilePaths;
+            if (journaledChanges != null) {
+                classFilePaths = new HashSet<>();
+                for (Path path : journaledChanges) {
+                    if (path.toString().endsWith(CLASS_EXTENSION) && Files.isRegularFile(path)) {
+                        classFilePaths.add(path);
+                    }
+                }
+                // the class files of modified or deleted sources
+                for (Map.Entry<Path, Path> entry : classFilePathToSourceFilePath.entrySet()) {
+                    if ((moduleChangedSourceFiles.contains(entry.getValue())
+                            || moduleDeletedSourceFiles.contains(entry.getValue())) && Files.exists(entry.getKey())) {
+                        classFilePaths.add(entry.getKey());
+                    }
+                }
+            } else {
+                try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
+                    classFilePaths = classesStream
+                            .parallel()
+                            .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
+                            .collect(Collectors.toSet());
+                }
+            }
+
+            for (Path classFilePath : classFilePaths) {
+                final Path sourceFilePath = retrieveSourceFilePathForClassFile(classFilePath, moduleChangedSourceFiles,
+                        module);
+                final long classFileModificationTime = Files.getLastModifiedTime(classFilePath).toMillis();
+                if (sourceFilePath != null) {
+                    if (Files.notExists(sourceFilePath)) {
+                        // Source file has been deleted. Delete class and restart
+                        Files.deleteIfExists(classFilePath);
+                        classFilePathToSourceFilePath.remove(classFilePath);
+                        hasChanges = true;
+                    } else {
+                        classFilePathToSourceFilePath.put(classFilePath, sourceFilePath);
+                        if (classFileModificationTime > lastChange) {
+                            // At least one class was recently modified. Restart.
+                            hasChanges = true;
+                        } else if (moduleChangedSourceFiles.contains(sourceFilePath)) {
+                            // Source file has been modified, we delete the .class files as they are going to
+                            //be recompiled anyway, this allows for simple cleanup of inner classes
                             Files.deleteIfExists(classFilePath);
                             classFilePathToSourceFilePath.remove(classFilePath);
                             hasChanges = true;
-                        } else {
-                            classFilePathToSourceFilePath.put(classFilePath, sourceFilePath);
-                            if (classFileModificationTime > lastChange) {
-                                // At least one class was recently modified. Restart.
-                                hasChanges = true;
-                            } else if (moduleChangedSourceFiles.contains(sourceFilePath)) {
-                                // Source file has been modified, we delete the .class files as they are going to
-                                //be recompiled anyway, this allows for simple cleanup of inner classes
-                                Files.deleteIfExists(classFilePath);
-                                classFilePathToSourceFilePath.remove(classFilePath);
-                                hasChanges = true;
-                            }
                         }
-                    } else if (classFileModificationTime > lastChange) {
-                        hasChanges = true;
                     }
+                } else if (classFileModificationTime > lastChange) {
+                    hasChanges = true;
                 }
             }
         } catch (IOException e) {
@@ -356,4 +411,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         }
     }
 
+    @Override
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
 }
@@ -0,0 +1,200 @@
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The events are passed to the journal by the test instead of a background watcher, and the settle period is measured
+ * with a fake clock, so that the results do not depend on the timing of the platform watch service.
+ */
+public class FileChangeJournalTestCase {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final TestClock clock = new TestClock();
+    private Path root;
+    private Path other;
+    private FileChangeJournal journal;
+
+    @Before
+    public void setup() throws IOException {
+        root = Files.createDirectory(folder.getRoot().toPath().toRealPath().resolve("src"));
+        other = Files.createDirectory(root.resolveSibling("classes"));
+        journal = new FileChangeJournal(Arrays.asList(root, other), FileSystems.getDefault().newWatchService(), clock,
+                watcher -> {
+                });
+        // the first drain asks for a full scan
+        assertNull(journal.drainChanges(root));
+        assertNull(journal.drainChanges(other));
+        assertTrue(journal.drainChanges(root).isEmpty());
+        assertEquals(0, clock.slept);
+    }
+
+    @After
+    public void close() {
+        journal.close();
+    }
+
+    @Test
+    public void testCreateModifyDelete() {
+        Path created = root.resolve("Created.java");
+        event(root, ENTRY_CREATE, created);
+        assertEquals(Collections.singleton(created), journal.drainChanges(root));
+
+        Path existing = root.resolve("Existing.java");
+        event(root, ENTRY_MODIFY, existing);
+        assertEquals(Collections.singleton(existing), journal.drainChanges(root));
+
+        event(root, ENTRY_DELETE, created);
+        assertEquals(Collections.singleton(created), journal.drainChanges(root));
+
+        assertTrue(journal.drainChanges(root).isEmpty());
+    }
+
+    @Test
+    public void testNoSettleWithoutEvents() {
+        journal.requeue(root, Collections.singleton(root.resolve("Failed.java")));
+        journal.drainChanges(root);
+        journal.drainChanges(other);
+        assertEquals(0, clock.slept);
+    }
+
+    @Test
+    public void testSettleOncePerScan() {
+        clock.now += MILLIS;
+        event(root, ENTRY_MODIFY, root.resolve("Modified.java"));
+        clock.now += 5 * MILLIS;
+        journal.drainChanges(root);
+        // quiet for the settle period since the event
+        assertEquals(FileChangeJournal.SETTLE_NANOS - 5 * MILLIS, clock.slept);
+
+        journal.drainChanges(other);
+        assertEquals(FileChangeJournal.SETTLE_NANOS - 5 * MILLIS, clock.slept);
+
+        // a new event after the drains
+        clock.slept = 0;
+        clock.now += MILLIS;
+        event(other, ENTRY_MODIFY, other.resolve("Modified.class"));
+        assertEquals(Collections.singleton(other.resolve("Modified.class")), journal.drainChanges(other));
+        assertEquals(FileChangeJournal.SETTLE_NANOS, clock.slept);
+    }
+
+    @Test
+    public void testMaxSettle() {
+        Path modified = root.resolve("Modified.java");
+        clock.now += MILLIS;
+        event(root, ENTRY_MODIFY, modified);
+        // the watcher never settles
+        clock.onSleep = () -> event(root, ENTRY_MODIFY, modified);
+        assertEquals(Collections.singleton(modified), journal.drainChanges(root));
+        assertEquals(FileChangeJournal.MAX_SETTLE_NANOS, clock.slept);
+    }
+
+    @Test
+    public void testNewDirectory() throws IOException {
+        // the directory is created before its event is processed
+        Path directory = Files.createDirectories(root.resolve("org/acme"));
+        Path created = Files.write(directory.resolve("Created.java"), bytes("class Created {}"));
+        event(root, ENTRY_CREATE, root.resolve("org"));
+        Set<Path> changes = journal.drainChanges(root);
+        assertTrue(changes.toString(), changes.contains(created));
+    }
+
+    @Test
+    public void testOverflow() {
+        event(root, OVERFLOW, null);
+        assertNull(journal.drainChanges(root));
+        assertTrue(journal.drainChanges(other).isEmpty());
+        assertTrue(journal.drainChanges(root).isEmpty());
+    }
+
+    @Test
+    public void testRequeue() {
+        Path failed = root.resolve("Failed.java");
+        journal.requeue(root, Collections.singleton(failed));
+        assertEquals(Collections.singleton(failed), journal.drainChanges(root));
+        assertTrue(journal.drainChanges(root).isEmpty());
+    }
+
+    private void event(Path directory, WatchEvent.Kind<?> kind, Path file) {
+        journal.onEvents(directory,
+                Collections.singletonList(new TestEvent(kind, file == null ? null : directory.relativize(file))));
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class TestClock implements FileChangeJournal.Clock {
+
+        long now;
+        long slept;
+        Runnable onSleep;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleep(long nanos) {
+            now += nanos;
+            slept += nanos;
+            if (onSleep != null) {
+                onSleep.run();
+            }
+        }
+    }
+
+    private static final class TestEvent implements WatchEvent<Object> {
+
+        private final Kind<?> kind;
+        private final Path context;
+
+        TestEvent(Kind<?> kind, Path context) {
+            this.kind = kind;
+            this.context = context;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Kind<Object> kind() {
+            return (Kind<Object>) kind;
+        }
+
+        @Override
+        public int count() {
+            return 1;
+        }
+
+        @Override
+        public Object context() {
+            return context;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkus.runtime;
+
+import org.jboss.logging.Logger;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+/**
+ * Periodically adjusts the maximum size of the pool from the time the tasks wait in the queue, so that the pool size
+ * does not have to be tuned per application.
+ * <p>
+ * The ratio of the observed queue wait to the target queue wait is a gradient, as in concurrency limit algorithms: above
+ * 1, the pool grows proportionally; well below 1, it shrinks towards the observed concurrency. A growth that does not
+ * increase the throughput is reverted, as the tasks are then limited by another resource, e.g. a database, and more
+ * threads would only add contention.
+ *
+ * @see ThreadPoolConfig.AdaptiveConfig
+ */
+final class AdaptivePoolSizer implements Runnable {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
+
+    // The throughput increase expected from a growth
+    private static final double THROUGHPUT_TOLERANCE = 0.05;
+    // The number of intervals without growth after a reverted growth
+    private static final int COOLDOWN_INTERVALS = 10;
+
+    private final InstrumentedExecutor executor;
+    private final int minThreads;
+    private final int maxThreads;
+    private final double targetQueueWaitNanos;
+
+    private long lastNanoTime;
+    private long lastStartedTasks;
+    private long lastCompletedTasks;
+    private long lastTotalQueueWaitNanos;
+
+    private double lastThroughput;
+    // The size before the last growth, or -1 if the last adjustment was not a growth
+    private int sizeBeforeGrowth = -1;
+    private int cooldown;
+
+    AdaptivePoolSizer(InstrumentedExecutor executor, int minThreads, int maxThreads, long targetQueueWaitNanos) {
+        this.executor = executor;
+        this.minThreads = Math.max(1, minThreads);
+        this.maxThreads = Math.max(this.minThreads, maxThreads);
+        this.targetQueueWaitNanos = Math.max(1, targetQueueWaitNanos);
+        this.lastNanoTime = System.nanoTime();
+        this.lastStartedTasks = executor.getStartedTasks();
+        this.lastCompletedTasks = executor.getCompletedTasks();
+        this.lastTotalQueueWaitNanos = executor.getTotalQueueWaitNanos();
+    }
+
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+        long startedTasks = executor.getStartedTasks();
+        long completedTasks = executor.getCompletedTasks();
+        long totalQueueWaitNanos = executor.getTotalQueueWaitNanos();
+
+        long started = startedTasks - lastStartedTasks;
+        double averageQueueWaitNanos = started > 0 ? (double) (totalQueueWaitNanos - lastTotalQueueWaitNanos) / started : 0;
+        double throughput = (completedTasks - lastCompletedTasks) * 1_000_000_000d / Math.max(1, now - lastNanoTime);
+
+        lastNanoTime = now;
+        lastStartedTasks = startedTasks;
+        lastCompletedTasks = completedTasks;
+        lastTotalQueueWaitNanos = totalQueueWaitNanos;
+
+        EnhancedQueueExecutor pool = executor.getPool();
+        int current = pool.getMaximumPoolSize();
+        int next = nextMaximumPoolSize(current, averageQueueWaitNanos, throughput, executor.getQueueSize(),
+                executor.resetPeakActiveThreads());
+        if (next != current) {
+            log.debugf("Resizing the executor from %d to %d threads: average queue wait %.3f ms, %.1f tasks/s", current,
+                    next, averageQueueWaitNanos / 1_000_000, throughput);
+            pool.setMaximumPoolSize(next);
+        }
+    }
+
+    /**
+     * @param current the current maximum pool size
+     * @param averageQueueWaitNanos the average queue wait of the tasks started during the last interval
+     * @param throughput the number of tasks completed per second during the last interval
+     * @param queueSize the number of tasks waiting for a thread
+     * @param peakActiveThreads the largest number of threads executing a task during the last interval
+     * @return the next maximum pool size
+     */
+    int nextMaximumPoolSize(int current, double averageQueueWaitNanos, double throughput, int queueSize,
+            int peakActiveThreads) {
+        double gradient = averageQueueWaitNanos / targetQueueWaitNanos;
+        int next = current;
+        if (sizeBeforeGrowth >= 0 && throughput <= lastThroughput * (1 + THROUGHPUT_TOLERANCE)) {
+            // The last growth did not pay off
+            next = sizeBeforeGrowth;
+            cooldown = COOLDOWN_INTERVALS;
+        } else if (gradient > 1 && (queueSize > 0 || peakActiveThreads >= current)) {
+            if (cooldown > 0) {
+                cooldown--;
+            } else {
+                next = current + Math.max(1, (int) (current * Math.min(1, (gradient - 1) / 2)));
+            }
+        } else if (gradient < 0.5) {
+            // Keep some headroom above the observed concurrency
+            int needed = peakActiveThreads + (int) Math.ceil(Math.sqrt(peakActiveThreads));
+            if (needed < current) {
+                next = current - Math.max(1, (current - needed) / 2);
+            }
+            cooldown = 0;
+        }
+        next = Math.min(maxThreads, Math.max(minThreads, next));
+        sizeBeforeGrowth = next > current ? current : -1;
+        lastThroughput = throughput;
+        return next;
+    }
+
+}
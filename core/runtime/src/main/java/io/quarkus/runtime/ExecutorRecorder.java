@@ -4,6 +4,9 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
@@ -31,10 +34,21 @@ public class ExecutorRecorder {
      */
     static CleanableExecutor devModeExecutor;
 
+    /**
+     * The virtual thread executor, kept for the life of the app in dev mode like {@link #devModeExecutor}
+     */
+    static ExecutorService devModeVirtualThreadExecutor;
+
     public ExecutorService setupRunTime(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
             LaunchMode launchMode) {
+        if (threadPoolConfig.virtualThreads) {
+            ExecutorService virtualThreadExecutor = setupVirtualThreads(shutdownContext, threadPoolConfig, launchMode);
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+        }
         if (devModeExecutor != null) {
-            return devModeExecutor;
+            return instrument(shutdownContext, threadPoolConfig, devModeExecutor, devModeExecutor.getExecutor());
         }
         final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig);
         ExecutorService executor;
@@ -53,9 +67,88 @@ public class ExecutorRecorder {
             shutdownContext.addShutdownTask(shutdownTask);
             executor = underlying;
         }
+        return instrument(shutdownContext, threadPoolConfig, executor, underlying);
+    }
+
+    private static ExecutorService setupVirtualThreads(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
+            LaunchMode launchMode) {
+        if (devModeVirtualThreadExecutor != null) {
+            return devModeVirtualThreadExecutor;
+        }
+        final ExecutorService executor = createVirtualThreadExecutor();
+        if (executor == null) {
+            log.warn("Virtual threads are not supported by this JVM, the blocking tasks are executed on the thread pool");
+            return null;
+        }
+        Runnable shutdownTask = new Runnable() {
+            @Override
+            public void run() {
+                executor.shutdown();
+                try {
+                    if (!executor.awaitTermination(threadPoolConfig.shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        log.warn("Virtual thread executor shutdown failed: interrupting the running tasks");
+                        executor.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        if (launchMode == LaunchMode.DEVELOPMENT) {
+            devModeVirtualThreadExecutor = executor;
+            Runtime.getRuntime().addShutdownHook(new Thread(shutdownTask, "Executor shutdown thread"));
+        } else {
+            shutdownContext.addShutdownTask(shutdownTask);
+        }
         return executor;
     }
 
+    /**
+     * Looked up reflectively, as virtual threads are only available as of Java 21.
+     *
+     * @return a virtual-thread-per-task executor, or {@code null} if virtual threads are not supported
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // e.g. a preview feature which is not enabled
+            log.debug("Unable to create the virtual thread executor", e);
+            return null;
+        }
+    }
+
+    private static ExecutorService instrument(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
+            ExecutorService executor, EnhancedQueueExecutor underlying) {
+        if (!threadPoolConfig.enableMetrics && !threadPoolConfig.adaptive.enabled) {
+            return executor;
+        }
+        InstrumentedExecutor instrumented = new InstrumentedExecutor(executor, underlying);
+        if (threadPoolConfig.adaptive.enabled) {
+            AdaptivePoolSizer sizer = new AdaptivePoolSizer(instrumented, threadPoolConfig.coreThreads,
+                    maximumPoolSize(threadPoolConfig), threadPoolConfig.adaptive.targetQueueWait.toNanos());
+            ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "executor-pool-sizer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            long interval = threadPoolConfig.adaptive.interval.toMillis();
+            timer.scheduleAtFixedRate(sizer, interval, interval, TimeUnit.MILLISECONDS);
+            shutdownContext.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    timer.shutdownNow();
+                }
+            });
+        }
+        return instrumented;
+    }
+
     public static ExecutorService createDevModeExecutorForFailedStart(ThreadPoolConfig config) {
         EnhancedQueueExecutor underlying = createExecutor(config);
         Runnable task = createShutdownTask(config, underlying);
@@ -146,10 +239,9 @@ public class ExecutorRecorder {
                 .setRegisterMBean(false)
                 .setHandoffExecutor(JBossExecutors.rejectingExecutor())
                 .setThreadFactory(JBossExecutors.resettingThreadFactory(threadFactory));
-        final int cpus = ProcessorInfo.availableProcessors();
         // run time config variables
         builder.setCorePoolSize(threadPoolConfig.coreThreads);
-        builder.setMaximumPoolSize(threadPoolConfig.maxThreads.orElse(8 * cpus));
+        builder.setMaximumPoolSize(maximumPoolSize(threadPoolConfig));
         if (threadPoolConfig.queueSize.isPresent()) {
             if (threadPoolConfig.queueSize.getAsInt() < 0) {
                 builder.setMaximumQueueSize(Integer.MAX_VALUE);
@@ -162,4 +254,8 @@ public class ExecutorRecorder {
         return builder.build();
     }
 
+    private static int maximumPoolSize(ThreadPoolConfig threadPoolConfig) {
+        return threadPoolConfig.maxThreads.orElse(8 * ProcessorInfo.availableProcessors());
+    }
+
 }
@@ -0,0 +1,55 @@
+package io.quarkus.runtime;
+
+/**
+ * The statistics of the main executor, available if {@link ThreadPoolConfig#enableMetrics} or
+ * {@link ThreadPoolConfig.AdaptiveConfig#enabled} is set: the executor service then implements this interface.
+ */
+public interface ExecutorStatistics {
+
+    /**
+     * @return the current number of threads in the pool
+     */
+    int getPoolSize();
+
+    /**
+     * @return the current maximum number of threads, which changes over time in adaptive mode
+     */
+    int getMaximumPoolSize();
+
+    /**
+     * @return the number of threads executing a task
+     */
+    int getActiveThreads();
+
+    /**
+     * @return the number of threads executing a task which are blocked or waiting, e.g. on I/O locks or on a connection
+     *         pool
+     */
+    int getBlockedThreads();
+
+    /**
+     * @return the number of tasks waiting for a thread
+     */
+    int getQueueSize();
+
+    /**
+     * @return the number of tasks whose execution started
+     */
+    long getStartedTasks();
+
+    /**
+     * @return the number of tasks completed, successfully or not
+     */
+    long getCompletedTasks();
+
+    /**
+     * @return the number of tasks rejected, because the queue was full or the executor was shut down
+     */
+    long getRejectedTasks();
+
+    /**
+     * @return the total time the started tasks waited for a thread, in nanoseconds
+     */
+    long getTotalQueueWaitNanos();
+
+}
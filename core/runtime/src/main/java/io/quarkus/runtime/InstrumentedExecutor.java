@@ -0,0 +1,165 @@
+package io.quarkus.runtime;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+
+/**
+ * An executor recording how long the tasks wait for a thread, which threads are executing a task and the rejected tasks.
+ *
+ * @see ThreadPoolConfig#enableMetrics
+ */
+public final class InstrumentedExecutor extends AbstractExecutorService implements ExecutorStatistics {
+
+    private final ExecutorService delegate;
+    private final EnhancedQueueExecutor pool;
+
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+
+    private final Set<Thread> activeThreads = ConcurrentHashMap.newKeySet();
+    // The largest number of active threads since the last call to resetPeakActiveThreads()
+    private final AtomicInteger peakActiveThreads = new AtomicInteger();
+
+    /**
+     * @param delegate the executor the tasks are submitted to
+     * @param pool the pool executing the tasks, which may be the delegate itself
+     */
+    InstrumentedExecutor(ExecutorService delegate, EnhancedQueueExecutor pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    EnhancedQueueExecutor getPool() {
+        return pool;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long submitted = System.nanoTime();
+        try {
+            delegate.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Thread thread = Thread.currentThread();
+                    totalQueueWaitNanos.add(System.nanoTime() - submitted);
+                    startedTasks.increment();
+                    activeThreads.add(thread);
+                    int active = activeThreads.size();
+                    if (active > peakActiveThreads.get()) {
+                        peakActiveThreads.accumulateAndGet(active, Math::max);
+                    }
+                    try {
+                        command.run();
+                    } finally {
+                        activeThreads.remove(thread);
+                        completedTasks.increment();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the largest number of active threads since the previous call
+     */
+    int resetPeakActiveThreads() {
+        return peakActiveThreads.getAndSet(activeThreads.size());
+    }
+
+    @Override
+    public int getPoolSize() {
+        return pool.getPoolSize();
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        return pool.getMaximumPoolSize();
+    }
+
+    @Override
+    public int getActiveThreads() {
+        return activeThreads.size();
+    }
+
+    @Override
+    public int getBlockedThreads() {
+        int blocked = 0;
+        for (Thread thread : activeThreads) {
+            switch (thread.getState()) {
+                case BLOCKED:
+                case WAITING:
+                case TIMED_WAITING:
+                    blocked++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return blocked;
+    }
+
+    @Override
+    public int getQueueSize() {
+        return pool.getQueueSize();
+    }
+
+    @Override
+    public long getStartedTasks() {
+        return startedTasks.sum();
+    }
+
+    @Override
+    public long getCompletedTasks() {
+        return completedTasks.sum();
+    }
+
+    @Override
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    @Override
+    public long getTotalQueueWaitNanos() {
+        return totalQueueWaitNanos.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+}
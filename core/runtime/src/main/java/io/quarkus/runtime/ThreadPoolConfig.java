@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -75,4 +76,52 @@ public class ThreadPoolConfig {
     @ConfigItem(defaultValue = "30")
     public Duration keepAliveTime;
 
+    /**
+     * If enabled, the blocking tasks are executed on a new virtual thread each rather than on the thread pool, so that
+     * the number of threads is no longer an upper bound of the concurrency of I/O bound applications. The pool settings,
+     * the metrics and the adaptive sizing do not apply in this mode.
+     * <p>
+     * Virtual threads require Java 21 or later; the thread pool is used if they are not supported.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean virtualThreads;
+
+    /**
+     * Whether the executor records the time the tasks wait in the queue, the active and blocked threads and the rejected
+     * tasks. They are exposed as vendor metrics if the SmallRye Metrics extension is present.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enableMetrics;
+
+    /**
+     * The adaptive sizing of the thread pool.
+     */
+    @ConfigItem
+    public AdaptiveConfig adaptive;
+
+    @ConfigGroup
+    public static class AdaptiveConfig {
+
+        /**
+         * If enabled, the maximum number of threads is periodically adjusted between {@code core-threads} and
+         * {@code max-threads}, from the time the tasks wait in the queue and the throughput of the pool. This implies
+         * {@code enable-metrics}.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The interval between two adjustments of the pool size.
+         */
+        @ConfigItem(defaultValue = "1S")
+        public Duration interval;
+
+        /**
+         * The queue wait tolerated before the pool grows. The pool shrinks when the average queue wait is below half of
+         * it.
+         */
+        @ConfigItem(defaultValue = "0.01S")
+        public Duration targetQueueWait;
+    }
+
 }
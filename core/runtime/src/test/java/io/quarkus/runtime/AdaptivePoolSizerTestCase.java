@@ -0,0 +1,71 @@
+package io.quarkus.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptivePoolSizerTestCase {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private EnhancedQueueExecutor pool;
+    private AdaptivePoolSizer sizer;
+
+    @Before
+    public void setup() {
+        pool = new EnhancedQueueExecutor.Builder().build();
+        sizer = new AdaptivePoolSizer(new InstrumentedExecutor(pool, pool), 4, 64, TARGET);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testGrowsWhenTasksWaitLongerThanTarget() {
+        assertEquals(16, sizer.nextMaximumPoolSize(8, 3 * TARGET, 100, 5, 8));
+    }
+
+    @Test
+    public void testGrowsProportionallyToQueueWait() {
+        assertEquals(10, sizer.nextMaximumPoolSize(8, 1.5 * TARGET, 100, 5, 8));
+    }
+
+    @Test
+    public void testDoesNotGrowWhenThreadsAreAvailable() {
+        assertEquals(8, sizer.nextMaximumPoolSize(8, 3 * TARGET, 100, 0, 5));
+    }
+
+    @Test
+    public void testKeepsGrowingWhileThroughputIncreases() {
+        assertEquals(16, sizer.nextMaximumPoolSize(8, 3 * TARGET, 100, 5, 8));
+        assertEquals(32, sizer.nextMaximumPoolSize(16, 3 * TARGET, 150, 5, 16));
+    }
+
+    @Test
+    public void testRevertsGrowthWithoutThroughputIncrease() {
+        assertEquals(16, sizer.nextMaximumPoolSize(8, 3 * TARGET, 100, 5, 8));
+        assertEquals(8, sizer.nextMaximumPoolSize(16, 3 * TARGET, 102, 5, 16));
+        // Cooling down
+        assertEquals(8, sizer.nextMaximumPoolSize(8, 3 * TARGET, 100, 5, 8));
+    }
+
+    @Test
+    public void testShrinksTowardsObservedConcurrency() {
+        assertEquals(19, sizer.nextMaximumPoolSize(32, 0, 100, 0, 4));
+        assertEquals(13, sizer.nextMaximumPoolSize(19, 0, 100, 0, 4));
+    }
+
+    @Test
+    public void testStaysWithinBounds() {
+        assertEquals(64, sizer.nextMaximumPoolSize(64, 3 * TARGET, 100, 5, 64));
+        assertEquals(4, sizer.nextMaximumPoolSize(5, 0, 100, 0, 0));
+    }
+
+}
@@ -0,0 +1,120 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+/**
+ * Finds the constant query strings passed to the Panache operations of entities and repositories, such as
+ * {@code Person.find("name", name)}, so that their JPQL can be expanded at static init, and the class literals passed
+ * to {@code PanacheQuery.project()}, so that the select clauses of these projections can be computed at build time.
+ */
+final class PanacheQueryScanner {
+
+    private static final Set<String> QUERY_METHODS = new HashSet<>(
+            Arrays.asList("find", "list", "stream", "count", "delete"));
+
+    private static final String STRING_FIRST_PARAM = "(Ljava/lang/String;";
+
+    private static final String PANACHE_QUERY_BINARY_NAME = "io/quarkus/hibernate/orm/panache/PanacheQuery";
+    private static final String PROJECT_METHOD = "project";
+
+    /**
+     * The entity classes keyed by the binary names of the classes their operations may be invoked on, i.e. the
+     * entities themselves and their repositories.
+     */
+    private final Map<String, String> entityByOwner;
+
+    PanacheQueryScanner(Map<String, String> entityByOwner) {
+        this.entityByOwner = entityByOwner;
+    }
+
+    /**
+     * @param classBytes the bytecode of the class to scan
+     * @param queriesByEntity the map to add the query strings found to, keyed by entity class name
+     * @param projectionTypes the set to add the names of the projection classes found to
+     */
+    void scan(byte[] classBytes, Map<String, Set<String>> queriesByEntity, Set<String> projectionTypes) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(classBytes).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (!hasQueryInvocation(method)) {
+                continue;
+            }
+            Frame<SourceValue>[] frames;
+            try {
+                frames = new Analyzer<>(new SourceInterpreter()).analyze(classNode.name, method);
+            } catch (AnalyzerException e) {
+                // we will build the queries at runtime
+                continue;
+            }
+            AbstractInsnNode[] instructions = method.instructions.toArray();
+            for (int i = 0; i < instructions.length; i++) {
+                Frame<SourceValue> frame = frames[i];
+                if (frame == null || !isQueryInvocation(instructions[i])) {
+                    continue;
+                }
+                MethodInsnNode invocation = (MethodInsnNode) instructions[i];
+                // the query or the projection class is the first argument
+                int arguments = Type.getArgumentTypes(invocation.desc).length;
+                Object constant = getConstant(frame.getStack(frame.getStackSize() - arguments));
+                if (isProjection(invocation)) {
+                    if (constant instanceof Type && ((Type) constant).getSort() == Type.OBJECT) {
+                        projectionTypes.add(((Type) constant).getClassName());
+                    }
+                } else if (constant instanceof String) {
+                    queriesByEntity.computeIfAbsent(entityByOwner.get(invocation.owner), k -> new HashSet<>())
+                            .add((String) constant);
+                }
+            }
+        }
+    }
+
+    private boolean hasQueryInvocation(MethodNode method) {
+        for (AbstractInsnNode instruction = method.instructions.getFirst(); instruction != null; instruction = instruction
+                .getNext()) {
+            if (isQueryInvocation(instruction)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isQueryInvocation(AbstractInsnNode instruction) {
+        if (!(instruction instanceof MethodInsnNode)) {
+            return false;
+        }
+        MethodInsnNode invocation = (MethodInsnNode) instruction;
+        if (isProjection(invocation)) {
+            return true;
+        }
+        return QUERY_METHODS.contains(invocation.name) && invocation.desc.startsWith(STRING_FIRST_PARAM)
+                && entityByOwner.containsKey(invocation.owner);
+    }
+
+    private static boolean isProjection(MethodInsnNode invocation) {
+        return invocation.name.equals(PROJECT_METHOD) && invocation.owner.equals(PANACHE_QUERY_BINARY_NAME);
+    }
+
+    private static Object getConstant(SourceValue value) {
+        if (value.insns.size() != 1) {
+            return null;
+        }
+        AbstractInsnNode source = value.insns.iterator().next();
+        return source instanceof LdcInsnNode ? ((LdcInsnNode) source).cst : null;
+    }
+}
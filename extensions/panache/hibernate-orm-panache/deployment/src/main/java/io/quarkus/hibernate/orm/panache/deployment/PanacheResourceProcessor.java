@@ -1,8 +1,15 @@
 package io.quarkus.hibernate.orm.panache.deployment;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -10,21 +17,30 @@ import javax.persistence.EntityManager;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.orm.panache.runtime.PanacheHibernateRecorder;
 import io.quarkus.panache.common.deployment.EntityField;
 import io.quarkus.panache.common.deployment.EntityModel;
 import io.quarkus.panache.common.deployment.MetamodelInfo;
@@ -37,6 +53,9 @@ public final class PanacheResourceProcessor {
     static final DotName DOTNAME_PANACHE_ENTITY_BASE = DotName.createSimple(PanacheEntityBase.class.getName());
     private static final DotName DOTNAME_PANACHE_ENTITY = DotName.createSimple(PanacheEntity.class.getName());
 
+    // ACC_SYNTHETIC
+    private static final int SYNTHETIC = 0x1000;
+
     private static final Set<DotName> UNREMOVABLE_BEANS = Collections.singleton(
             DotName.createSimple(EntityManager.class.getName()));
 
@@ -71,34 +90,15 @@ public final class PanacheResourceProcessor {
             HibernateEnhancersRegisteredBuildItem hibernateMarker) throws Exception {
 
         PanacheJpaRepositoryEnhancer daoEnhancer = new PanacheJpaRepositoryEnhancer(index.getIndex());
-        Set<String> daoClasses = new HashSet<>();
-        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
-            // Skip PanacheRepository
-            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY))
-                continue;
-            daoClasses.add(classInfo.name().toString());
-        }
-        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY)) {
-            daoClasses.add(classInfo.name().toString());
-        }
-        for (String daoClass : daoClasses) {
-            transformers.produce(new BytecodeTransformerBuildItem(daoClass, daoEnhancer));
+        for (ClassInfo daoClass : getRepositoryClasses(index.getIndex())) {
+            transformers.produce(new BytecodeTransformerBuildItem(daoClass.name().toString(), daoEnhancer));
         }
 
         PanacheJpaEntityEnhancer modelEnhancer = new PanacheJpaEntityEnhancer(index.getIndex());
         Set<String> modelClasses = new HashSet<>();
-        // Note that we do this in two passes because for some reason Jandex does not give us subtypes
-        // of PanacheEntity if we ask for subtypes of PanacheEntityBase
-        for (ClassInfo classInfo : index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY_BASE)) {
-            // FIXME: should we really skip PanacheEntity or all MappedSuperClass?
-            if (classInfo.name().equals(DOTNAME_PANACHE_ENTITY))
-                continue;
-            if (modelClasses.add(classInfo.name().toString()))
-                modelEnhancer.collectFields(classInfo);
-        }
-        for (ClassInfo classInfo : index.getIndex().getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY)) {
-            if (modelClasses.add(classInfo.name().toString()))
-                modelEnhancer.collectFields(classInfo);
+        for (ClassInfo classInfo : getModelClasses(index.getIndex())) {
+            modelClasses.add(classInfo.name().toString());
+            modelEnhancer.collectFields(classInfo);
         }
         for (String modelClass : modelClasses) {
             transformers.produce(new BytecodeTransformerBuildItem(modelClass, modelEnhancer));
@@ -116,4 +116,127 @@ public final class PanacheResourceProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void precomputeQueries(PanacheHibernateRecorder recorder, CombinedIndexBuildItem index,
+            ApplicationIndexBuildItem applicationIndex, ApplicationArchivesBuildItem applicationArchives,
+            RecorderContext recorderContext, ShutdownContextBuildItem shutdown,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) throws IOException {
+        Map<String, String> entityByOwner = new HashMap<>();
+        for (ClassInfo modelClass : getModelClasses(index.getIndex())) {
+            entityByOwner.put(modelClass.name().toString().replace('.', '/'), modelClass.name().toString());
+        }
+        for (ClassInfo daoClass : getRepositoryClasses(index.getIndex())) {
+            for (Type interfaceType : daoClass.interfaceTypes()) {
+                if (interfaceType.kind() != Type.Kind.PARAMETERIZED_TYPE
+                        || (!interfaceType.name().equals(DOTNAME_PANACHE_REPOSITORY)
+                                && !interfaceType.name().equals(DOTNAME_PANACHE_REPOSITORY_BASE))) {
+                    continue;
+                }
+                Type entityType = interfaceType.asParameterizedType().arguments().get(0);
+                // Skip the generic repositories
+                if (entityType.kind() == Type.Kind.CLASS) {
+                    entityByOwner.put(daoClass.name().toString().replace('.', '/'), entityType.name().toString());
+                }
+            }
+        }
+
+        if (entityByOwner.isEmpty()) {
+            return;
+        }
+
+        // Look for the constant query strings in the application classes
+        PanacheQueryScanner scanner = new PanacheQueryScanner(entityByOwner);
+        Map<String, Set<String>> queriesByEntity = new HashMap<>();
+        Set<String> projectionTypes = new HashSet<>();
+        for (ClassInfo classInfo : applicationIndex.getIndex().getKnownClasses()) {
+            Path classFile = applicationArchives.getRootArchive()
+                    .getChildPath(classInfo.name().toString().replace('.', '/') + ".class");
+            if (classFile != null) {
+                scanner.scan(Files.readAllBytes(classFile), queriesByEntity, projectionTypes);
+            }
+        }
+
+        // The precomputed queries, select clauses and cached counts reference the application classes
+        recorder.clearCachesOnShutdown(shutdown);
+        // Repositories may manage entities which do not extend PanacheEntityBase
+        for (String entityClass : new HashSet<>(entityByOwner.values())) {
+            Set<String> queries = queriesByEntity.get(entityClass);
+            recorder.precomputeQueries(recorderContext.classProxy(entityClass),
+                    queries != null ? new ArrayList<>(queries) : new ArrayList<>());
+        }
+
+        for (String projectionType : projectionTypes) {
+            // Hibernate invokes the constructor reflectively
+            reflectiveClass.produce(new ReflectiveClassBuildItem(true, false, projectionType));
+            List<String> attributes = getProjectedAttributes(index.getIndex(), projectionType);
+            if (attributes != null) {
+                recorder.registerProjection(recorderContext.classProxy(projectionType), attributes);
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the parameters of the single constructor with parameters of the projection class, or null if
+     * they cannot be determined at build time, in which case the select clause is derived at runtime.
+     */
+    private static List<String> getProjectedAttributes(IndexView index, String projectionType) {
+        ClassInfo projectionClass = index.getClassByName(DotName.createSimple(projectionType));
+        if (projectionClass == null) {
+            return null;
+        }
+        MethodInfo constructor = null;
+        for (MethodInfo method : projectionClass.methods()) {
+            if (!method.name().equals("<init>") || method.parameters().isEmpty() || (method.flags() & SYNTHETIC) != 0) {
+                continue;
+            }
+            if (constructor != null) {
+                return null;
+            }
+            constructor = method;
+        }
+        if (constructor == null) {
+            return null;
+        }
+        List<String> attributes = new ArrayList<>(constructor.parameters().size());
+        for (int i = 0; i < constructor.parameters().size(); i++) {
+            String name = constructor.parameterName(i);
+            if (name == null) {
+                return null;
+            }
+            attributes.add(name);
+        }
+        return attributes;
+    }
+
+    private static Collection<ClassInfo> getRepositoryClasses(IndexView index) {
+        Map<DotName, ClassInfo> daoClasses = new HashMap<>();
+        for (ClassInfo classInfo : index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            // Skip PanacheRepository
+            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY))
+                continue;
+            daoClasses.put(classInfo.name(), classInfo);
+        }
+        for (ClassInfo classInfo : index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY)) {
+            daoClasses.put(classInfo.name(), classInfo);
+        }
+        return daoClasses.values();
+    }
+
+    private static Collection<ClassInfo> getModelClasses(IndexView index) {
+        Map<DotName, ClassInfo> modelClasses = new HashMap<>();
+        // Note that we do this in two passes because for some reason Jandex does not give us subtypes
+        // of PanacheEntity if we ask for subtypes of PanacheEntityBase
+        for (ClassInfo classInfo : index.getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY_BASE)) {
+            // FIXME: should we really skip PanacheEntity or all MappedSuperClass?
+            if (classInfo.name().equals(DOTNAME_PANACHE_ENTITY))
+                continue;
+            modelClasses.putIfAbsent(classInfo.name(), classInfo);
+        }
+        for (ClassInfo classInfo : index.getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY)) {
+            modelClasses.putIfAbsent(classInfo.name(), classInfo);
+        }
+        return modelClasses.values();
+    }
+
 }
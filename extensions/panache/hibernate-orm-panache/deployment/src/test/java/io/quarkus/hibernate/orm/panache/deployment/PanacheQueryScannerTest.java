@@ -0,0 +1,112 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+
+public class PanacheQueryScannerTest {
+
+    @Test
+    public void testConstantQueries() throws IOException {
+        Map<String, Set<String>> queriesByEntity = scan(QueryUser.class);
+
+        assertEquals(new HashSet<>(Arrays.asList("name", "status = ?1 and name = ?2", "order by name",
+                "from ScannedEntity where name = :name", "status")), queriesByEntity.get(ScannedEntity.class.getName()));
+        assertEquals(new HashSet<>(Arrays.asList("name", "count")), queriesByEntity.get(OtherEntity.class.getName()));
+        assertEquals(2, queriesByEntity.size());
+    }
+
+    @Test
+    public void testNoQueries() throws IOException {
+        assertTrue(scan(PanacheQueryScannerTest.class).isEmpty());
+    }
+
+    @Test
+    public void testProjectionTypes() throws IOException {
+        Set<String> projectionTypes = new HashSet<>();
+        scan(QueryUser.class, projectionTypes);
+        assertEquals(Collections.singleton(NameProjection.class.getName()), projectionTypes);
+    }
+
+    private static Map<String, Set<String>> scan(Class<?> scannedClass) throws IOException {
+        return scan(scannedClass, new HashSet<>());
+    }
+
+    private static Map<String, Set<String>> scan(Class<?> scannedClass, Set<String> projectionTypes) throws IOException {
+        Map<String, String> entityByOwner = new HashMap<>();
+        entityByOwner.put(binaryName(ScannedEntity.class), ScannedEntity.class.getName());
+        entityByOwner.put(binaryName(OtherEntity.class), OtherEntity.class.getName());
+        entityByOwner.put(binaryName(OtherEntityRepository.class), OtherEntity.class.getName());
+        Map<String, Set<String>> queriesByEntity = new HashMap<>();
+        new PanacheQueryScanner(entityByOwner).scan(
+                IoUtil.readClassAsBytes(scannedClass.getClassLoader(), scannedClass.getName()),
+                queriesByEntity, projectionTypes);
+        return queriesByEntity;
+    }
+
+    private static String binaryName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    public static class ScannedEntity extends PanacheEntity {
+        public String name;
+        public String status;
+    }
+
+    public static class OtherEntity extends PanacheEntity {
+        public String name;
+        public long count;
+    }
+
+    public static class OtherEntityRepository implements PanacheRepository<OtherEntity> {
+    }
+
+    public static class NameProjection {
+        public final String name;
+
+        public NameProjection(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class QueryUser {
+
+        void constantQueries(OtherEntityRepository repository, String name, String status) {
+            ScannedEntity.find("name", name);
+            ScannedEntity.list("status = ?1 and name = ?2", status, name);
+            ScannedEntity.stream("order by name");
+            ScannedEntity.find("from ScannedEntity where name = :name", Sort.by("name"),
+                    Parameters.with("name", name));
+            ScannedEntity.count("status", status);
+            ScannedEntity.delete("status", status);
+            repository.list("name", name);
+            repository.count("count", 1L);
+            ScannedEntity.findAll().project(NameProjection.class);
+        }
+
+        void dynamicQueries(OtherEntityRepository repository, String query, boolean byName, Class<?> projectionType) {
+            // built at runtime, not precomputed
+            ScannedEntity.find(query);
+            ScannedEntity.list("name = " + query);
+            repository.delete(byName ? "name" : "count", query);
+            repository.listAll();
+            ScannedEntity.findAll().project(projectionType);
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package io.quarkus.hibernate.orm.panache.test;
+
+public class PersonSummary {
+
+    // declared in another order than the constructor parameters
+    public final int age;
+    public final String name;
+
+    public PersonSummary(String name, int age) {
+        this.name = name;
+        this.age = age;
+    }
+}
@@ -0,0 +1,14 @@
+package io.quarkus.hibernate.orm.panache.test;
+
+import javax.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class ProjectedPerson extends PanacheEntity {
+
+    public String name;
+    public int age;
+    public String email;
+
+}
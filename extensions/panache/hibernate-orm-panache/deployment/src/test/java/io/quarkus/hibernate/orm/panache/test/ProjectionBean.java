@@ -0,0 +1,62 @@
+package io.quarkus.hibernate.orm.panache.test;
+
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.transaction.Transactional;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Sort;
+
+@ApplicationScoped
+public class ProjectionBean {
+
+    @Transactional
+    public void createPersons() {
+        for (int i = 0; i < 7; i++) {
+            ProjectedPerson person = new ProjectedPerson();
+            person.name = "person" + i;
+            person.age = 20 + i;
+            person.email = person.name + "@example.com";
+            person.persist();
+        }
+    }
+
+    @Transactional
+    public long countPersons() {
+        return ProjectedPerson.count();
+    }
+
+    @Transactional
+    public List<PersonSummary> firstPage() {
+        return ProjectedPerson.find("ORDER BY name").project(PersonSummary.class).page(0, 3).list();
+    }
+
+    @Transactional
+    public PersonSummary secondPage() {
+        return ProjectedPerson.find("ORDER BY name").project(PersonSummary.class).page(0, 3).nextPage()
+                .firstResult();
+    }
+
+    @Transactional
+    public long count() {
+        return ProjectedPerson.find("age > ?1 ORDER BY name", 22).project(PersonSummary.class).count();
+    }
+
+    @Transactional
+    public List<PersonSummary> keysetBeforeProjection() {
+        return ProjectedPerson.findAll(Sort.by("name")).after("person4").project(PersonSummary.class).list();
+    }
+
+    @Transactional
+    public List<PersonSummary> keysetAfterProjection() {
+        return ProjectedPerson.findAll(Sort.by("name")).project(PersonSummary.class).after("person4").list();
+    }
+
+    @Transactional
+    public void projectTwice() {
+        PanacheQuery<PersonSummary> summaries = ProjectedPerson.findAll().project(PersonSummary.class);
+        summaries.project(PersonSummary.class);
+    }
+
+}
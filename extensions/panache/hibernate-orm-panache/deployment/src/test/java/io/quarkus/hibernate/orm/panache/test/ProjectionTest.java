@@ -0,0 +1,73 @@
+package io.quarkus.hibernate.orm.panache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * The select clause of {@link PersonSummary} is computed at build time: the test classes are not compiled with
+ * {@code -parameters}, so it could not be derived at runtime.
+ */
+public class ProjectionTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ProjectedPerson.class, PersonSummary.class, ProjectionBean.class)
+                    .addAsResource("application.properties"));
+
+    @Inject
+    ProjectionBean bean;
+
+    @BeforeEach
+    public void createPersons() {
+        if (bean.countPersons() == 0) {
+            bean.createPersons();
+        }
+    }
+
+    @Test
+    public void testPaging() {
+        List<PersonSummary> summaries = bean.firstPage();
+        assertEquals(3, summaries.size());
+        assertEquals("person0", summaries.get(0).name);
+        assertEquals(20, summaries.get(0).age);
+        assertEquals("person2", summaries.get(2).name);
+        assertEquals(22, summaries.get(2).age);
+        assertEquals("person3", bean.secondPage().name);
+    }
+
+    @Test
+    public void testCount() {
+        assertEquals(4, bean.count());
+    }
+
+    @Test
+    public void testKeyset() {
+        assertLastTwo(bean.keysetBeforeProjection());
+        assertLastTwo(bean.keysetAfterProjection());
+    }
+
+    @Test
+    public void testProjectTwice() {
+        assertThrows(IllegalStateException.class, bean::projectTwice);
+    }
+
+    private static void assertLastTwo(List<PersonSummary> summaries) {
+        assertEquals(2, summaries.size());
+        assertEquals("person5", summaries.get(0).name);
+        assertEquals(26, summaries.get(1).age);
+    }
+
+}
@@ -677,4 +677,74 @@ public abstract class PanacheEntityBase {
     public static void persist(Object firstEntity, Object... entities) {
         JpaOperations.persist(firstEntity, entities);
     }
+
+    /**
+     * Persist all given entities in batches: the persistence context is flushed and cleared after each batch, so that
+     * it does not grow with the number of entities. The batch size is the configured
+     * <code>quarkus.hibernate-orm.jdbc.statement-batch-size</code>, or 50 if it is not set, and the inserts of each batch
+     * are grouped into JDBC batches.
+     * <p>
+     * Clearing the persistence context detaches all the managed entities, including the ones loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @see #persist(Iterable)
+     * @see #persistInBatches(Iterable, int)
+     * @see #persistInBatches(Stream)
+     */
+    public static void persistInBatches(Iterable<?> entities) {
+        JpaOperations.persistInBatches(entities);
+    }
+
+    /**
+     * Persist all given entities in batches of the given size: the persistence context is flushed and cleared after
+     * each batch, so that it does not grow with the number of entities, and the inserts of each batch are grouped into
+     * JDBC batches.
+     * <p>
+     * Clearing the persistence context detaches all the managed entities, including the ones loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes, or 0 to use the configured
+     *        <code>quarkus.hibernate-orm.jdbc.statement-batch-size</code>
+     * @see #persist(Iterable)
+     * @see #persistInBatches(Iterable)
+     * @see #persistInBatches(Stream, int)
+     */
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        JpaOperations.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities in batches: the persistence context is flushed and cleared after each batch, so that
+     * it does not grow with the number of entities. The batch size is the configured
+     * <code>quarkus.hibernate-orm.jdbc.statement-batch-size</code>, or 50 if it is not set, and the inserts of each batch
+     * are grouped into JDBC batches.
+     * <p>
+     * Clearing the persistence context detaches all the managed entities, including the ones loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @see #persist(Stream)
+     * @see #persistInBatches(Stream, int)
+     * @see #persistInBatches(Iterable)
+     */
+    public static void persistInBatches(Stream<?> entities) {
+        JpaOperations.persistInBatches(entities);
+    }
+
+    /**
+     * Persist all given entities in batches of the given size: the persistence context is flushed and cleared after
+     * each batch, so that it does not grow with the number of entities, and the inserts of each batch are grouped into
+     * JDBC batches.
+     * <p>
+     * Clearing the persistence context detaches all the managed entities, including the ones loaded before this call.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted between two flushes, or 0 to use the configured
+     *        <code>quarkus.hibernate-orm.jdbc.statement-batch-size</code>
+     * @see #persist(Stream)
+     * @see #persistInBatches(Stream)
+     * @see #persistInBatches(Iterable, int)
+     */
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        JpaOperations.persistInBatches(entities, batchSize);
+    }
 }
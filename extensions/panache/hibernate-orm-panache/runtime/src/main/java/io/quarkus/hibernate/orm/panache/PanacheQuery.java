@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -79,6 +80,41 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> lastPage();
 
+    /**
+     * Switches to keyset pagination: only the entities sorted after the given values of the sort columns are read,
+     * starting from the first of them. Unlike {@link #page(Page)}, the database does not need to read and skip the
+     * entities of the previous pages, so reading a page costs the same whatever its position.
+     * <p>
+     * The query must have been created with a {@link io.quarkus.panache.common.Sort} whose columns identify the entities
+     * uniquely, such as a sort ending with the id, and the values are typically the ones of the last entity of the
+     * previous page. The current page size is kept, and {@link #count()}, {@link #pageCount()} and
+     * {@link #hasNextPage()} then apply to the entities after the given values.
+     * 
+     * @param sortKeyValues the values of the sort columns, in the order of the sort
+     * @return this query, modified
+     * @throws IllegalStateException if the query was created without a sort
+     * @throws IllegalArgumentException if the number of values does not match the number of sort columns
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... sortKeyValues);
+
+    /**
+     * Defines a projection of this query: instead of the entities, only the entity attributes needed to construct the
+     * given type are selected, and its instances are returned. They are neither managed nor dirty-checked.
+     * <p>
+     * The type must have a single constructor with parameters, whose names are the names of the selected entity
+     * attributes, such as {@code PersonName(String name, Status status)}. The select clause is computed at build time
+     * when the class literal is passed directly to this method, otherwise the parameter names must be available at
+     * runtime (see the <code>-parameters</code> compiler option).
+     * <p>
+     * The paging information of this query is kept.
+     *
+     * @param type the projection class
+     * @return a new query returning instances of the projection class
+     * @throws IllegalStateException if this query already has a select clause
+     * @throws IllegalArgumentException if the select clause cannot be derived from the projection class
+     */
+    public <T> PanacheQuery<T> project(Class<T> type);
+
     /**
      * Returns true if there is another page to read after the current one.
      * This will cause reading of the entity count.
@@ -114,6 +150,20 @@ public interface PanacheQuery<Entity> {
      */
     public Page page();
 
+    /**
+     * Shares the entity count between the queries equivalent to this one for the given duration, instead of reading it
+     * for each query instance. This is useful when paging through large tables, as long as an approximate count is
+     * acceptable.
+     * <p>
+     * The count is only shared when the query parameters are plain values, such as strings, numbers, enums, dates or
+     * collections of them.
+     * 
+     * @param maxAge how long a count read from the database may be reused
+     * @return this query, modified
+     * @see #count()
+     */
+    public <T extends Entity> PanacheQuery<T> cacheCount(Duration maxAge);
+
     // Results
 
     /**
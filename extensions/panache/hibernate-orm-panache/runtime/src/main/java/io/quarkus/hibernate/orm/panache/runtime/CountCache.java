@@ -0,0 +1,161 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * The entity counts shared by the queries whose count may be reused for some time.
+ * <p>
+ * The counts are keyed by the count query and the values of its parameters, which are copied so that the cache does
+ * not hold the parameters of the queries. Only plain values are supported: the count of a query with another parameter,
+ * such as an entity, is not cached.
+ *
+ * @see io.quarkus.hibernate.orm.panache.PanacheQuery#cacheCount(Duration)
+ */
+final class CountCache {
+
+    static final int MAX_ENTRIES = 1024;
+
+    // The immutable parameter types which may be part of a key
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Instant.class, LocalDate.class, LocalTime.class,
+            LocalDateTime.class, OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class, Duration.class));
+
+    private static final Object NOT_A_VALUE = new Object();
+
+    // In access order, so that the least recently used count is evicted first
+    private static final Map<List<Object>, Entry> COUNTS = new LinkedHashMap<List<Object>, Entry>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private CountCache() {
+    }
+
+    /**
+     * @param countQuery the count query
+     * @param paramsArrayOrMap the parameters of the query
+     * @param sortKeyValues the keyset parameters of the query, or null
+     * @return the key of the count, or null if it cannot be cached
+     */
+    @SuppressWarnings("unchecked")
+    static Object key(String countQuery, Object paramsArrayOrMap, Object[] sortKeyValues) {
+        List<Object> key = new ArrayList<>(3);
+        key.add(countQuery);
+        if (paramsArrayOrMap instanceof Map) {
+            // sorted by name so that the keys do not depend on the iteration order of the map
+            Map<String, Object> values = new TreeMap<>();
+            for (Map.Entry<String, Object> param : ((Map<String, Object>) paramsArrayOrMap).entrySet()) {
+                Object value = copyValue(param.getValue());
+                if (value == NOT_A_VALUE) {
+                    return null;
+                }
+                values.put(param.getKey(), value);
+            }
+            key.add(values);
+        } else if (paramsArrayOrMap != null) {
+            List<Object> values = copyValues((Object[]) paramsArrayOrMap);
+            if (values == null) {
+                return null;
+            }
+            key.add(values);
+        }
+        if (sortKeyValues != null) {
+            List<Object> values = copyValues(sortKeyValues);
+            if (values == null) {
+                return null;
+            }
+            key.add(values);
+        }
+        return key;
+    }
+
+    private static List<Object> copyValues(Object[] params) {
+        List<Object> values = new ArrayList<>(params.length);
+        for (Object param : params) {
+            Object value = copyValue(param);
+            if (value == NOT_A_VALUE) {
+                return null;
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * @return the parameter if it is an immutable value, a copy of it if it is a collection of such values, or
+     *         {@link #NOT_A_VALUE}
+     */
+    private static Object copyValue(Object param) {
+        if (param == null || param instanceof Enum || VALUE_TYPES.contains(param.getClass())) {
+            return param;
+        }
+        if (param instanceof Collection) {
+            // the parameters of an IN clause
+            List<Object> values = copyValues(((Collection<?>) param).toArray());
+            return values != null ? values : NOT_A_VALUE;
+        }
+        return NOT_A_VALUE;
+    }
+
+    static Long get(Object key, Duration maxAge) {
+        Entry entry;
+        synchronized (COUNTS) {
+            entry = COUNTS.get(key);
+        }
+        if (entry == null || System.nanoTime() - entry.timestamp > maxAge.toNanos()) {
+            return null;
+        }
+        return entry.count;
+    }
+
+    @SuppressWarnings("unchecked")
+    static void put(Object key, long count) {
+        synchronized (COUNTS) {
+            COUNTS.put((List<Object>) key, new Entry(count));
+        }
+    }
+
+    /**
+     * Forgets the counts, whose keys may reference application classes such as enums, when the application stops.
+     */
+    static void clear() {
+        synchronized (COUNTS) {
+            COUNTS.clear();
+        }
+    }
+
+    private static final class Entry {
+
+        final long count;
+        final long timestamp = System.nanoTime();
+
+        Entry(long count) {
+            this.count = count;
+        }
+    }
+}
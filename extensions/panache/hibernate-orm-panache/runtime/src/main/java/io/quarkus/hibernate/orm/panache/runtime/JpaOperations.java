@@ -1,8 +1,11 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
@@ -11,6 +14,9 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Parameters;
@@ -18,6 +24,12 @@ import io.quarkus.panache.common.Sort;
 
 public class JpaOperations {
 
+    // The number of entities persisted between two flushes when no JDBC batch size is configured
+    static final int DEFAULT_PERSIST_BATCH_SIZE = 50;
+
+    // The queries of each entity expanded at static init, see precomputeQueries()
+    private static final Map<Class<?>, EntityQueries> ENTITY_QUERIES = new ConcurrentHashMap<>();
+
     //
     // Instance methods
 
@@ -52,6 +64,76 @@ public class JpaOperations {
         entities.forEach(entity -> persist(em, entity));
     }
 
+    public static void persistInBatches(Iterable<?> entities) {
+        persistInBatches(entities.iterator(), 0);
+    }
+
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    public static void persistInBatches(Stream<?> entities) {
+        persistInBatches(entities.iterator(), 0);
+    }
+
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        persistInBatches(entities.iterator(), batchSize);
+    }
+
+    private static void persistInBatches(Iterator<?> entities, int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("The batch size must not be negative: " + batchSize);
+        }
+        EntityManager em = getEntityManager();
+        if (batchSize == 0) {
+            batchSize = getConfiguredBatchSize(em);
+        }
+        Session session = em.unwrap(Session.class);
+        Integer sessionBatchSize = session.getJdbcBatchSize();
+        // group the inserts of each flush into JDBC batches even if batching is not enabled globally
+        session.setJdbcBatchSize(batchSize);
+        try {
+            int pending = 0;
+            while (entities.hasNext()) {
+                persist(em, entities.next());
+                if (++pending == batchSize) {
+                    // write the batch and release it from the first-level cache
+                    em.flush();
+                    em.clear();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                em.flush();
+                em.clear();
+            }
+        } finally {
+            session.setJdbcBatchSize(sessionBatchSize);
+        }
+    }
+
+    private static int getConfiguredBatchSize(EntityManager em) {
+        return toBatchSize(em.getEntityManagerFactory().getProperties().get(AvailableSettings.STATEMENT_BATCH_SIZE));
+    }
+
+    /**
+     * @param batchSize the configured JDBC batch size, or null
+     * @return the configured batch size if it is a positive number, the default batch size otherwise
+     */
+    static int toBatchSize(Object batchSize) {
+        if (batchSize != null) {
+            try {
+                int value = Integer.parseInt(batchSize.toString().trim());
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // not a valid batch size, use the default one
+            }
+        }
+        return DEFAULT_PERSIST_BATCH_SIZE;
+    }
+
     public static void delete(Object entity) {
         EntityManager em = getEntityManager();
         em.remove(entity);
@@ -176,7 +258,70 @@ public class JpaOperations {
         return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
-    private static String toOrderBy(Sort sort) {
+    static String findQuery(Class<?> entityClass, String query, int paramCount) {
+        ExpandedQuery expanded = getExpandedQuery(entityClass, query);
+        if (expanded != null)
+            return paramCount == 1 ? expanded.findWithOneParam : expanded.find;
+        return createFindQuery(entityClass, query, paramCount);
+    }
+
+    static String countQuery(Class<?> entityClass, String query, int paramCount) {
+        ExpandedQuery expanded = getExpandedQuery(entityClass, query);
+        if (expanded != null)
+            return paramCount == 1 ? expanded.countWithOneParam : expanded.count;
+        return createCountQuery(entityClass, query, paramCount);
+    }
+
+    static String deleteQuery(Class<?> entityClass, String query, int paramCount) {
+        ExpandedQuery expanded = getExpandedQuery(entityClass, query);
+        if (expanded != null)
+            return paramCount == 1 ? expanded.deleteWithOneParam : expanded.delete;
+        return createDeleteQuery(entityClass, query, paramCount);
+    }
+
+    static String findAllQuery(Class<?> entityClass) {
+        EntityQueries entityQueries = ENTITY_QUERIES.get(entityClass);
+        return entityQueries != null ? entityQueries.findAll : "FROM " + getEntityName(entityClass);
+    }
+
+    static String countAllQuery(Class<?> entityClass) {
+        EntityQueries entityQueries = ENTITY_QUERIES.get(entityClass);
+        return entityQueries != null ? entityQueries.countAll : "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+    }
+
+    static String deleteAllQuery(Class<?> entityClass) {
+        EntityQueries entityQueries = ENTITY_QUERIES.get(entityClass);
+        return entityQueries != null ? entityQueries.deleteAll : "DELETE FROM " + getEntityName(entityClass);
+    }
+
+    private static ExpandedQuery getExpandedQuery(Class<?> entityClass, String query) {
+        if (query == null)
+            return null;
+        EntityQueries entityQueries = ENTITY_QUERIES.get(entityClass);
+        return entityQueries != null ? entityQueries.queries.get(query) : null;
+    }
+
+    /**
+     * Expands the JPQL of the given entity and of its constant query strings once and for all. The operations called
+     * with one of these query strings then pass the same JPQL string instance to the entity manager, without building
+     * it again.
+     * 
+     * @param entityClass the entity class
+     * @param queries the constant query strings passed to the operations of the entity, as found in the application
+     *        bytecode at build time
+     */
+    public static void precomputeQueries(Class<?> entityClass, List<String> queries) {
+        ENTITY_QUERIES.put(entityClass, new EntityQueries(entityClass, queries));
+    }
+
+    /**
+     * Forgets the precomputed queries, which reference the entity classes, when the application stops.
+     */
+    public static void clearPrecomputedQueries() {
+        ENTITY_QUERIES.clear();
+    }
+
+    static String toOrderBy(Sort sort) {
         StringBuilder sb = new StringBuilder(" ORDER BY ");
         for (int i = 0; i < sort.getColumns().size(); i++) {
             Sort.Column column = sort.getColumns().get(i);
@@ -202,12 +347,12 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        String findQuery = findQuery(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
         Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, findQuery, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -216,12 +361,12 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        String findQuery = findQuery(entityClass, query, paramCount(params));
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
         Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, findQuery, sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Parameters params) {
@@ -282,17 +427,17 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> findAll(Class<?> entityClass) {
-        String query = "FROM " + getEntityName(entityClass);
+        String query = findAllQuery(entityClass);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(query), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(query), query, null, null);
     }
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> findAll(Class<?> entityClass, Sort sort) {
-        String query = "FROM " + getEntityName(entityClass);
+        String query = findAllQuery(entityClass);
         String sortedQuery = query + toOrderBy(sort);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, sort, null);
     }
 
     public static List<?> listAll(Class<?> entityClass) {
@@ -312,16 +457,16 @@ public class JpaOperations {
     }
 
     public static long count(Class<?> entityClass) {
-        return (long) getEntityManager().createQuery("SELECT COUNT(*) FROM " + getEntityName(entityClass)).getSingleResult();
+        return (long) getEntityManager().createQuery(countAllQuery(entityClass)).getSingleResult();
     }
 
     public static long count(Class<?> entityClass, String query, Object... params) {
-        return (long) bindParameters(getEntityManager().createQuery(createCountQuery(entityClass, query, paramCount(params))),
+        return (long) bindParameters(getEntityManager().createQuery(countQuery(entityClass, query, paramCount(params))),
                 params).getSingleResult();
     }
 
     public static long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        return (long) bindParameters(getEntityManager().createQuery(createCountQuery(entityClass, query, paramCount(params))),
+        return (long) bindParameters(getEntityManager().createQuery(countQuery(entityClass, query, paramCount(params))),
                 params).getSingleResult();
     }
 
@@ -330,16 +475,16 @@ public class JpaOperations {
     }
 
     public static long deleteAll(Class<?> entityClass) {
-        return (long) getEntityManager().createQuery("DELETE FROM " + getEntityName(entityClass)).executeUpdate();
+        return (long) getEntityManager().createQuery(deleteAllQuery(entityClass)).executeUpdate();
     }
 
     public static long delete(Class<?> entityClass, String query, Object... params) {
-        return bindParameters(getEntityManager().createQuery(createDeleteQuery(entityClass, query, paramCount(params))), params)
+        return bindParameters(getEntityManager().createQuery(deleteQuery(entityClass, query, paramCount(params))), params)
                 .executeUpdate();
     }
 
     public static long delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        return bindParameters(getEntityManager().createQuery(createDeleteQuery(entityClass, query, paramCount(params))), params)
+        return bindParameters(getEntityManager().createQuery(deleteQuery(entityClass, query, paramCount(params))), params)
                 .executeUpdate();
     }
 
@@ -372,4 +517,41 @@ public class JpaOperations {
         }
     }
 
+    private static final class EntityQueries {
+
+        final String findAll;
+        final String countAll;
+        final String deleteAll;
+        final Map<String, ExpandedQuery> queries = new HashMap<>();
+
+        EntityQueries(Class<?> entityClass, List<String> queries) {
+            this.findAll = "FROM " + getEntityName(entityClass);
+            this.countAll = "SELECT COUNT(*) FROM " + getEntityName(entityClass);
+            this.deleteAll = "DELETE FROM " + getEntityName(entityClass);
+            for (String query : queries) {
+                this.queries.put(query, new ExpandedQuery(entityClass, query));
+            }
+        }
+    }
+
+    private static final class ExpandedQuery {
+
+        // the shorthand form "field" only expands to "field = ?1" with exactly one parameter
+        final String find;
+        final String findWithOneParam;
+        final String count;
+        final String countWithOneParam;
+        final String delete;
+        final String deleteWithOneParam;
+
+        ExpandedQuery(Class<?> entityClass, String query) {
+            this.find = createFindQuery(entityClass, query, 0);
+            this.findWithOneParam = createFindQuery(entityClass, query, 1);
+            this.count = createCountQuery(entityClass, query, 0);
+            this.countWithOneParam = createCountQuery(entityClass, query, 1);
+            this.delete = createDeleteQuery(entityClass, query, 0);
+            this.deleteWithOneParam = createDeleteQuery(entityClass, query, 1);
+        }
+    }
+
 }
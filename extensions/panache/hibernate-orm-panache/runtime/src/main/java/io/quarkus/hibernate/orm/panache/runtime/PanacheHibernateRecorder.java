@@ -0,0 +1,25 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class PanacheHibernateRecorder {
+
+    public void precomputeQueries(Class<?> entityClass, List<String> queries) {
+        JpaOperations.precomputeQueries(entityClass, queries);
+    }
+
+    public void clearCachesOnShutdown(ShutdownContext shutdown) {
+        shutdown.addShutdownTask(JpaOperations::clearPrecomputedQueries);
+        shutdown.addShutdownTask(ProjectionQueries::clear);
+        shutdown.addShutdownTask(CountCache::clear);
+    }
+
+    public void registerProjection(Class<?> type, List<String> attributes) {
+        ProjectionQueries.register(type, attributes);
+    }
+
+}
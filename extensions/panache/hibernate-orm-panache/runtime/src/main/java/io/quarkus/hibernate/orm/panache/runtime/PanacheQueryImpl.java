@@ -1,5 +1,7 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -9,12 +11,21 @@ import javax.persistence.Query;
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
+    private static final String KEYSET_PARAMETER_PREFIX = "panacheKeyset";
+
     private Query jpaQuery;
     private Object paramsArrayOrMap;
     private String query;
+    private Sort sort;
+    private Object[] sortKeyValues;
+    // The query restricted to the entities after the sort key values, without the order by, see after()
+    private String keysetQuery;
+    // The select clause of the projection, if any, which is not part of the query so that it can be counted
+    private String selectClause;
     private EntityManager em;
 
     /*
@@ -23,11 +34,14 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
      */
     private Page page;
     private Long count;
+    private Duration countMaxAge;
 
-    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, Object paramsArrayOrMap) {
+    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, Sort sort,
+            Object paramsArrayOrMap) {
         this.em = em;
         this.jpaQuery = jpaQuery;
         this.query = query;
+        this.sort = sort;
         this.paramsArrayOrMap = paramsArrayOrMap;
         page = new Page(0, Integer.MAX_VALUE);
     }
@@ -67,6 +81,64 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page(page.index(pageCount() - 1));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> after(Object... sortKeyValues) {
+        if (sort == null)
+            throw new IllegalStateException("Keyset pagination requires a query created with a Sort");
+        List<Sort.Column> columns = sort.getColumns();
+        if (sortKeyValues.length != columns.size())
+            throw new IllegalArgumentException("Expected " + columns.size() + " sort key values but got "
+                    + sortKeyValues.length + ": " + Arrays.toString(sortKeyValues));
+
+        // The parameters of the keyset predicate follow the ones of the query
+        boolean named = paramsArrayOrMap instanceof Map;
+        int firstPosition = firstKeysetPosition();
+        String[] keyParameters = new String[columns.size()];
+        for (int i = 0; i < keyParameters.length; i++) {
+            keyParameters[i] = named ? ":" + KEYSET_PARAMETER_PREFIX + i : "?" + (firstPosition + i);
+        }
+
+        // (k1 > ?) OR (k1 = ? AND k2 > ?) ... which unlike a row value comparison supports mixed directions
+        // and all the databases
+        StringBuilder predicate = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                predicate.append(" OR ");
+            predicate.append('(');
+            for (int j = 0; j < i; j++) {
+                predicate.append(columns.get(j).getName()).append(" = ").append(keyParameters[j]).append(" AND ");
+            }
+            Sort.Column column = columns.get(i);
+            predicate.append(column.getName())
+                    .append(column.getDirection() == Sort.Direction.Descending ? " < " : " > ")
+                    .append(keyParameters[i]).append(')');
+        }
+
+        this.sortKeyValues = sortKeyValues;
+        keysetQuery = withPredicate(withoutOrderBy(query), predicate.toString());
+        jpaQuery = em.createQuery(withSelectClause(keysetQuery + JpaOperations.toOrderBy(sort)));
+        bindParameters(jpaQuery);
+        count = null;
+        return page(page.first());
+    }
+
+    @Override
+    public <T> PanacheQuery<T> project(Class<T> type) {
+        if (selectClause != null || query.trim().toLowerCase().startsWith("select "))
+            throw new IllegalStateException("Cannot project a query which already has a select clause: " + query);
+        PanacheQueryImpl<T> projection = new PanacheQueryImpl<>(em, null, query, sort, paramsArrayOrMap);
+        projection.selectClause = ProjectionQueries.getSelectClause(type);
+        projection.jpaQuery = em.createQuery(
+                projection.withSelectClause(sort != null ? query + JpaOperations.toOrderBy(sort) : query), type);
+        projection.bindParameters(projection.jpaQuery);
+        projection.countMaxAge = countMaxAge;
+        if (sortKeyValues != null)
+            projection.after(sortKeyValues);
+        projection.page(page);
+        return projection;
+    }
+
     @Override
     public boolean hasNextPage() {
         return page.index < (pageCount() - 1);
@@ -90,27 +162,84 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> cacheCount(Duration maxAge) {
+        this.countMaxAge = maxAge;
+        return (PanacheQuery<T>) this;
+    }
+
     // Results
 
     @Override
     @SuppressWarnings("unchecked")
     public long count() {
         if (count == null) {
-            // FIXME: this is crude but good enough for a first version
-            String lcQuery = query.toLowerCase();
-            int orderByIndex = lcQuery.lastIndexOf(" order by ");
-            if (orderByIndex != -1)
-                query = query.substring(0, orderByIndex);
-            Query countQuery = em.createQuery("SELECT COUNT(*) " + query);
-            if (paramsArrayOrMap instanceof Map)
-                JpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
-            else
-                JpaOperations.bindParameters(countQuery, (Object[]) paramsArrayOrMap);
+            String countQueryString = "SELECT COUNT(*) " + (keysetQuery != null ? keysetQuery : withoutOrderBy(query));
+            Object cacheKey = null;
+            if (countMaxAge != null) {
+                cacheKey = CountCache.key(countQueryString, paramsArrayOrMap, sortKeyValues);
+                if (cacheKey != null) {
+                    count = CountCache.get(cacheKey, countMaxAge);
+                    if (count != null)
+                        return count;
+                }
+            }
+            Query countQuery = em.createQuery(countQueryString);
+            bindParameters(countQuery);
             count = (Long) countQuery.getSingleResult();
+            if (cacheKey != null)
+                CountCache.put(cacheKey, count);
         }
         return count;
     }
 
+    private String withSelectClause(String query) {
+        return selectClause != null ? selectClause + " " + query : query;
+    }
+
+    private static String withoutOrderBy(String query) {
+        // FIXME: this is crude but good enough for a first version
+        int orderByIndex = query.toLowerCase().lastIndexOf(" order by ");
+        return orderByIndex != -1 ? query.substring(0, orderByIndex) : query;
+    }
+
+    /**
+     * Adds the given predicate to the where clause of the query, which must not have an order by.
+     */
+    private static String withPredicate(String query, String predicate) {
+        int whereIndex = query.toLowerCase().indexOf(" where ");
+        if (whereIndex == -1)
+            return query + " WHERE " + predicate;
+        return query.substring(0, whereIndex) + " WHERE (" + query.substring(whereIndex + 7) + ") AND (" + predicate
+                + ")";
+    }
+
+    /**
+     * Binds the parameters of the query, and the sort key values if {@link #after(Object...)} was called.
+     */
+    @SuppressWarnings("unchecked")
+    private void bindParameters(Query query) {
+        if (paramsArrayOrMap instanceof Map)
+            JpaOperations.bindParameters(query, (Map<String, Object>) paramsArrayOrMap);
+        else
+            JpaOperations.bindParameters(query, (Object[]) paramsArrayOrMap);
+        if (sortKeyValues == null)
+            return;
+        boolean named = paramsArrayOrMap instanceof Map;
+        int firstPosition = firstKeysetPosition();
+        for (int i = 0; i < sortKeyValues.length; i++) {
+            if (named)
+                query.setParameter(KEYSET_PARAMETER_PREFIX + i, sortKeyValues[i]);
+            else
+                query.setParameter(firstPosition + i, sortKeyValues[i]);
+        }
+    }
+
+    private int firstKeysetPosition() {
+        return paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length + 1 : 1;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
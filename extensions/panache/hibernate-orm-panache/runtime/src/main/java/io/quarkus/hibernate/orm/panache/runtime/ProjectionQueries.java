@@ -0,0 +1,66 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The select clauses of the projection classes, see {@link io.quarkus.hibernate.orm.panache.PanacheQuery#project(Class)}.
+ * They are registered at static init for the projection classes found at build time, and derived by reflection for the
+ * other ones, which requires the parameter names to be available at runtime.
+ */
+final class ProjectionQueries {
+
+    private static final Map<Class<?>, String> SELECT_CLAUSES = new ConcurrentHashMap<>();
+
+    private ProjectionQueries() {
+    }
+
+    static void register(Class<?> type, List<String> attributes) {
+        SELECT_CLAUSES.put(type, createSelectClause(type, attributes));
+    }
+
+    static String getSelectClause(Class<?> type) {
+        return SELECT_CLAUSES.computeIfAbsent(type, ProjectionQueries::deriveSelectClause);
+    }
+
+    /**
+     * Forgets the select clauses, which reference the projection classes, when the application stops.
+     */
+    static void clear() {
+        SELECT_CLAUSES.clear();
+    }
+
+    private static String createSelectClause(Class<?> type, List<String> attributes) {
+        return "SELECT new " + type.getName() + "(" + String.join(", ", attributes) + ")";
+    }
+
+    private static String deriveSelectClause(Class<?> type) {
+        Constructor<?> constructor = null;
+        for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+            if (candidate.getParameterCount() == 0 || candidate.isSynthetic())
+                continue;
+            if (constructor != null)
+                throw new IllegalArgumentException(
+                        "Projection class " + type.getName() + " must have a single constructor with parameters");
+            constructor = candidate;
+        }
+        if (constructor == null)
+            throw new IllegalArgumentException(
+                    "Projection class " + type.getName() + " must have a constructor with parameters");
+
+        Parameter[] parameters = constructor.getParameters();
+        if (!parameters[0].isNamePresent())
+            throw new IllegalArgumentException("Cannot derive the attributes selected for projection class "
+                    + type.getName() + ": pass its class literal to PanacheQuery.project() or compile it with"
+                    + " -parameters");
+        List<String> attributes = new ArrayList<>(parameters.length);
+        for (Parameter parameter : parameters) {
+            attributes.add(parameter.getName());
+        }
+        return createSelectClause(type, attributes);
+    }
+}
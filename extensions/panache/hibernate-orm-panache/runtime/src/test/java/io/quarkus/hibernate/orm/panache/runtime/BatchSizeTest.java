@@ -0,0 +1,24 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchSizeTest {
+
+    @Test
+    public void testConfiguredBatchSize() {
+        assertEquals(30, JpaOperations.toBatchSize("30"));
+        assertEquals(30, JpaOperations.toBatchSize(" 30 "));
+        assertEquals(30, JpaOperations.toBatchSize(30));
+    }
+
+    @Test
+    public void testDefaultBatchSize() {
+        assertEquals(JpaOperations.DEFAULT_PERSIST_BATCH_SIZE, JpaOperations.toBatchSize(null));
+        assertEquals(JpaOperations.DEFAULT_PERSIST_BATCH_SIZE, JpaOperations.toBatchSize("0"));
+        assertEquals(JpaOperations.DEFAULT_PERSIST_BATCH_SIZE, JpaOperations.toBatchSize("-5"));
+        assertEquals(JpaOperations.DEFAULT_PERSIST_BATCH_SIZE, JpaOperations.toBatchSize("fifty"));
+        assertEquals(JpaOperations.DEFAULT_PERSIST_BATCH_SIZE, JpaOperations.toBatchSize(""));
+    }
+}
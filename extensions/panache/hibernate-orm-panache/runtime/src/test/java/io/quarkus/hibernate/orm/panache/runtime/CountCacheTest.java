@@ -0,0 +1,107 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class CountCacheTest {
+
+    private static final String QUERY = "SELECT COUNT(*) FROM Person WHERE name = ?1 AND status = ?2";
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    @AfterEach
+    public void clear() {
+        CountCache.clear();
+    }
+
+    @Test
+    public void testKeyOnValues() {
+        Object[] params = { "stef", Status.ALIVE };
+        Object key = CountCache.key(QUERY, params, null);
+        CountCache.put(key, 3);
+
+        // the key is a copy of the values
+        params[0] = "other";
+        assertEquals(3L, CountCache.get(CountCache.key(QUERY, new Object[] { "stef", Status.ALIVE }, null), MAX_AGE));
+        assertNull(CountCache.get(CountCache.key(QUERY, params, null), MAX_AGE));
+        assertNull(CountCache.get(CountCache.key("SELECT COUNT(*) FROM Person", null, null), MAX_AGE));
+    }
+
+    @Test
+    public void testNamedParameters() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "stef");
+        params.put("birth", LocalDate.of(2019, 9, 1));
+        params.put("ids", new ArrayList<>(Arrays.asList(1L, 2L)));
+        CountCache.put(CountCache.key(QUERY, params, null), 2);
+
+        Map<String, Object> sameParams = new LinkedHashMap<>();
+        sameParams.put("ids", Arrays.asList(1L, 2L));
+        sameParams.put("birth", LocalDate.of(2019, 9, 1));
+        sameParams.put("name", "stef");
+        assertEquals(2L, CountCache.get(CountCache.key(QUERY, sameParams, null), MAX_AGE));
+    }
+
+    @Test
+    public void testKeysetValues() {
+        Object[] params = { "stef", Status.ALIVE };
+        assertNotEquals(CountCache.key(QUERY, params, new Object[] { "a" }),
+                CountCache.key(QUERY, params, new Object[] { "b" }));
+        assertNotEquals(CountCache.key(QUERY, params, null), CountCache.key(QUERY, params, new Object[] { "a" }));
+    }
+
+    @Test
+    public void testOtherParametersAreNotCached() {
+        assertNull(CountCache.key(QUERY, new Object[] { new Object(), Status.ALIVE }, null));
+        assertNull(CountCache.key(QUERY, new Object[] { Arrays.asList(new Object()) }, null));
+        Map<String, Object> params = new HashMap<>();
+        params.put("person", new StringBuilder("stef"));
+        assertNull(CountCache.key(QUERY, params, null));
+        assertNull(CountCache.key(QUERY, null, new Object[] { new Object() }));
+    }
+
+    @Test
+    public void testBounded() {
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i <= CountCache.MAX_ENTRIES; i++) {
+            Object key = CountCache.key(QUERY, new Object[] { "name" + i, Status.ALIVE }, null);
+            keys.add(key);
+            CountCache.put(key, i);
+            if (i == 0) {
+                continue;
+            }
+            // keep the first one in use
+            assertNotNull(CountCache.get(keys.get(0), MAX_AGE));
+        }
+        // the least recently used one was evicted
+        assertNull(CountCache.get(keys.get(1), MAX_AGE));
+        assertEquals(0L, CountCache.get(keys.get(0), MAX_AGE));
+        assertEquals((long) CountCache.MAX_ENTRIES, CountCache.get(keys.get(CountCache.MAX_ENTRIES), MAX_AGE));
+    }
+
+    @Test
+    public void testClear() {
+        Object key = CountCache.key(QUERY, new Object[] { "stef", Status.ALIVE }, null);
+        CountCache.put(key, 3);
+        CountCache.clear();
+        assertNull(CountCache.get(key, MAX_AGE));
+    }
+
+    enum Status {
+        ALIVE
+    }
+
+}
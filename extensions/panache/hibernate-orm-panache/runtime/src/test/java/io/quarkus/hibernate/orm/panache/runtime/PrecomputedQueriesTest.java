@@ -0,0 +1,90 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PrecomputedQueriesTest {
+
+    private static final List<String> QUERIES = Arrays.asList("name", "name = ?1", "  Name = :name ",
+            "status = ?1 and name = ?2", "order by name", "ORDER BY name desc", "from Person where name = ?1",
+            "select name from Person", "", " ");
+
+    @AfterEach
+    public void clear() {
+        JpaOperations.clearPrecomputedQueries();
+    }
+
+    @Test
+    public void testSameQueriesAsAtRuntime() {
+        String[] expected = buildQueries();
+        JpaOperations.precomputeQueries(Person.class, QUERIES);
+        String[] precomputed = buildQueries();
+        assertEquals(Arrays.asList(expected), Arrays.asList(precomputed));
+    }
+
+    @Test
+    public void testPrecomputedQueriesAreReused() {
+        JpaOperations.precomputeQueries(Person.class, QUERIES);
+        for (int paramCount = 0; paramCount < 3; paramCount++) {
+            for (String query : QUERIES) {
+                // a query string equal to the constant one, as the entity manager caches the plans by string
+                String copy = new String(query);
+                assertSame(JpaOperations.findQuery(Person.class, query, paramCount),
+                        JpaOperations.findQuery(Person.class, copy, paramCount));
+                assertSame(JpaOperations.countQuery(Person.class, query, paramCount),
+                        JpaOperations.countQuery(Person.class, copy, paramCount));
+                assertSame(JpaOperations.deleteQuery(Person.class, query, paramCount),
+                        JpaOperations.deleteQuery(Person.class, copy, paramCount));
+            }
+        }
+        assertSame(JpaOperations.findAllQuery(Person.class), JpaOperations.findAllQuery(Person.class));
+        assertSame(JpaOperations.countAllQuery(Person.class), JpaOperations.countAllQuery(Person.class));
+        assertSame(JpaOperations.deleteAllQuery(Person.class), JpaOperations.deleteAllQuery(Person.class));
+    }
+
+    @Test
+    public void testDynamicQueries() {
+        JpaOperations.precomputeQueries(Person.class, QUERIES);
+        assertEquals("FROM " + Person.class.getName() + " WHERE status = ?1",
+                JpaOperations.findQuery(Person.class, "status", 1));
+        assertNotSame(JpaOperations.findQuery(Person.class, "status", 1),
+                JpaOperations.findQuery(Person.class, "status", 1));
+        // another entity
+        assertNotSame(JpaOperations.findQuery(Object.class, "name", 1), JpaOperations.findQuery(Object.class, "name", 1));
+    }
+
+    @Test
+    public void testClear() {
+        JpaOperations.precomputeQueries(Person.class, QUERIES);
+        JpaOperations.clearPrecomputedQueries();
+        assertNotSame(JpaOperations.findQuery(Person.class, "name", 1), JpaOperations.findQuery(Person.class, "name", 1));
+        assertNotSame(JpaOperations.findAllQuery(Person.class), JpaOperations.findAllQuery(Person.class));
+    }
+
+    private static String[] buildQueries() {
+        String[] queries = new String[QUERIES.size() * 9 + 3];
+        int i = 0;
+        for (int paramCount = 0; paramCount < 3; paramCount++) {
+            for (String query : QUERIES) {
+                queries[i++] = JpaOperations.findQuery(Person.class, query, paramCount);
+                queries[i++] = JpaOperations.countQuery(Person.class, query, paramCount);
+                queries[i++] = JpaOperations.deleteQuery(Person.class, query, paramCount);
+            }
+        }
+        queries[i++] = JpaOperations.findAllQuery(Person.class);
+        queries[i++] = JpaOperations.countAllQuery(Person.class);
+        queries[i] = JpaOperations.deleteAllQuery(Person.class);
+        return queries;
+    }
+
+    static class Person {
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ProjectionQueriesTest {
+
+    @AfterEach
+    public void clear() {
+        ProjectionQueries.clear();
+    }
+
+    @Test
+    public void testRegisteredSelectClause() {
+        // registered at static init from the parameter names found in the index
+        ProjectionQueries.register(Summary.class, Arrays.asList("name", "age"));
+        assertEquals("SELECT new " + Summary.class.getName() + "(name, age)", ProjectionQueries.getSelectClause(Summary.class));
+    }
+
+    @Test
+    public void testDerivedSelectClause() throws NoSuchMethodException {
+        if (Summary.class.getDeclaredConstructor(String.class, int.class).getParameters()[0].isNamePresent()) {
+            assertEquals("SELECT new " + Summary.class.getName() + "(name, age)",
+                    ProjectionQueries.getSelectClause(Summary.class));
+        } else {
+            // the fields are not a reliable source of the parameter names
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> ProjectionQueries.getSelectClause(Summary.class));
+            assertTrue(e.getMessage().contains("-parameters"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidProjections() {
+        assertThrows(IllegalArgumentException.class, () -> ProjectionQueries.getSelectClause(NoParameters.class));
+        assertThrows(IllegalArgumentException.class, () -> ProjectionQueries.getSelectClause(TwoConstructors.class));
+    }
+
+    @Test
+    public void testClear() {
+        ProjectionQueries.register(NoParameters.class, Arrays.asList("name"));
+        assertEquals("SELECT new " + NoParameters.class.getName() + "(name)",
+                ProjectionQueries.getSelectClause(NoParameters.class));
+        ProjectionQueries.clear();
+        assertThrows(IllegalArgumentException.class, () -> ProjectionQueries.getSelectClause(NoParameters.class));
+    }
+
+    static class Summary {
+        // declared in another order than the constructor parameters
+        final int age;
+        final String name;
+
+        Summary(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    static class NoParameters {
+    }
+
+    static class TwoConstructors {
+        TwoConstructors(String name) {
+        }
+
+        TwoConstructors(String name, int age) {
+        }
+    }
+
+}
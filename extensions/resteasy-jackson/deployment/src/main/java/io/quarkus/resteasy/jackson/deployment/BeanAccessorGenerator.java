@@ -0,0 +1,352 @@
+package io.quarkus.resteasy.jackson.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
+import io.quarkus.resteasy.jackson.runtime.BeanAccessor;
+import io.quarkus.resteasy.jackson.runtime.MemberAccessor;
+
+/**
+ * Generates a {@link BeanAccessor} for the bean classes used by the JAX-RS resource methods, either as entities or
+ * returned, and for the bean classes reachable from their members.
+ * <p>
+ * Only the public concrete classes extending {@code Object} are considered. Their public fields, getters and setters
+ * are accessed directly, Jackson still decides at runtime which of them are properties.
+ */
+class BeanAccessorGenerator {
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+
+    private static final DotName[] METHOD_ANNOTATIONS = {
+            ResteasyDotNames.GET,
+            ResteasyDotNames.HEAD,
+            ResteasyDotNames.DELETE,
+            ResteasyDotNames.OPTIONS,
+            ResteasyDotNames.PATCH,
+            ResteasyDotNames.POST,
+            ResteasyDotNames.PUT,
+    };
+
+    private static final int SYNTHETIC = 0x1000;
+    private static final int BRIDGE = 0x0040;
+    private static final int ENUM = 0x4000;
+    private static final int ANNOTATION = 0x2000;
+
+    private static final Map<PrimitiveType.Primitive, Class<?>[]> PRIMITIVES = new HashMap<>();
+
+    static {
+        PRIMITIVES.put(PrimitiveType.Primitive.BOOLEAN, new Class<?>[] { boolean.class, Boolean.class });
+        PRIMITIVES.put(PrimitiveType.Primitive.BYTE, new Class<?>[] { byte.class, Byte.class });
+        PRIMITIVES.put(PrimitiveType.Primitive.CHAR, new Class<?>[] { char.class, Character.class });
+        PRIMITIVES.put(PrimitiveType.Primitive.DOUBLE, new Class<?>[] { double.class, Double.class });
+        PRIMITIVES.put(PrimitiveType.Primitive.FLOAT, new Class<?>[] { float.class, Float.class });
+        PRIMITIVES.put(PrimitiveType.Primitive.INT, new Class<?>[] { int.class, Integer.class });
+        PRIMITIVES.put(PrimitiveType.Primitive.LONG, new Class<?>[] { long.class, Long.class });
+        PRIMITIVES.put(PrimitiveType.Primitive.SHORT, new Class<?>[] { short.class, Short.class });
+    }
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Set<DotName> visited = new HashSet<>();
+    private final Map<DotName, List<Member>> beans = new LinkedHashMap<>();
+
+    BeanAccessorGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * @return the names of the bean classes for which an accessor was generated
+     */
+    Set<String> generate() {
+        for (DotName annotation : METHOD_ANNOTATIONS) {
+            for (AnnotationInstance instance : index.getAnnotations(annotation)) {
+                if (instance.target().kind() != AnnotationTarget.Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = instance.target().asMethod();
+                addTypes(method.returnType());
+                for (short i = 0; i < method.parameters().size(); i++) {
+                    if (isEntityParameter(method, i)) {
+                        addTypes(method.parameters().get(i));
+                    }
+                }
+            }
+        }
+
+        Set<String> generated = new HashSet<>();
+        for (Map.Entry<DotName, List<Member>> entry : beans.entrySet()) {
+            generateAccessor(index.getClassByName(entry.getKey()), entry.getValue());
+            generated.add(entry.getKey().toString());
+        }
+        return generated;
+    }
+
+    /**
+     * The entity parameter of a resource method is the one without annotations.
+     */
+    private static boolean isEntityParameter(MethodInfo method, short position) {
+        for (AnnotationInstance annotation : method.annotations()) {
+            AnnotationTarget target = annotation.target();
+            if (target != null && target.kind() == AnnotationTarget.Kind.METHOD_PARAMETER
+                    && target.asMethodParameter().position() == position) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addTypes(Type type) {
+        switch (type.kind()) {
+            case CLASS:
+                addClass(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                addClass(type.name());
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    addTypes(argument);
+                }
+                break;
+            case ARRAY:
+                addTypes(type.asArrayType().component());
+                break;
+            case WILDCARD_TYPE:
+                addTypes(type.asWildcardType().extendsBound());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addClass(DotName name) {
+        if (!visited.add(name) || ResteasyDotNames.TYPES_IGNORED_FOR_REFLECTION.contains(name)) {
+            return;
+        }
+        ClassInfo classInfo = index.getClassByName(name);
+        if (classInfo == null || !isBeanClass(classInfo)) {
+            return;
+        }
+        List<Member> members = collectMembers(classInfo);
+        if (members.isEmpty()) {
+            return;
+        }
+        beans.put(name, members);
+        for (Member member : members) {
+            addTypes(member.type);
+        }
+    }
+
+    private static boolean isBeanClass(ClassInfo classInfo) {
+        int flags = classInfo.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isInterface(flags) || Modifier.isAbstract(flags)
+                || (flags & (ENUM | ANNOTATION | SYNTHETIC)) != 0) {
+            return false;
+        }
+        if (classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL
+                && classInfo.nestingType() != ClassInfo.NestingType.INNER) {
+            return false;
+        }
+        // the inherited members would be declared by another class
+        return OBJECT.equals(classInfo.superName());
+    }
+
+    private static List<Member> collectMembers(ClassInfo classInfo) {
+        List<Member> members = new ArrayList<>();
+        for (FieldInfo field : classInfo.fields()) {
+            int flags = field.flags();
+            if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || (flags & SYNTHETIC) != 0
+                    || !isReadable(field.type())) {
+                continue;
+            }
+            members.add(new Member(MemberAccessor.fieldKey(field.name()), field, null, field.type(), true,
+                    !Modifier.isFinal(flags) && isWritable(field.type())));
+        }
+        Map<String, Integer> setterNames = new HashMap<>();
+        for (MethodInfo method : classInfo.methods()) {
+            if (isAccessible(method) && method.parameters().size() == 1) {
+                setterNames.merge(method.name(), 1, Integer::sum);
+            }
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            if (!isAccessible(method)) {
+                continue;
+            }
+            String name = method.name();
+            if (method.parameters().isEmpty() && method.returnType().kind() != Type.Kind.VOID
+                    && (name.startsWith("get") || name.startsWith("is")) && isReadable(method.returnType())) {
+                members.add(new Member(MemberAccessor.methodKey(name, 0), null, method, method.returnType(), true, false));
+            } else if (method.parameters().size() == 1 && name.startsWith("set") && setterNames.get(name) == 1
+                    && isWritable(method.parameters().get(0))) {
+                // the overloaded setters are left to Jackson, which picks one of them
+                members.add(new Member(MemberAccessor.methodKey(name, 1), null, method, method.parameters().get(0), false,
+                        true));
+            }
+        }
+        return members;
+    }
+
+    private static boolean isAccessible(MethodInfo method) {
+        int flags = method.flags();
+        return Modifier.isPublic(flags) && !Modifier.isStatic(flags) && (flags & (SYNTHETIC | BRIDGE)) == 0;
+    }
+
+    /**
+     * The type variables are not supported as their erasure would have to be resolved.
+     */
+    private static boolean isReadable(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case CLASS:
+            case PARAMETERIZED_TYPE:
+            case ARRAY:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isWritable(Type type) {
+        return type.kind() != Type.Kind.ARRAY && isReadable(type);
+    }
+
+    private void generateAccessor(ClassInfo classInfo, List<Member> members) {
+        String beanName = classInfo.name().toString();
+        String accessorName = beanName + BeanAccessor.CLASS_NAME_SUFFIX;
+        MethodInfo constructor = classInfo.method("<init>");
+        boolean instantiable = constructor != null && Modifier.isPublic(constructor.flags());
+
+        List<String> memberNames = new ArrayList<>();
+        for (Member member : members) {
+            String memberName = accessorName + "_" + memberNames.size();
+            generateMember(beanName, memberName, member);
+            memberNames.add(memberName);
+        }
+
+        try (ClassCreator cc = ClassCreator.builder().classOutput(classOutput).className(accessorName)
+                .superClass(BeanAccessor.class).build()) {
+            try (MethodCreator init = cc.getMethodCreator("<init>", void.class)) {
+                init.invokeSpecialMethod(MethodDescriptor.ofConstructor(BeanAccessor.class, Class.class, boolean.class),
+                        init.getThis(), init.loadClass(beanName), init.load(instantiable));
+                // the protected method is invoked on the generated class
+                MethodDescriptor addMember = MethodDescriptor.ofMethod(accessorName, "addMember", void.class,
+                        MemberAccessor.class);
+                for (String memberName : memberNames) {
+                    init.invokeVirtualMethod(addMember, init.getThis(),
+                            init.newInstance(MethodDescriptor.ofConstructor(memberName)));
+                }
+                init.returnValue(null);
+            }
+            try (MethodCreator newInstance = cc.getMethodCreator("newInstance", Object.class)) {
+                if (instantiable) {
+                    newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(beanName)));
+                } else {
+                    newInstance.throwException(UnsupportedOperationException.class,
+                            beanName + " has no public no-args constructor");
+                }
+            }
+        }
+    }
+
+    private void generateMember(String beanName, String memberName, Member member) {
+        try (ClassCreator cc = ClassCreator.builder().classOutput(classOutput).className(memberName)
+                .superClass(MemberAccessor.class).build()) {
+            try (MethodCreator init = cc.getMethodCreator("<init>", void.class)) {
+                init.invokeSpecialMethod(
+                        MethodDescriptor.ofConstructor(MemberAccessor.class, String.class, boolean.class, boolean.class),
+                        init.getThis(), init.load(member.key), init.load(member.readable), init.load(member.writable));
+                init.returnValue(null);
+            }
+            try (MethodCreator get = cc.getMethodCreator("get", Object.class, Object.class)) {
+                if (!member.readable) {
+                    get.throwException(UnsupportedOperationException.class,
+                            beanName + "." + member.key + " is not readable");
+                } else {
+                    ResultHandle bean = get.checkCast(get.getMethodParam(0), beanName);
+                    ResultHandle value;
+                    if (member.field != null) {
+                        value = get.readInstanceField(member.field, bean);
+                    } else {
+                        value = get.invokeVirtualMethod(member.method, bean);
+                    }
+                    get.returnValue(box(get, member.type, value));
+                }
+            }
+            try (MethodCreator set = cc.getMethodCreator("set", void.class, Object.class, Object.class)) {
+                if (!member.writable) {
+                    set.throwException(UnsupportedOperationException.class,
+                            beanName + "." + member.key + " is not writable");
+                } else {
+                    ResultHandle bean = set.checkCast(set.getMethodParam(0), beanName);
+                    ResultHandle value = unbox(set, member.type, set.getMethodParam(1));
+                    if (member.field != null) {
+                        set.writeInstanceField(member.field, bean, value);
+                    } else {
+                        set.invokeVirtualMethod(member.method, bean, value);
+                    }
+                    set.returnValue(null);
+                }
+            }
+        }
+    }
+
+    private static ResultHandle box(BytecodeCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return value;
+        }
+        Class<?>[] classes = PRIMITIVES.get(type.asPrimitiveType().primitive());
+        return creator.invokeStaticMethod(MethodDescriptor.ofMethod(classes[1], "valueOf", classes[1], classes[0]), value);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return creator.checkCast(value, type.name().toString());
+        }
+        Class<?>[] classes = PRIMITIVES.get(type.asPrimitiveType().primitive());
+        return creator.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(classes[1], classes[0].getName() + "Value", classes[0]),
+                creator.checkCast(value, classes[1]));
+    }
+
+    private static final class Member {
+
+        final String key;
+        final FieldInfo field;
+        final MethodInfo method;
+        final Type type;
+        final boolean readable;
+        final boolean writable;
+
+        Member(String key, FieldInfo field, MethodInfo method, Type type, boolean readable, boolean writable) {
+            this.key = key;
+            this.field = field;
+            this.method = method;
+            this.type = type;
+            this.readable = readable;
+            this.writable = writable;
+        }
+    }
+
+}
@@ -27,6 +27,8 @@ import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -40,7 +42,9 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.resteasy.common.deployment.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.jackson.runtime.BeanAccessor;
 import io.quarkus.resteasy.jackson.runtime.ObjectMapperProducer;
+import io.quarkus.resteasy.jackson.runtime.ResteasyJacksonRecorder;
 
 public class ResteasyJacksonProcessor {
 
@@ -130,6 +134,28 @@ public class ResteasyJacksonProcessor {
         return result;
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void generateBeanAccessors(ResteasyJacksonRecorder recorder, CombinedIndexBuildItem combinedIndexBuildItem,
+            BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        Set<String> beanClasses = new BeanAccessorGenerator(combinedIndexBuildItem.getIndex(), new ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                generatedClass.produce(new GeneratedClassBuildItem(true, name, data));
+            }
+        }).generate();
+        if (beanClasses.isEmpty()) {
+            return;
+        }
+        // the accessors are instantiated by BeanAccessorModule
+        for (String beanClass : beanClasses) {
+            reflectiveClass.produce(new ReflectiveClassBuildItem(true, false, false,
+                    beanClass + BeanAccessor.CLASS_NAME_SUFFIX));
+        }
+        recorder.registerBeanAccessors(beanClasses);
+    }
+
     // we generate a javax.ws.rs.ext.ContextResolver for ObjectMapper that pulls the ObjectMapper out of Arc
     // thus ensuring that the configured ObjectMapper bean is used (whether it's the default bean or the user supplied bean).
     // The reason we need to generate this class instead of just including it at runtime is to ensure that
@@ -0,0 +1,45 @@
+package io.quarkus.resteasy.jackson.test;
+
+public class AccessorBean {
+
+    private Long id;
+    private String name;
+    private boolean enabled;
+    private long version;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getNameLength() {
+        return name != null ? name.length() : 0;
+    }
+}
@@ -0,0 +1,23 @@
+package io.quarkus.resteasy.jackson.test;
+
+public class Address {
+
+    private String street;
+    private int number;
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+}
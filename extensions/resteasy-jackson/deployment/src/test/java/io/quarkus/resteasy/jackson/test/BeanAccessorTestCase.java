@@ -0,0 +1,120 @@
+package io.quarkus.resteasy.jackson.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import io.quarkus.resteasy.jackson.runtime.BeanAccessor;
+import io.quarkus.resteasy.jackson.runtime.BeanAccessorModule;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.http.ContentType;
+
+/**
+ * Round-trips beans through a resource, the JSON must be the one written by Jackson without the generated accessors.
+ */
+public class BeanAccessorTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BeanResource.class, FieldBean.class, Address.class, AccessorBean.class,
+                            InclusionBean.class, SnakeCaseBean.class, ViewBean.class, LenientBean.class));
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Test
+    public void testAccessorsGenerated() throws ClassNotFoundException {
+        for (Class<?> beanClass : new Class<?>[] { FieldBean.class, Address.class, AccessorBean.class,
+                InclusionBean.class, SnakeCaseBean.class, ViewBean.class, LenientBean.class }) {
+            assertNotNull(Class.forName(beanClass.getName() + BeanAccessor.CLASS_NAME_SUFFIX, false,
+                    beanClass.getClassLoader()));
+        }
+    }
+
+    @Test
+    public void testAccessorSerializersInstalled() throws JsonMappingException {
+        String runtimePackage = BeanAccessorModule.class.getPackage().getName();
+        assertEquals(runtimePackage + ".BeanAccessorSerializer",
+                mapper.getSerializerProviderInstance().findValueSerializer(FieldBean.class).getClass().getName());
+        assertEquals(runtimePackage + ".BeanAccessorDeserializer",
+                ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                        .createInstance(mapper.getDeserializationConfig(), null, null)
+                        .findRootValueDeserializer(mapper.constructType(FieldBean.class)).getClass().getName());
+    }
+
+    @Test
+    public void testPublicFields() {
+        String json = "{\"name\":\"Joe\",\"age\":42,\"active\":true,\"grade\":\"B\",\"ratio\":0.5,\"score\":null,"
+                + "\"tags\":[\"a\",\"b\"],\"counts\":{\"x\":1,\"y\":2},\"address\":{\"street\":\"Main\",\"number\":5},"
+                + "\"addresses\":[{\"street\":\"Elm\",\"number\":1},{\"street\":null,\"number\":2}]}";
+        assertRoundTrip("/beans/fields", json, json);
+    }
+
+    @Test
+    public void testDefaultsAndNulls() {
+        assertRoundTrip("/beans/fields", "{\"name\":null,\"tags\":[],\"counts\":{},\"addresses\":null}",
+                "{\"name\":null,\"age\":0,\"active\":false,\"grade\":\"\\u0000\",\"ratio\":0.0,\"score\":null,"
+                        + "\"tags\":[],\"counts\":{},\"address\":null,\"addresses\":null}");
+        assertRoundTrip("/beans/accessors", "{\"id\":null,\"name\":null}",
+                "{\"id\":null,\"name\":null,\"enabled\":false,\"version\":0,\"nameLength\":0}");
+    }
+
+    @Test
+    public void testGettersAndSetters() {
+        assertRoundTrip("/beans/accessors", "{\"id\":7,\"name\":\"quarkus\",\"enabled\":true,\"version\":9007199254740993}",
+                "{\"id\":7,\"name\":\"quarkus\",\"enabled\":true,\"version\":9007199254740993,\"nameLength\":7}");
+    }
+
+    @Test
+    public void testInclusion() {
+        assertRoundTrip("/beans/inclusion", "{\"first\":\"a\",\"second\":null,\"items\":[],\"attributes\":null}",
+                "{\"first\":\"a\"}");
+        assertRoundTrip("/beans/inclusion", "{\"first\":\"a\",\"items\":[\"i\"],\"attributes\":{}}",
+                "{\"first\":\"a\",\"items\":[\"i\"],\"attributes\":{}}");
+    }
+
+    @Test
+    public void testNamingStrategy() {
+        assertRoundTrip("/beans/snake-case", "{\"first_name\":\"Jane\",\"line_count\":12}",
+                "{\"line_count\":12,\"first_name\":\"Jane\"}");
+    }
+
+    @Test
+    public void testView() {
+        given().when().get("/beans/view").then()
+                .statusCode(200)
+                .body(is("{\"name\":\"name\",\"secret\":\"secret\",\"count\":3}"));
+        given().when().get("/beans/view/public").then()
+                .statusCode(200)
+                .body(is("{\"name\":\"name\",\"count\":3}"));
+    }
+
+    @Test
+    public void testUnknownProperties() {
+        given().contentType(ContentType.JSON).body("{\"name\":\"Joe\",\"unknown\":1}")
+                .when().post("/beans/fields").then()
+                .statusCode(400);
+        assertRoundTrip("/beans/lenient", "{\"name\":\"n\",\"other\":{\"a\":1}}", "{\"name\":\"n\"}");
+    }
+
+    private static void assertRoundTrip(String path, String request, String response) {
+        given().contentType(ContentType.JSON).body(request)
+                .when().post(path).then()
+                .statusCode(200)
+                .body(is(response));
+    }
+
+}
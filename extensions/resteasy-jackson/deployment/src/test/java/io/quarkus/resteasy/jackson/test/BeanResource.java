@@ -0,0 +1,67 @@
+package io.quarkus.resteasy.jackson.test;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+@Path("/beans")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class BeanResource {
+
+    @POST
+    @Path("/fields")
+    public FieldBean fields(FieldBean bean) {
+        return bean;
+    }
+
+    @POST
+    @Path("/accessors")
+    public AccessorBean accessors(AccessorBean bean) {
+        return bean;
+    }
+
+    @POST
+    @Path("/inclusion")
+    public InclusionBean inclusion(InclusionBean bean) {
+        return bean;
+    }
+
+    @POST
+    @Path("/snake-case")
+    public SnakeCaseBean snakeCase(SnakeCaseBean bean) {
+        return bean;
+    }
+
+    @POST
+    @Path("/lenient")
+    public LenientBean lenient(LenientBean bean) {
+        return bean;
+    }
+
+    @GET
+    @Path("/view")
+    public ViewBean view() {
+        return viewBean();
+    }
+
+    @GET
+    @Path("/view/public")
+    @JsonView(ViewBean.Public.class)
+    public ViewBean publicView() {
+        return viewBean();
+    }
+
+    private static ViewBean viewBean() {
+        ViewBean bean = new ViewBean();
+        bean.name = "name";
+        bean.secret = "secret";
+        bean.count = 3;
+        return bean;
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.resteasy.jackson.test;
+
+import java.util.List;
+import java.util.Map;
+
+public class FieldBean {
+
+    public String name;
+    public int age;
+    public boolean active;
+    public char grade;
+    public double ratio;
+    public Integer score;
+    public List<String> tags;
+    public Map<String, Integer> counts;
+    public Address address;
+    public List<Address> addresses;
+}
@@ -0,0 +1,16 @@
+package io.quarkus.resteasy.jackson.test;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InclusionBean {
+
+    public String first;
+    public String second;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public List<String> items;
+    public Map<String, String> attributes;
+}
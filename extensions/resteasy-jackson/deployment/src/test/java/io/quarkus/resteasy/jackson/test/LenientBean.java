@@ -0,0 +1,9 @@
+package io.quarkus.resteasy.jackson.test;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LenientBean {
+
+    public String name;
+}
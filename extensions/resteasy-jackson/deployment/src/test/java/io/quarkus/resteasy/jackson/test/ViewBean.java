@@ -0,0 +1,18 @@
+package io.quarkus.resteasy.jackson.test;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+public class ViewBean {
+
+    public interface Public {
+    }
+
+    public interface Internal extends Public {
+    }
+
+    @JsonView(Public.class)
+    public String name;
+    @JsonView(Internal.class)
+    public String secret;
+    public int count;
+}
@@ -0,0 +1,81 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+
+/**
+ * Direct access to the public members of a bean class, generated at build time for the types used by the JAX-RS
+ * resource methods. It replaces the reflective access done by the Jackson bean serializers and deserializers, the
+ * properties themselves are still discovered by Jackson.
+ * <p>
+ * The generated class is named after the bean class with the {@link #CLASS_NAME_SUFFIX} suffix.
+ */
+public abstract class BeanAccessor {
+
+    public static final String CLASS_NAME_SUFFIX = "_JacksonAccessor";
+
+    private final Class<?> beanClass;
+    private final boolean instantiable;
+    private final Map<String, MemberAccessor> members = new HashMap<>();
+
+    /**
+     * @param instantiable whether the bean class has a public no-args constructor
+     */
+    protected BeanAccessor(Class<?> beanClass, boolean instantiable) {
+        this.beanClass = beanClass;
+        this.instantiable = instantiable;
+    }
+
+    protected void addMember(MemberAccessor member) {
+        members.put(member.getKey(), member);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public boolean isInstantiable() {
+        return instantiable;
+    }
+
+    /**
+     * Creates an instance with the public no-args constructor.
+     *
+     * @throws UnsupportedOperationException if the bean class is not {@link #isInstantiable() instantiable}
+     */
+    public abstract Object newInstance();
+
+    /**
+     * @return the accessor able to read the given member, or {@code null}
+     */
+    MemberAccessor getter(AnnotatedMember member) {
+        MemberAccessor accessor = find(member);
+        return accessor != null && accessor.isReadable() ? accessor : null;
+    }
+
+    /**
+     * @return the accessor able to write the given member, or {@code null}
+     */
+    MemberAccessor setter(AnnotatedMember member) {
+        MemberAccessor accessor = find(member);
+        return accessor != null && accessor.isWritable() ? accessor : null;
+    }
+
+    private MemberAccessor find(AnnotatedMember member) {
+        if (member == null || member.getDeclaringClass() != beanClass) {
+            return null;
+        }
+        if (member instanceof AnnotatedField) {
+            return members.get(MemberAccessor.fieldKey(member.getName()));
+        }
+        if (member instanceof AnnotatedMethod) {
+            return members.get(MemberAccessor.methodKey(member.getName(), ((AnnotatedMethod) member).getParameterCount()));
+        }
+        return null;
+    }
+
+}
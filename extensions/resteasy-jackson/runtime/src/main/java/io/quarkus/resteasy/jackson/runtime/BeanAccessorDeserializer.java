@@ -0,0 +1,133 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.NullValueProvider;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.impl.FieldProperty;
+import com.fasterxml.jackson.databind.deser.impl.MethodProperty;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdValueInstantiator;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedWithParams;
+
+/**
+ * A {@link BeanDeserializer} creating the beans and setting the property values with a {@link BeanAccessor} instead of
+ * reflection.
+ * <p>
+ * Only the plain beans, which Jackson itself deserializes with its vanilla processing, are handled. The properties are
+ * the ones Jackson resolved and the values are read by their deserializers, the properties which are not backed by a
+ * public member, or are polymorphic, are set by Jackson.
+ */
+final class BeanAccessorDeserializer extends BeanDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient BeanAccessor accessor;
+
+    /**
+     * The accessor of each property, by property index, {@code null} for the ones set by Jackson.
+     */
+    private transient MemberAccessor[] setters;
+    private transient boolean[] skipNulls;
+
+    BeanAccessorDeserializer(BeanDeserializerBase src, BeanAccessor accessor) {
+        super(src);
+        this.accessor = accessor;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        super.resolve(ctxt);
+        if (!_vanillaProcessing || !isDefaultInstantiation()) {
+            return;
+        }
+        int size = 0;
+        for (Iterator<SettableBeanProperty> it = _beanProperties.iterator(); it.hasNext();) {
+            int index = it.next().getPropertyIndex();
+            if (index < 0) {
+                return;
+            }
+            size = Math.max(size, index + 1);
+        }
+        MemberAccessor[] setters = new MemberAccessor[size];
+        boolean[] skipNulls = new boolean[size];
+        for (Iterator<SettableBeanProperty> it = _beanProperties.iterator(); it.hasNext();) {
+            SettableBeanProperty prop = it.next();
+            if ((prop.getClass() != MethodProperty.class && prop.getClass() != FieldProperty.class)
+                    || prop.getValueTypeDeserializer() != null || prop.getValueDeserializer() == null) {
+                continue;
+            }
+            setters[prop.getPropertyIndex()] = accessor.setter(prop.getMember());
+            skipNulls[prop.getPropertyIndex()] = NullsConstantProvider.isSkipper(prop.getNullValueProvider());
+        }
+        this.skipNulls = skipNulls;
+        this.setters = setters;
+    }
+
+    /**
+     * @return whether Jackson creates the beans with the public no-args constructor
+     */
+    private boolean isDefaultInstantiation() {
+        if (!accessor.isInstantiable() || _valueInstantiator.getClass() != StdValueInstantiator.class) {
+            return false;
+        }
+        AnnotatedWithParams creator = _valueInstantiator.getDefaultCreator();
+        return creator instanceof AnnotatedConstructor && creator.getParameterCount() == 0
+                && creator.getDeclaringClass() == accessor.getBeanClass()
+                && Modifier.isPublic(((AnnotatedConstructor) creator).getAnnotated().getModifiers());
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        MemberAccessor[] setters = this.setters;
+        if (setters == null || !p.isExpectedStartObjectToken()) {
+            return super.deserialize(p, ctxt);
+        }
+        p.nextToken();
+        Object bean = accessor.newInstance();
+        p.setCurrentValue(bean);
+        if (p.hasTokenId(JsonTokenId.ID_FIELD_NAME)) {
+            String propName = p.getCurrentName();
+            do {
+                p.nextToken();
+                SettableBeanProperty prop = _beanProperties.find(propName);
+                if (prop == null) {
+                    handleUnknownVanilla(p, ctxt, bean, propName);
+                    continue;
+                }
+                try {
+                    int index = prop.getPropertyIndex();
+                    MemberAccessor setter = index < setters.length ? setters[index] : null;
+                    if (setter == null || p.hasToken(JsonToken.VALUE_NULL)) {
+                        // the null values are left to Jackson, they may be skipped, replaced or rejected
+                        prop.deserializeAndSet(p, ctxt, bean);
+                        continue;
+                    }
+                    Object value = prop.getValueDeserializer().deserialize(p, ctxt);
+                    if (value == null) {
+                        if (skipNulls[index]) {
+                            continue;
+                        }
+                        NullValueProvider nullValues = prop.getNullValueProvider();
+                        value = nullValues == null ? null : nullValues.getNullValue(ctxt);
+                    }
+                    setter.set(bean, value);
+                } catch (Exception e) {
+                    wrapAndThrow(e, bean, propName, ctxt);
+                }
+            } while ((propName = p.nextFieldName()) != null);
+        }
+        return bean;
+    }
+
+}
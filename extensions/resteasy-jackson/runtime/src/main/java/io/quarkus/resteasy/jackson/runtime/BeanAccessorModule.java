@@ -0,0 +1,93 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * Replaces the reflective access of the Jackson bean serializers and deserializers with the {@link BeanAccessor}s
+ * generated at build time.
+ * <p>
+ * It is registered on the default {@code ObjectMapper}, and may be registered on the ones produced by the application.
+ */
+public class BeanAccessorModule extends Module {
+
+    private static final Logger log = Logger.getLogger(BeanAccessorModule.class);
+
+    private static volatile Set<String> beanClasses = Collections.emptySet();
+
+    static void setBeanClasses(Set<String> beanClasses) {
+        BeanAccessorModule.beanClasses = beanClasses;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "quarkus-bean-accessors";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                    JsonSerializer<?> serializer) {
+                if (serializer.getClass() != BeanSerializer.class) {
+                    return serializer;
+                }
+                BeanAccessor accessor = createAccessor(beanDesc.getBeanClass());
+                if (accessor == null) {
+                    return serializer;
+                }
+                return new BeanAccessorSerializer((BeanSerializer) serializer, accessor,
+                        beanDesc.findPropertyInclusion(JsonInclude.Value.empty()));
+            }
+        });
+        context.addBeanDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                    JsonDeserializer<?> deserializer) {
+                if (deserializer.getClass() != BeanDeserializer.class) {
+                    return deserializer;
+                }
+                BeanAccessor accessor = createAccessor(beanDesc.getBeanClass());
+                if (accessor == null) {
+                    return deserializer;
+                }
+                return new BeanAccessorDeserializer((BeanDeserializer) deserializer, accessor);
+            }
+        });
+    }
+
+    private static BeanAccessor createAccessor(Class<?> beanClass) {
+        if (!beanClasses.contains(beanClass.getName())) {
+            return null;
+        }
+        try {
+            return (BeanAccessor) Class.forName(beanClass.getName() + BeanAccessor.CLASS_NAME_SUFFIX, true,
+                    beanClass.getClassLoader()).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debugf(e, "Unable to create the accessor of %s", beanClass);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+/**
+ * A {@link BeanSerializer} reading the property values with a {@link BeanAccessor} instead of reflection.
+ * <p>
+ * Everything else is left to Jackson: the properties, their names and serializers are the ones Jackson resolved, and the
+ * properties which are not plain values (suppressed when empty, polymorphic, not backed by a public member...) are
+ * written by their {@link BeanPropertyWriter}.
+ */
+final class BeanAccessorSerializer extends BeanSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient BeanAccessor accessor;
+    private final JsonInclude.Value classInclusion;
+
+    /**
+     * The accessor of each property of {@link #_props}, {@code null} for the ones written by Jackson.
+     */
+    private transient MemberAccessor[] getters;
+    private transient JsonSerializer<Object>[] nullSerializers;
+    private transient PropertySerializerMap[] dynamicSerializers;
+    private transient JavaType[] nonTrivialBaseTypes;
+
+    BeanAccessorSerializer(BeanSerializerBase src, BeanAccessor accessor, JsonInclude.Value classInclusion) {
+        super(src);
+        this.accessor = accessor;
+        this.classInclusion = classInclusion;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        boolean[] customNullSerializer = new boolean[_props.length];
+        for (int i = 0; i < _props.length; ++i) {
+            customNullSerializer[i] = _props[i].hasNullSerializer();
+        }
+        super.resolve(provider);
+
+        SerializationConfig config = provider.getConfig();
+        MemberAccessor[] getters = new MemberAccessor[_props.length];
+        nullSerializers = new JsonSerializer[_props.length];
+        dynamicSerializers = new PropertySerializerMap[_props.length];
+        nonTrivialBaseTypes = new JavaType[_props.length];
+        for (int i = 0; i < _props.length; ++i) {
+            BeanPropertyWriter prop = _props[i];
+            if (prop.getClass() != BeanPropertyWriter.class || prop.getTypeSerializer() != null
+                    || !writesAllValues(config, prop)) {
+                continue;
+            }
+            getters[i] = accessor.getter(prop.getMember());
+            if (!customNullSerializer[i] && !prop.willSuppressNulls()) {
+                nullSerializers[i] = provider.findNullValueSerializer(prop);
+            }
+            if (prop.getSerializer() == null) {
+                dynamicSerializers[i] = PropertySerializerMap.emptyForProperties();
+                JavaType type = prop.getType();
+                if (type.isContainerType() || type.containedTypeCount() > 0) {
+                    nonTrivialBaseTypes[i] = type;
+                }
+            }
+        }
+        this.getters = getters;
+    }
+
+    /**
+     * @return whether all the non null values of the property are written, i.e. they are never suppressed when empty
+     *         or equal to a default value
+     */
+    @SuppressWarnings("deprecation") // still honored by Jackson when building the property writers
+    private boolean writesAllValues(SerializationConfig config, BeanPropertyWriter prop) {
+        if (!writesAllValues(classInclusion) || !writesAllValues(prop.findPropertyInclusion(config, handledType()))) {
+            return false;
+        }
+        return !prop.getType().isContainerType() || config.isEnabled(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS);
+    }
+
+    private static boolean writesAllValues(JsonInclude.Value inclusion) {
+        if (inclusion == null) {
+            return true;
+        }
+        switch (inclusion.getValueInclusion()) {
+            case ALWAYS:
+            case NON_NULL:
+            case USE_DEFAULTS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected void serializeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        MemberAccessor[] getters = this.getters;
+        if (getters == null || (_filteredProps != null && provider.getActiveView() != null)) {
+            super.serializeFields(bean, gen, provider);
+            return;
+        }
+        BeanPropertyWriter[] props = _props;
+        int i = 0;
+        try {
+            for (; i < props.length; ++i) {
+                BeanPropertyWriter prop = props[i];
+                MemberAccessor getter = getters[i];
+                if (getter == null) {
+                    prop.serializeAsField(bean, gen, provider);
+                    continue;
+                }
+                Object value = getter.get(bean);
+                if (value == null) {
+                    if (prop.willSuppressNulls()) {
+                        continue;
+                    }
+                    JsonSerializer<Object> nullSerializer = nullSerializers[i];
+                    if (nullSerializer == null) {
+                        prop.serializeAsField(bean, gen, provider);
+                    } else {
+                        gen.writeFieldName(prop.getSerializedName());
+                        nullSerializer.serialize(null, gen, provider);
+                    }
+                    continue;
+                }
+                if (value == bean) {
+                    // let Jackson deal with the self references
+                    prop.serializeAsField(bean, gen, provider);
+                    continue;
+                }
+                JsonSerializer<Object> serializer = prop.getSerializer();
+                if (serializer == null) {
+                    serializer = findDynamicSerializer(i, value.getClass(), provider);
+                }
+                gen.writeFieldName(prop.getSerializedName());
+                serializer.serialize(value, gen, provider);
+            }
+            if (_anyGetterWriter != null) {
+                _anyGetterWriter.getAndSerialize(bean, gen, provider);
+            }
+        } catch (Exception e) {
+            String name = (i == props.length) ? "[anySetter]" : props[i].getName();
+            wrapAndThrow(provider, e, bean, name);
+        } catch (StackOverflowError e) {
+            JsonMappingException mapE = new JsonMappingException(gen, "Infinite recursion (StackOverflowError)", e);
+            String name = (i == props.length) ? "[anySetter]" : props[i].getName();
+            mapE.prependPath(new JsonMappingException.Reference(bean, name));
+            throw mapE;
+        }
+    }
+
+    /**
+     * Same lookup as the {@link BeanPropertyWriter} for the properties without a static serializer.
+     */
+    private JsonSerializer<Object> findDynamicSerializer(int index, Class<?> type, SerializerProvider provider)
+            throws JsonMappingException {
+        PropertySerializerMap map = dynamicSerializers[index];
+        JsonSerializer<Object> serializer = map.serializerFor(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        PropertySerializerMap.SerializerAndMapResult result;
+        JavaType baseType = nonTrivialBaseTypes[index];
+        if (baseType != null) {
+            result = map.findAndAddPrimarySerializer(provider.constructSpecializedType(baseType, type), provider,
+                    _props[index]);
+        } else {
+            result = map.findAndAddSecondarySerializer(type, provider, _props[index]);
+        }
+        dynamicSerializers[index] = result.map;
+        return result.serializer;
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+/**
+ * Direct access to a public field or accessor method of a bean, generated at build time.
+ */
+public abstract class MemberAccessor {
+
+    private final String key;
+    private final boolean readable;
+    private final boolean writable;
+
+    protected MemberAccessor(String key, boolean readable, boolean writable) {
+        this.key = key;
+        this.readable = readable;
+        this.writable = writable;
+    }
+
+    /**
+     * @return the key of the member, as built by {@link #fieldKey(String)} or {@link #methodKey(String, int)}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isReadable() {
+        return readable;
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Reads the field or invokes the getter, the primitive values are boxed.
+     *
+     * @throws UnsupportedOperationException if the member is not {@link #isReadable() readable}
+     */
+    public abstract Object get(Object bean);
+
+    /**
+     * Writes the field or invokes the setter, the primitive values are unboxed.
+     *
+     * @throws UnsupportedOperationException if the member is not {@link #isWritable() writable}
+     */
+    public abstract void set(Object bean, Object value);
+
+    public static String fieldKey(String name) {
+        return name;
+    }
+
+    public static String methodKey(String name, int parameterCount) {
+        return name + "/" + parameterCount;
+    }
+
+}
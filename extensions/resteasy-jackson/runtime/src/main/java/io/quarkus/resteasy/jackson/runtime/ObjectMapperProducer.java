@@ -16,6 +16,8 @@ public class ObjectMapperProducer {
     @Produces
     public ObjectMapper objectMapper() {
         // in the future we can do a lot more here
-        return new ObjectMapper();
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new BeanAccessorModule());
+        return objectMapper;
     }
 }
@@ -0,0 +1,17 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+import java.util.Set;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class ResteasyJacksonRecorder {
+
+    /**
+     * @param beanClasses the classes for which a {@link BeanAccessor} was generated
+     */
+    public void registerBeanAccessors(Set<String> beanClasses) {
+        BeanAccessorModule.setBeanClasses(beanClasses);
+    }
+
+}
@@ -0,0 +1,251 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+/**
+ * Compares the JSON written and read with the {@link BeanAccessorModule} to the one of plain Jackson, with accessors
+ * written by hand instead of being generated.
+ */
+public class BeanAccessorModuleTest {
+
+    private static final AtomicInteger READS = new AtomicInteger();
+    private static final AtomicInteger WRITES = new AtomicInteger();
+
+    @BeforeAll
+    public static void registerBeans() {
+        BeanAccessorModule.setBeanClasses(new HashSet<>(Arrays.asList(Item.class.getName(), Detail.class.getName())));
+    }
+
+    @AfterAll
+    public static void clearBeans() {
+        BeanAccessorModule.setBeanClasses(Collections.emptySet());
+    }
+
+    @BeforeEach
+    public void resetCounts() {
+        READS.set(0);
+        WRITES.set(0);
+    }
+
+    @Test
+    public void testSerializersInstalled() throws Exception {
+        ObjectMapper mapper = withModule(ObjectMapper::new);
+        assertSame(BeanAccessorSerializer.class,
+                mapper.getSerializerProviderInstance().findValueSerializer(Item.class).getClass());
+        assertSame(BeanAccessorDeserializer.class,
+                ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                        .createInstance(mapper.getDeserializationConfig(), null, null)
+                        .findRootValueDeserializer(mapper.constructType(Item.class)).getClass());
+    }
+
+    @Test
+    public void testAccessorsUsed() throws Exception {
+        ObjectMapper mapper = withModule(ObjectMapper::new);
+        String json = mapper.writeValueAsString(items());
+        assertTrue(READS.get() > 0);
+        mapper.readValue(json, Item[].class);
+        assertTrue(WRITES.get() > 0);
+    }
+
+    @Test
+    public void testSameJson() throws Exception {
+        List<Supplier<ObjectMapper>> configurations = Arrays.asList(
+                ObjectMapper::new,
+                () -> new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL),
+                () -> new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY),
+                () -> new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE),
+                () -> new ObjectMapper().configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                        .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, true));
+        List<Item> items = items();
+        for (Supplier<ObjectMapper> configuration : configurations) {
+            ObjectMapper plain = configuration.get();
+            ObjectMapper mapper = withModule(configuration);
+            String json = plain.writeValueAsString(items);
+            assertEquals(json, mapper.writeValueAsString(items));
+            assertEquals(json, plain.writeValueAsString(mapper.readValue(json, Item[].class)));
+            String nulls = "{\"name\":null,\"count\":null,\"ratio\":null,\"tags\":null,\"detail\":null,\"id\":null}";
+            assertEquals(result(() -> plain.writeValueAsString(plain.readValue(nulls, Item.class))),
+                    result(() -> plain.writeValueAsString(mapper.readValue(nulls, Item.class))));
+        }
+    }
+
+    @Test
+    public void testSameErrors() {
+        ObjectMapper plain = new ObjectMapper();
+        ObjectMapper mapper = withModule(ObjectMapper::new);
+        for (String json : new String[] { "{\"name\":\"n\",\"unknown\":1}", "{\"count\":\"x\"}",
+                "{\"detail\":{\"label\":[]}}" }) {
+            assertEquals(result(() -> plain.readValue(json, Item.class)), result(() -> mapper.readValue(json, Item.class)));
+        }
+    }
+
+    private static ObjectMapper withModule(Supplier<ObjectMapper> configuration) {
+        return configuration.get().registerModule(new BeanAccessorModule());
+    }
+
+    private static List<Item> items() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Item item = new Item();
+            item.name = i % 2 == 0 ? "item " + i : null;
+            item.displayName = "Item " + i;
+            item.count = i;
+            item.ratio = i % 3 == 0 ? null : i * 1.5;
+            item.tags = i % 4 == 0 ? new ArrayList<>() : Arrays.asList("a" + i, "b" + i);
+            item.counts = new LinkedHashMap<>();
+            item.counts.put("k", i);
+            if (i > 1) {
+                Detail detail = new Detail();
+                detail.label = "detail " + i;
+                item.detail = detail;
+            }
+            item.setId(i % 2 == 0 ? (long) i : null);
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static String result(Action action) {
+        try {
+            return "ok " + action.run();
+        } catch (Exception e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    interface Action {
+
+        Object run() throws Exception;
+    }
+
+    public static class Item {
+
+        public String name;
+        public String displayName;
+        public int count;
+        public Double ratio;
+        public List<String> tags;
+        public Map<String, Integer> counts;
+        public Detail detail;
+        private Long id;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return name + "/" + displayName + "/" + count + "/" + ratio + "/" + tags + "/" + counts + "/" + detail + "/" + id;
+        }
+    }
+
+    public static class Detail {
+
+        public String label;
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    static class Item_JacksonAccessor extends BeanAccessor {
+
+        Item_JacksonAccessor() {
+            super(Item.class, true);
+            addMember(new Member<Item>(MemberAccessor.fieldKey("name"), b -> b.name, (b, v) -> b.name = (String) v));
+            addMember(new Member<Item>(MemberAccessor.fieldKey("displayName"), b -> b.displayName,
+                    (b, v) -> b.displayName = (String) v));
+            addMember(new Member<Item>(MemberAccessor.fieldKey("count"), b -> b.count, (b, v) -> b.count = (Integer) v));
+            addMember(new Member<Item>(MemberAccessor.fieldKey("ratio"), b -> b.ratio, (b, v) -> b.ratio = (Double) v));
+            addMember(new Member<Item>(MemberAccessor.fieldKey("tags"), b -> b.tags, (b, v) -> b.tags = cast(v)));
+            addMember(new Member<Item>(MemberAccessor.fieldKey("counts"), b -> b.counts, (b, v) -> b.counts = cast(v)));
+            addMember(new Member<Item>(MemberAccessor.fieldKey("detail"), b -> b.detail,
+                    (b, v) -> b.detail = (Detail) v));
+            addMember(new Member<Item>(MemberAccessor.methodKey("getId", 0), Item::getId, null));
+            addMember(new Member<Item>(MemberAccessor.methodKey("setId", 1), null, (b, v) -> b.setId((Long) v)));
+        }
+
+        @Override
+        public Object newInstance() {
+            return new Item();
+        }
+    }
+
+    static class Detail_JacksonAccessor extends BeanAccessor {
+
+        Detail_JacksonAccessor() {
+            super(Detail.class, true);
+            addMember(new Member<Detail>(MemberAccessor.fieldKey("label"), b -> b.label,
+                    (b, v) -> b.label = (String) v));
+        }
+
+        @Override
+        public Object newInstance() {
+            return new Detail();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    /**
+     * Counts the accesses, like a generated accessor the primitive values are unboxed when written.
+     */
+    static final class Member<B> extends MemberAccessor {
+
+        private final Function<B, Object> getter;
+        private final BiConsumer<B, Object> setter;
+
+        Member(String key, Function<B, Object> getter, BiConsumer<B, Object> setter) {
+            super(key, getter != null, setter != null);
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public Object get(Object bean) {
+            READS.incrementAndGet();
+            return getter.apply(cast(bean));
+        }
+
+        @Override
+        public void set(Object bean, Object value) {
+            WRITES.incrementAndGet();
+            setter.accept(cast(bean), value);
+        }
+    }
+
+}
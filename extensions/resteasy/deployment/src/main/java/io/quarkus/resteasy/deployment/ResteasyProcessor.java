@@ -10,21 +10,32 @@ import javax.ws.rs.core.Application;
 
 import org.jboss.resteasy.plugins.server.servlet.HttpServlet30Dispatcher;
 
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.resteasy.common.deployment.ResteasyJaxrsProviderBuildItem;
 import io.quarkus.resteasy.runtime.NotFoundExceptionMapper;
 import io.quarkus.resteasy.runtime.ResteasyFilter;
 import io.quarkus.resteasy.runtime.RolesFilterRegistrar;
+import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyInjectionReadyBuildItem;
 import io.quarkus.resteasy.server.common.deployment.ResteasyServerConfigBuildItem;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.undertow.deployment.FilterBuildItem;
 import io.quarkus.undertow.deployment.ServletBuildItem;
 import io.quarkus.undertow.deployment.ServletInitParamBuildItem;
+import io.quarkus.vertx.web.deployment.RouteBuildItem;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
 
 /**
  * Processor that finds JAX-RS classes in the deployment
@@ -35,6 +46,29 @@ public class ResteasyProcessor {
     private static final String JAX_RS_FILTER_NAME = JAVAX_WS_RS_APPLICATION;
     private static final String JAX_RS_SERVLET_NAME = JAVAX_WS_RS_APPLICATION;
 
+    ResteasyServletConfig servletConfig;
+
+    @ConfigRoot(name = "resteasy", phase = ConfigPhase.BUILD_TIME)
+    static final class ResteasyServletConfig {
+        /**
+         * If true, the JAX-RS requests are dispatched to RESTEasy directly from the Vert.x router rather than through
+         * the Servlet container, which saves two layers of adaptation per request.
+         * <p>
+         * The Servlet filters and security constraints do not apply to the JAX-RS resources in this mode, and the
+         * asynchronous responses keep a worker thread until they are resumed.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean servletFree;
+
+        /**
+         * The maximum size of the request bodies when the requests are dispatched from the Vert.x router.
+         * <p>
+         * The larger requests are rejected with a 413 ("Request Entity Too Large") status.
+         */
+        @ConfigItem(defaultValue = "10M")
+        MemorySize maxBodySize;
+    }
+
     @BuildStep
     public void jaxrsConfig(Optional<ResteasyServerConfigBuildItem> resteasyServerConfig,
             BuildProducer<ResteasyJaxrsConfigBuildItem> resteasyJaxrsConfig) {
@@ -54,7 +88,7 @@ public class ResteasyProcessor {
             ResteasyInjectionReadyBuildItem resteasyInjectionReady) throws Exception {
         feature.produce(new FeatureBuildItem(FeatureBuildItem.RESTEASY));
 
-        if (resteasyServerConfig.isPresent()) {
+        if (resteasyServerConfig.isPresent() && !servletConfig.servletFree) {
             String path = resteasyServerConfig.get().getPath();
 
             //if JAX-RS is installed at the root location we use a filter, otherwise we use a Servlet and take over the whole mapped path
@@ -76,6 +110,28 @@ public class ResteasyProcessor {
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    public void servletFreeDispatch(ResteasyStandaloneRecorder recorder,
+            Optional<ResteasyServerConfigBuildItem> resteasyServerConfig,
+            ShutdownContextBuildItem shutdown,
+            BeanContainerBuildItem beanContainer,
+            ExecutorBuildItem executor,
+            BuildProducer<RouteBuildItem> routes,
+            ResteasyInjectionReadyBuildItem resteasyInjectionReady) {
+        if (!servletConfig.servletFree || !resteasyServerConfig.isPresent()) {
+            return;
+        }
+        String path = resteasyServerConfig.get().getPath();
+        if (path.isEmpty()) {
+            path = "/";
+        }
+        Handler<RoutingContext> handler = recorder.startResteasy(shutdown, beanContainer.getValue(),
+                executor.getExecutorProxy(), path, resteasyServerConfig.get().getInitParameters(),
+                servletConfig.maxBodySize.asLongValue());
+        routes.produce(new RouteBuildItem(path.equals("/") ? "/*" : getMappingPath(path), handler));
+    }
+
     /**
      * Install the JAX-RS security provider.
      */
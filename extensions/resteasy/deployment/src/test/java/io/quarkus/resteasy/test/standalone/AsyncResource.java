@@ -0,0 +1,47 @@
+package io.quarkus.resteasy.test.standalone;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+
+@Path("/async")
+public class AsyncResource {
+
+    @Inject
+    RequestBean requestBean;
+
+    @GET
+    public void get(@Suspended AsyncResponse response) {
+        requestBean.init();
+        new Thread(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // The request context is still active and the response not written yet
+            response.resume("resumed, destroyed beans: " + RequestBean.DESTROYED.get());
+        }).start();
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        void init() {
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+}
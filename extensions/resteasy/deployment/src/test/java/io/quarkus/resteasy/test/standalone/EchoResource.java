@@ -0,0 +1,15 @@
+package io.quarkus.resteasy.test.standalone;
+
+import javax.ws.rs.CookieParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Response;
+
+@Path("/echo")
+public class EchoResource {
+
+    @POST
+    public Response echo(String body, @CookieParam("name") String name) {
+        return Response.ok(name + ":" + body).header("X-Echo", "true").build();
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.resteasy.test.standalone;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.test.RootResource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ServletFreeDispatchTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RootResource.class, EchoResource.class, AsyncResource.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.servlet-free=true"), "application.properties"));
+
+    @Test
+    public void testGet() {
+        RestAssured.when().get("/").then()
+                .statusCode(200)
+                .header("Content-Length", "13")
+                .body(Matchers.is("Root Resource"));
+    }
+
+    @Test
+    public void testPostWithCookie() {
+        RestAssured.given().cookie("name", "quarkus").body("hello")
+                .when().post("/echo").then()
+                .statusCode(200)
+                .header("X-Echo", "true")
+                .body(Matchers.is("quarkus:hello"));
+    }
+
+    @Test
+    public void testLargeBody() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            body.append("0123456789");
+        }
+        RestAssured.given().cookie("name", "large").body(body.toString())
+                .when().post("/echo").then()
+                .statusCode(200)
+                .body(Matchers.is("large:" + body));
+    }
+
+    @Test
+    public void testSuspended() {
+        RestAssured.when().get("/async").then()
+                .statusCode(200)
+                .body(Matchers.is("resumed, destroyed beans: 0"));
+        RestAssured.when().get("/async").then()
+                .statusCode(200)
+                .body(Matchers.is("resumed, destroyed beans: 1"));
+    }
+
+    @Test
+    public void testNotFound() {
+        RestAssured.when().get("/missing").then().statusCode(404);
+        RestAssured.when().delete("/missing").then().statusCode(404);
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.resteasy.test.standalone;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ServletFreeMaxBodySizeTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(EchoResource.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.servlet-free=true\n"
+                            + "quarkus.resteasy.max-body-size=100"), "application.properties"));
+
+    @Test
+    public void testBodyWithinLimit() {
+        RestAssured.given().cookie("name", "small").body("hello")
+                .when().post("/echo").then()
+                .statusCode(200)
+                .body(Matchers.is("small:hello"));
+    }
+
+    @Test
+    public void testBodyTooLarge() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 11; i++) {
+            body.append("0123456789");
+        }
+        RestAssured.given().cookie("name", "large").body(body.toString())
+                .when().post("/echo").then()
+                .statusCode(413);
+    }
+}
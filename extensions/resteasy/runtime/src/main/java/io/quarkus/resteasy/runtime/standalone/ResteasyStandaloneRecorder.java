@@ -0,0 +1,72 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.resteasy.plugins.server.servlet.ConfigurationBootstrap;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class ResteasyStandaloneRecorder {
+
+    /**
+     * @param initParameters the RESTEasy configuration, as used for the Servlet deployment
+     * @param maxBodySize the maximum size of the request bodies, in bytes
+     */
+    public Handler<RoutingContext> startResteasy(ShutdownContext shutdown, BeanContainer beanContainer,
+            ExecutorService executor, String rootPath, Map<String, String> initParameters, long maxBodySize) {
+        ResteasyDeployment deployment = new StandaloneBootstrap(initParameters).createDeployment();
+        deployment.start();
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                deployment.stop();
+            }
+        });
+        return new VertxRequestHandler(deployment, beanContainer.requestContext(), executor, rootPath, maxBodySize);
+    }
+
+    private static final class StandaloneBootstrap extends ConfigurationBootstrap {
+
+        private final Map<String, String> parameters;
+
+        StandaloneBootstrap(Map<String, String> parameters) {
+            this.parameters = parameters;
+        }
+
+        @Override
+        public URL[] getScanningUrls() {
+            // The resources are discovered at build time
+            return new URL[0];
+        }
+
+        @Override
+        public String getParameter(String name) {
+            return parameters.get(name);
+        }
+
+        @Override
+        public Set<String> getParameterNames() {
+            return parameters.keySet();
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return parameters.get(name);
+        }
+
+        @Override
+        public Set<String> getInitParameterNames() {
+            return parameters.keySet();
+        }
+    }
+
+}
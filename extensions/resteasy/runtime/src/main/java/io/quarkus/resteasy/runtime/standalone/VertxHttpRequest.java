@@ -0,0 +1,128 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.core.SynchronousExecutionContext;
+import org.jboss.resteasy.plugins.server.BaseHttpRequest;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.spi.NotImplementedYetException;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A RESTEasy request backed by a Vert.x request, whose body has been read beforehand.
+ * <p>
+ * The suspended requests keep the dispatching thread until they are resumed, as in a synchronous Servlet.
+ */
+final class VertxHttpRequest extends BaseHttpRequest {
+
+    private static final InputStream EMPTY = new ByteArrayInputStream(new byte[0]);
+
+    private final RoutingContext routingContext;
+    private final ResteasyHttpHeaders httpHeaders;
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final SynchronousExecutionContext executionContext;
+    private String httpMethod;
+    private InputStream inputStream = EMPTY;
+
+    VertxHttpRequest(RoutingContext routingContext, ResteasyHttpHeaders httpHeaders, ResteasyUriInfo uri,
+            String httpMethod, SynchronousDispatcher dispatcher, VertxHttpResponse response) {
+        super(uri);
+        this.routingContext = routingContext;
+        this.httpHeaders = httpHeaders;
+        this.httpMethod = httpMethod;
+        this.executionContext = new SynchronousExecutionContext(dispatcher, this, response);
+    }
+
+    @Override
+    public HttpHeaders getHttpHeaders() {
+        return httpHeaders;
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getMutableHeaders() {
+        return httpHeaders.getMutableHeaders();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public void setInputStream(InputStream stream) {
+        this.inputStream = stream;
+    }
+
+    @Override
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    @Override
+    public void setHttpMethod(String method) {
+        this.httpMethod = method;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) {
+        return attributes.get(attribute);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public ResteasyAsynchronousContext getAsyncContext() {
+        return executionContext;
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return routingContext.request().remoteAddress().host();
+    }
+
+    @Override
+    public String getRemoteHost() {
+        // No reverse lookup
+        return getRemoteAddress();
+    }
+
+    @Override
+    public void forward(String path) {
+        throw new NotImplementedYetException();
+    }
+
+    @Override
+    public boolean wasForwarded() {
+        return false;
+    }
+
+    public boolean isInitial() {
+        return true;
+    }
+
+}
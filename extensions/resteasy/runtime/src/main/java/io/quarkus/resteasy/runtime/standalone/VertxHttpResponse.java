@@ -0,0 +1,187 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.NewCookie;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * A RESTEasy response written to a Vert.x response. The status and the headers are sent with the first chunk of the
+ * body; a body written at once is sent with a {@code Content-Length} header, a larger one is chunked.
+ */
+final class VertxHttpResponse implements HttpResponse {
+
+    private final HttpServerResponse response;
+    private final ResteasyProviderFactory providerFactory;
+    private final MultivaluedMap<String, Object> outputHeaders = new Headers<>();
+    private final VertxOutputStream vertxOutputStream = new VertxOutputStream(this);
+    private OutputStream outputStream = vertxOutputStream;
+    private int status = 200;
+    private boolean committed;
+
+    VertxHttpResponse(HttpServerResponse response, ResteasyProviderFactory providerFactory) {
+        this.response = response;
+        this.providerFactory = providerFactory;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    @Override
+    public MultivaluedMap<String, Object> getOutputHeaders() {
+        return outputHeaders;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public void setOutputStream(OutputStream os) {
+        this.outputStream = os;
+    }
+
+    @Override
+    public void addNewCookie(NewCookie cookie) {
+        outputHeaders.add(HttpHeaders.SET_COOKIE, cookie);
+    }
+
+    @Override
+    public void sendError(int status) throws IOException {
+        sendError(status, null);
+    }
+
+    @Override
+    public void sendError(int status, String message) throws IOException {
+        if (committed) {
+            throw new IllegalStateException("The response is already committed");
+        }
+        this.status = status;
+        writeBody(message != null ? Buffer.buffer(message) : null, true);
+        vertxOutputStream.markClosed();
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public void reset() {
+        if (committed) {
+            throw new IllegalStateException("The response is already committed");
+        }
+        outputHeaders.clear();
+        status = 200;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        outputStream.flush();
+    }
+
+    /**
+     * Completes the response, if the body was not closed yet.
+     */
+    void finish() throws IOException {
+        try {
+            outputStream.close();
+        } finally {
+            vertxOutputStream.close();
+        }
+    }
+
+    /**
+     * Called from {@link VertxOutputStream}.
+     *
+     * @param data the data, may be {@code null} when ending the response
+     * @param end whether the data is the last chunk of the body
+     */
+    void writeBody(Buffer data, boolean end) throws IOException {
+        if (!committed) {
+            commit(data, end);
+        }
+        if (end) {
+            if (data != null) {
+                response.end(data);
+            } else {
+                response.end();
+            }
+        } else {
+            response.write(data);
+            awaitDrain();
+        }
+    }
+
+    private void commit(Buffer data, boolean end) {
+        committed = true;
+        response.setStatusCode(status);
+        for (Map.Entry<String, List<Object>> header : outputHeaders.entrySet()) {
+            for (Object value : header.getValue()) {
+                response.headers().add(header.getKey(), headerValue(value));
+            }
+        }
+        if (!response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+            if (end) {
+                response.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(data != null ? data.length() : 0));
+            } else {
+                response.setChunked(true);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String headerValue(Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        RuntimeDelegate.HeaderDelegate<Object> delegate = (RuntimeDelegate.HeaderDelegate<Object>) providerFactory
+                .createHeaderDelegate(value.getClass());
+        return delegate != null ? delegate.toString(value) : value.toString();
+    }
+
+    /**
+     * Blocks the dispatching thread while the client does not keep up, rather than buffering the whole body.
+     */
+    private void awaitDrain() throws IOException {
+        if (!response.writeQueueFull()) {
+            return;
+        }
+        CountDownLatch drained = new CountDownLatch(1);
+        response.drainHandler(v -> drained.countDown());
+        response.closeHandler(v -> drained.countDown());
+        // The queue may have been drained before the handler was set
+        if (!response.writeQueueFull() || response.closed()) {
+            return;
+        }
+        try {
+            drained.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+}
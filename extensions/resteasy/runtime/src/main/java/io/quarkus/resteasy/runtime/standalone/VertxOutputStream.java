@@ -0,0 +1,91 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Buffers the body of a {@link VertxHttpResponse} in a Vert.x buffer, so that most responses are sent at once when the
+ * stream is closed.
+ * <p>
+ * Flushing the stream only sends the buffered data once the response is committed: the message body writers usually
+ * flush at the end of the entity, which would otherwise turn every response into a chunked one.
+ */
+final class VertxOutputStream extends OutputStream {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final VertxHttpResponse response;
+    private Buffer buffer;
+    private boolean closed;
+
+    VertxOutputStream(VertxHttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkNotClosed();
+        buffer().appendByte((byte) b);
+        if (buffer.length() >= BUFFER_SIZE) {
+            writeBuffer();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        checkNotClosed();
+        buffer().appendBytes(b, off, len);
+        if (buffer.length() >= BUFFER_SIZE) {
+            writeBuffer();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!closed && response.isCommitted() && buffer != null && buffer.length() > 0) {
+            writeBuffer();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Buffer last = buffer;
+        buffer = null;
+        response.writeBody(last, true);
+    }
+
+    /**
+     * Called once the response was ended by other means.
+     */
+    void markClosed() {
+        closed = true;
+        buffer = null;
+    }
+
+    private Buffer buffer() {
+        if (buffer == null) {
+            buffer = Buffer.buffer(BUFFER_SIZE);
+        }
+        return buffer;
+    }
+
+    private void writeBuffer() throws IOException {
+        Buffer chunk = buffer;
+        // Vert.x keeps a reference to the written buffers
+        buffer = null;
+        response.writeBody(chunk, false);
+    }
+
+    private void checkNotClosed() throws IOException {
+        if (closed) {
+            throw new IOException("The stream is closed");
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.SecurityContext;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.core.ResteasyContext;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.quarkus.arc.ManagedContext;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Dispatches the requests to RESTEasy directly from the Vert.x router, without the Servlet layer.
+ * <p>
+ * The body is read on the event loop, then the request is dispatched on the main executor with the request context
+ * active. If RESTEasy is deployed at the root path, the GET and HEAD requests the dispatcher finds no resource for are
+ * passed back to the next route on the event loop, e.g. the static resources, as
+ * {@link io.quarkus.resteasy.runtime.ResteasyFilter} does.
+ * <p>
+ * The requests with a body larger than the maximum size are rejected with a 413 status, before reading the body if
+ * the request declares its length.
+ */
+public class VertxRequestHandler implements Handler<RoutingContext> {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
+
+    private final ResteasyDeployment deployment;
+    private final SynchronousDispatcher dispatcher;
+    private final ManagedContext requestContext;
+    private final Executor executor;
+    private final String rootPath;
+    private final boolean fallThrough;
+    private final long maxBodySize;
+
+    public VertxRequestHandler(ResteasyDeployment deployment, ManagedContext requestContext, Executor executor,
+            String rootPath, long maxBodySize) {
+        this.deployment = deployment;
+        this.dispatcher = (SynchronousDispatcher) deployment.getDispatcher();
+        this.requestContext = requestContext;
+        this.executor = executor;
+        this.rootPath = rootPath;
+        this.fallThrough = rootPath.equals("/");
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        HttpServerRequest request = routingContext.request();
+        if (routingContext.getBody() != null) {
+            // Already read by a body handler
+            if (routingContext.getBody().length() > maxBodySize) {
+                rejectTooLarge(routingContext);
+            } else {
+                dispatch(routingContext, routingContext.getBody());
+            }
+            return;
+        }
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null && isTooLarge(contentLength)) {
+            rejectTooLarge(routingContext);
+            return;
+        }
+        new BodyReader(routingContext).read();
+    }
+
+    private boolean isTooLarge(String contentLength) {
+        try {
+            return Long.parseLong(contentLength) > maxBodySize;
+        } catch (NumberFormatException e) {
+            // Left to the body reader
+            return false;
+        }
+    }
+
+    private static void rejectTooLarge(RoutingContext routingContext) {
+        // The rest of the body is not read, so the connection cannot be reused
+        routingContext.response().setStatusCode(413).putHeader(HttpHeaders.CONNECTION, "close").end();
+    }
+
+    private void dispatch(RoutingContext routingContext, Buffer body) {
+        // The event loop context of the request, to pass the request to the next route
+        Context context = Vertx.currentContext();
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    invoke(routingContext, body, context);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            routingContext.fail(503);
+        }
+    }
+
+    private void invoke(RoutingContext routingContext, Buffer body, Context context) {
+        HttpServerRequest request = routingContext.request();
+        VertxHttpResponse response = new VertxHttpResponse(request.response(), deployment.getProviderFactory());
+        VertxHttpRequest resteasyRequest = createRequest(routingContext, response);
+        if (body.length() > 0) {
+            resteasyRequest.setInputStream(new ByteBufInputStream(body.getByteBuf()));
+        }
+        boolean notFound = false;
+        requestContext.activate();
+        try {
+            ResteasyContext.pushContext(SecurityContext.class, new AnonymousSecurityContext(request.isSSL()));
+            ResteasyContext.pushContext(RoutingContext.class, routingContext);
+            // A suspended request keeps this thread until it is resumed, the dispatcher only returns afterwards
+            if (fallThrough && (request.method() == HttpMethod.GET || request.method() == HttpMethod.HEAD)) {
+                dispatcher.invokePropagateNotFound(resteasyRequest, response);
+            } else {
+                dispatcher.invoke(resteasyRequest, response);
+            }
+        } catch (NotFoundException e) {
+            // No matching resource, nothing was written
+            notFound = true;
+        } catch (Throwable t) {
+            log.error("Failed to process the request " + request.uri(), t);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(500);
+            }
+        } finally {
+            if (notFound) {
+                ResteasyContext.clearContextData();
+            } else {
+                try {
+                    response.finish();
+                } catch (IOException e) {
+                    log.debug("Failed to complete the response", e);
+                }
+            }
+            requestContext.terminate();
+        }
+        if (notFound) {
+            context.runOnContext(v -> routingContext.next());
+        }
+    }
+
+    private VertxHttpRequest createRequest(RoutingContext routingContext, VertxHttpResponse response) {
+        HttpServerRequest request = routingContext.request();
+        return new VertxHttpRequest(routingContext, VertxUtil.extractHttpHeaders(request),
+                VertxUtil.extractUriInfo(request, rootPath), request.rawMethod(), dispatcher, response);
+    }
+
+    /**
+     * Reads the body of a request, up to the maximum size.
+     */
+    private final class BodyReader {
+
+        private final RoutingContext routingContext;
+        private final Buffer body = Buffer.buffer();
+        private boolean tooLarge;
+
+        BodyReader(RoutingContext routingContext) {
+            this.routingContext = routingContext;
+        }
+
+        void read() {
+            HttpServerRequest request = routingContext.request();
+            request.handler(chunk -> {
+                if (tooLarge) {
+                    return;
+                }
+                if (body.length() + chunk.length() > maxBodySize) {
+                    tooLarge = true;
+                    rejectTooLarge(routingContext);
+                    return;
+                }
+                body.appendBuffer(chunk);
+            });
+            request.endHandler(v -> {
+                if (!tooLarge) {
+                    dispatch(routingContext, body);
+                }
+            });
+        }
+    }
+
+    /**
+     * There is no authentication without the Servlet layer.
+     */
+    private static final class AnonymousSecurityContext implements SecurityContext {
+
+        private final boolean secure;
+
+        AnonymousSecurityContext(boolean secure) {
+            this.secure = secure;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return false;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return secure;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return null;
+        }
+    }
+
+}
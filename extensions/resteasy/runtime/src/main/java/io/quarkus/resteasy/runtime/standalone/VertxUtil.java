@@ -0,0 +1,60 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.HttpHeaders;
+
+import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Converts the Vert.x request metadata to their RESTEasy counterparts, like
+ * {@code org.jboss.resteasy.plugins.server.servlet.ServletUtil} does for the Servlet API.
+ */
+final class VertxUtil {
+
+    private VertxUtil() {
+    }
+
+    /**
+     * @param rootPath the path RESTEasy is deployed at, e.g. {@code /api}
+     */
+    static ResteasyUriInfo extractUriInfo(HttpServerRequest request, String rootPath) {
+        String contextPath = rootPath.equals("/") ? "" : rootPath;
+        return new ResteasyUriInfo(request.absoluteURI(), contextPath);
+    }
+
+    static ResteasyHttpHeaders extractHttpHeaders(HttpServerRequest request) {
+        Headers<String> headers = new Headers<>();
+        for (Map.Entry<String, String> header : request.headers()) {
+            headers.add(header.getKey(), header.getValue());
+        }
+        ResteasyHttpHeaders httpHeaders = new ResteasyHttpHeaders(headers);
+        httpHeaders.setCookies(extractCookies(request));
+        return httpHeaders;
+    }
+
+    private static Map<String, Cookie> extractCookies(HttpServerRequest request) {
+        Map<String, Cookie> cookies = new HashMap<>();
+        for (String header : request.headers().getAll(HttpHeaders.COOKIE)) {
+            for (String pair : header.split(";")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    String name = pair.substring(0, equals).trim();
+                    String value = pair.substring(equals + 1).trim();
+                    if (value.length() > 1 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+                        value = value.substring(1, value.length() - 1);
+                    }
+                    cookies.put(name, new Cookie(name, value));
+                }
+            }
+        }
+        return cookies;
+    }
+
+}
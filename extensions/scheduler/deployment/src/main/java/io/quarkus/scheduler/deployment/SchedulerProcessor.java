@@ -1,5 +1,6 @@
 package io.quarkus.scheduler.deployment;
 
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
 import java.text.ParseException;
@@ -42,12 +43,15 @@ import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AnnotationProxyBuildItem;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
 import io.quarkus.deployment.util.HashUtil;
@@ -60,8 +64,12 @@ import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.runtime.QuartzScheduler;
 import io.quarkus.scheduler.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.SchedulerBuildTimeConfig;
+import io.quarkus.scheduler.runtime.SchedulerBuildTimeConfig.Backend;
 import io.quarkus.scheduler.runtime.SchedulerConfiguration;
 import io.quarkus.scheduler.runtime.SchedulerDeploymentRecorder;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
+import io.quarkus.scheduler.runtime.SimpleScheduler;
 
 /**
  * @author Martin Kouba
@@ -76,11 +84,14 @@ public class SchedulerProcessor {
     static final Type SCHEDULED_EXECUTION_TYPE = Type.create(DotName.createSimple(ScheduledExecution.class.getName()),
             Kind.CLASS);
 
+    static final DotName METRIC_REGISTRY_NAME = DotName.createSimple("org.eclipse.microprofile.metrics.MetricRegistry");
+
     static final String INVOKER_SUFFIX = "_ScheduledInvoker";
 
     @BuildStep
-    AdditionalBeanBuildItem beans() {
-        return new AdditionalBeanBuildItem(SchedulerConfiguration.class, QuartzScheduler.class);
+    AdditionalBeanBuildItem beans(SchedulerBuildTimeConfig config) {
+        return new AdditionalBeanBuildItem(SchedulerConfiguration.class,
+                config.backend == Backend.SIMPLE ? SimpleScheduler.class : QuartzScheduler.class);
     }
 
     @BuildStep
@@ -116,8 +127,11 @@ public class SchedulerProcessor {
     }
 
     @BuildStep
-    List<ReflectiveClassBuildItem> reflectiveClasses() {
+    List<ReflectiveClassBuildItem> reflectiveClasses(SchedulerBuildTimeConfig config) {
         List<ReflectiveClassBuildItem> reflectiveClasses = new ArrayList<>();
+        if (config.backend == Backend.SIMPLE) {
+            return reflectiveClasses;
+        }
         reflectiveClasses.add(new ReflectiveClassBuildItem(false, false, CascadingClassLoadHelper.class.getName()));
         reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, SimpleThreadPool.class.getName()));
         reflectiveClasses.add(new ReflectiveClassBuildItem(true, false, RAMJobStore.class.getName()));
@@ -186,9 +200,16 @@ public class SchedulerProcessor {
     }
 
     @BuildStep
-    public List<UnremovableBeanBuildItem> unremovableBeans() {
-        return Arrays.asList(new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULED_NAME)),
-                new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULES_NAME)));
+    public List<UnremovableBeanBuildItem> unremovableBeans(Capabilities capabilities) {
+        List<UnremovableBeanBuildItem> unremovableBeans = new ArrayList<>(
+                Arrays.asList(new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULED_NAME)),
+                        new UnremovableBeanBuildItem(new BeanClassAnnotationExclusion(SCHEDULES_NAME))));
+        if (capabilities.isCapabilityPresent(Capabilities.METRICS)) {
+            // The metrics of the schedules are registered programmatically
+            unremovableBeans.add(new UnremovableBeanBuildItem(
+                    bean -> bean.getTypes().stream().anyMatch(type -> type.name().equals(METRIC_REGISTRY_NAME))));
+        }
+        return unremovableBeans;
     }
 
     @BuildStep
@@ -224,6 +245,15 @@ public class SchedulerProcessor {
         recorder.registerSchedules(scheduleConfigurations, beanContainer.getValue());
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    public ServiceStartBuildItem configureRuntime(SchedulerDeploymentRecorder recorder, SchedulerRuntimeConfig runtimeConfig,
+            ExecutorBuildItem executor, Capabilities capabilities, BeanContainerBuildItem beanContainer) {
+        recorder.configureRuntime(runtimeConfig, executor.getExecutorProxy(),
+                capabilities.isCapabilityPresent(Capabilities.METRICS), beanContainer.getValue());
+        return new ServiceStartBuildItem("scheduler");
+    }
+
     @BuildStep
     public void logCleanup(BuildProducer<LogCleanupFilterBuildItem> logCleanupFilter) {
         logCleanupFilter.produce(new LogCleanupFilterBuildItem("org.quartz.impl.StdSchedulerFactory",
@@ -304,6 +334,10 @@ public class SchedulerProcessor {
     }
 
     private Throwable validateScheduled(AnnotationInstance schedule) {
+        AnnotationValue maxConcurrentExecutions = schedule.value("maxConcurrentExecutions");
+        if (maxConcurrentExecutions != null && maxConcurrentExecutions.asInt() < 1) {
+            return new IllegalStateException("maxConcurrentExecutions() must be at least 1: " + schedule);
+        }
         AnnotationValue cronValue = schedule.value("cron");
         if (cronValue != null && !cronValue.asString().trim().isEmpty()) {
             String cron = cronValue.asString().trim();
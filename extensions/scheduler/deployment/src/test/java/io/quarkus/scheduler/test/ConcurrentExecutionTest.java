@@ -0,0 +1,61 @@
+package io.quarkus.scheduler.test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testSkipConcurrentExecution() throws InterruptedException {
+        Assertions.assertTrue(Jobs.STARTED.await(5, TimeUnit.SECONDS));
+        // Another schedule with the same period fires twice, so the trigger fires while the first execution is blocked
+        Assertions.assertTrue(Jobs.TICKS.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, Jobs.COUNTER.get());
+        Jobs.RELEASE.countDown();
+        Assertions.assertTrue(Jobs.COMPLETED.await(5, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+        static final CountDownLatch STARTED = new CountDownLatch(1);
+        static final CountDownLatch TICKS = new CountDownLatch(2);
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+        static final CountDownLatch COMPLETED = new CountDownLatch(1);
+
+        @Scheduled(every = "1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void blocking() throws InterruptedException {
+            if (COUNTER.incrementAndGet() == 1) {
+                STARTED.countDown();
+                RELEASE.await(10, TimeUnit.SECONDS);
+            } else {
+                COMPLETED.countDown();
+            }
+        }
+
+        @Scheduled(every = "1s")
+        void tick() {
+            if (STARTED.getCount() == 0) {
+                TICKS.countDown();
+            }
+        }
+
+    }
+
+}
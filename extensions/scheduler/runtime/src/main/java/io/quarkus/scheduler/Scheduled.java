@@ -79,6 +79,46 @@ public @interface Scheduled {
      */
     TimeUnit delayUnit() default TimeUnit.MINUTES;
 
+    /**
+     * Defines what happens when the trigger fires while {@link #maxConcurrentExecutions()} executions of this schedule are
+     * still running. By default, the method is executed anyway.
+     *
+     * @return the concurrent execution policy
+     */
+    ConcurrentExecution concurrentExecution() default ConcurrentExecution.ALLOW;
+
+    /**
+     * The maximum number of executions of this schedule running at the same time, if the
+     * {@link #concurrentExecution()} policy is {@link ConcurrentExecution#SKIP} or {@link ConcurrentExecution#QUEUE}.
+     *
+     * @return the maximum number of concurrent executions
+     */
+    int maxConcurrentExecutions() default 1;
+
+    /**
+     * The policy applied when a trigger fires while the previous executions are still running.
+     */
+    enum ConcurrentExecution {
+
+        /**
+         * The method is executed, whatever the number of executions already running.
+         */
+        ALLOW,
+
+        /**
+         * The firing is skipped if the maximum number of concurrent executions is reached.
+         */
+        SKIP,
+
+        /**
+         * The execution is delayed until one of the running executions completes, if the maximum number of concurrent
+         * executions is reached. At most one execution is delayed: a later firing replaces it, and the replaced firing is
+         * skipped.
+         */
+        QUEUE
+
+    }
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface Schedules {
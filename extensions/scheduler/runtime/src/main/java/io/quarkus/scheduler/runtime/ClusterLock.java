@@ -0,0 +1,126 @@
+package io.quarkus.scheduler.runtime;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * A lock stored in a database table, which lets a single application instance execute each firing of a scheduled business
+ * method.
+ * <p>
+ * The instance firing first holds the lock until halfway to the next fire time: the other instances firing the same
+ * trigger within this window, i.e. with a clock skew of less than half the period, skip the execution. The lock is not
+ * released after the execution, so that an execution shorter than the skew is not repeated. This relies on all the
+ * instances having the same fire times, which is why the {@code every()} schedules are aligned to the epoch in the cluster
+ * mode.
+ *
+ * @see SchedulerRuntimeConfig.ClusterConfig
+ */
+class ClusterLock {
+
+    private static final Logger LOGGER = Logger.getLogger(ClusterLock.class.getName());
+
+    // The lock duration when there is no next fire time
+    private static final Duration DEFAULT_LOCK_DURATION = Duration.ofMinutes(1);
+
+    private final String updateSql;
+    private final String insertSql;
+    private final String nodeName;
+
+    private volatile DataSource dataSource;
+
+    ClusterLock(SchedulerRuntimeConfig.ClusterConfig config) {
+        this.updateSql = "UPDATE " + config.lockTable
+                + " SET LOCKED_UNTIL = ?, LOCKED_BY = ? WHERE NAME = ? AND LOCKED_UNTIL <= ?";
+        this.insertSql = "INSERT INTO " + config.lockTable + " (NAME, LOCKED_UNTIL, LOCKED_BY) VALUES (?, ?, ?)";
+        this.nodeName = config.nodeName.orElseGet(ClusterLock::defaultNodeName);
+    }
+
+    /**
+     * @param name the name of the lock, which is the same for all the application instances
+     * @param fireTime the time the trigger fired
+     * @param nextFireTime the next time the trigger fires, or {@code null}
+     * @return {@code true} if this instance acquired the lock and should execute the business method
+     */
+    boolean tryAcquire(String name, Instant fireTime, Instant nextFireTime) {
+        Instant lockedUntil = nextFireTime != null
+                ? fireTime.plus(Duration.between(fireTime, nextFireTime).dividedBy(2))
+                : fireTime.plus(DEFAULT_LOCK_DURATION);
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(true);
+            try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+                update.setTimestamp(1, Timestamp.from(lockedUntil));
+                update.setString(2, nodeName);
+                update.setString(3, name);
+                update.setTimestamp(4, Timestamp.from(fireTime));
+                if (update.executeUpdate() > 0) {
+                    return true;
+                }
+            }
+            // Either the lock is held or it was never taken
+            try (PreparedStatement insert = connection.prepareStatement(insertSql)) {
+                insert.setString(1, name);
+                insert.setTimestamp(2, Timestamp.from(lockedUntil));
+                insert.setString(3, nodeName);
+                insert.executeUpdate();
+                return true;
+            } catch (SQLException e) {
+                if (!isIntegrityViolation(e)) {
+                    throw e;
+                }
+                // Duplicate key: another instance holds the lock
+                LOGGER.debugf("Lock %s not acquired by %s: %s", name, nodeName, e.getMessage());
+                return false;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the scheduler lock " + name, e);
+        }
+    }
+
+    /**
+     * @return whether the error is an integrity constraint violation, i.e. SQLSTATE class 23
+     */
+    private static boolean isIntegrityViolation(SQLException e) {
+        if (e instanceof SQLIntegrityConstraintViolationException) {
+            return true;
+        }
+        String state = e.getSQLState();
+        return state != null && state.startsWith("23");
+    }
+
+    private DataSource getDataSource() {
+        DataSource dataSource = this.dataSource;
+        if (dataSource == null) {
+            InstanceHandle<DataSource> handle = Arc.container().instance(DataSource.class);
+            if (!handle.isAvailable()) {
+                throw new IllegalStateException("The scheduler cluster lock requires a default datasource");
+            }
+            this.dataSource = dataSource = handle.get();
+        }
+        return dataSource;
+    }
+
+    private static String defaultNodeName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID();
+    }
+}
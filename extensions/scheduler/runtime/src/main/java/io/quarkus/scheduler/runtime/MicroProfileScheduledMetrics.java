@@ -0,0 +1,49 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * The metrics of a schedule registered in the application registry of MicroProfile Metrics. This class is only loaded if
+ * the metrics extension is present.
+ */
+class MicroProfileScheduledMetrics implements ScheduledMetrics {
+
+    private final Counter skipped;
+    private final Counter delayed;
+    private final Timer executions;
+
+    /**
+     *
+     * @param description the description of the business method, used as the {@code method} tag
+     */
+    MicroProfileScheduledMetrics(String description) {
+        MetricRegistry registry = Arc.container().instance(MetricRegistry.class).get();
+        Tag method = new Tag("method", description);
+        this.skipped = registry.counter("scheduler.executions.skipped", method);
+        this.delayed = registry.counter("scheduler.executions.delayed", method);
+        this.executions = registry.timer("scheduler.executions", method);
+    }
+
+    @Override
+    public void skipped() {
+        skipped.inc();
+    }
+
+    @Override
+    public void delayed() {
+        delayed.inc();
+    }
+
+    @Override
+    public void executed(long durationNanos) {
+        executions.update(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+}
@@ -17,8 +17,6 @@ import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Typed;
 import javax.inject.Inject;
 
-import org.eclipse.microprofile.config.Config;
-import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 import org.quartz.CronScheduleBuilder;
 import org.quartz.Job;
@@ -58,7 +56,7 @@ public class QuartzScheduler implements Scheduler {
 
     private org.quartz.Scheduler scheduler;
 
-    private final Map<String, ScheduledInvoker> invokers = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledTask> tasks = new ConcurrentHashMap<>();
 
     private final AtomicInteger timerIdx = new AtomicInteger();
 
@@ -120,7 +118,8 @@ public class QuartzScheduler implements Scheduler {
                 props.put("org.quartz.scheduler.rmi.proxy", false);
                 props.put("org.quartz.scheduler.wrapJobExecutionInUserTransaction", false);
                 props.put("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
-                props.put("org.quartz.threadPool.threadCount", "10");
+                props.put("org.quartz.threadPool.threadCount",
+                        String.valueOf(schedulerConfig.getRuntimeConfig().threadCount));
                 props.put("org.quartz.threadPool.threadPriority", "5");
                 props.put("org.quartz.threadPool.threadsInheritContextClassLoaderOfInitializingThread", true);
                 props.put("org.quartz.threadPool.threadPriority", "5");
@@ -147,46 +146,28 @@ public class QuartzScheduler implements Scheduler {
 
                 for (Entry<String, List<Scheduled>> entry : schedulerConfig.getSchedules().entrySet()) {
 
-                    Config config = ConfigProvider.getConfig();
                     int idx = 1;
 
                     for (Scheduled scheduled : entry.getValue()) {
 
                         // Job name: 1_MyService_Invoker
                         String name = idx++ + "_" + entry.getKey();
+                        tasks.put(name, schedulerConfig.createTask(name, entry.getKey(), scheduled));
                         JobBuilder jobBuilder = JobBuilder.newJob(InvokerJob.class)
-                                .withIdentity(name, Scheduler.class.getName())
-                                .usingJobData(SchedulerDeploymentRecorder.INVOKER_KEY, entry.getKey());
+                                .withIdentity(name, Scheduler.class.getName());
                         ScheduleBuilder<?> scheduleBuilder;
 
-                        String cron = scheduled.cron().trim();
-                        if (!cron.isEmpty()) {
+                        Duration every = null;
+                        if (!scheduled.cron().trim().isEmpty()) {
                             try {
-                                if (SchedulerConfiguration.isConfigValue(cron)) {
-                                    cron = config.getValue(SchedulerConfiguration.getConfigProperty(cron), String.class);
-                                }
-                                scheduleBuilder = CronScheduleBuilder.cronSchedule(cron);
+                                scheduleBuilder = CronScheduleBuilder.cronSchedule(SchedulerConfiguration.getCron(scheduled));
                             } catch (RuntimeException e) {
                                 // This should only happen for config-based expressions
                                 throw new IllegalStateException("Invalid cron() expression on: " + scheduled, e);
                             }
-                        } else if (!scheduled.every().isEmpty()) {
-                            String every = scheduled.every().trim();
-                            if (SchedulerConfiguration.isConfigValue(every)) {
-                                every = config.getValue(SchedulerConfiguration.getConfigProperty(every), String.class);
-                            }
-                            if (Character.isDigit(every.charAt(0))) {
-                                every = "PT" + every;
-                            }
-                            Duration duration;
-                            try {
-                                duration = Duration.parse(every);
-                            } catch (Exception e) {
-                                // This should only happen for config-based expressions
-                                throw new IllegalStateException("Invalid every() expression on: " + scheduled, e);
-                            }
+                        } else if ((every = SchedulerConfiguration.getEvery(scheduled)) != null) {
                             scheduleBuilder = SimpleScheduleBuilder.simpleSchedule()
-                                    .withIntervalInMilliseconds(duration.toMillis()).repeatForever();
+                                    .withIntervalInMilliseconds(every.toMillis()).repeatForever();
                         } else {
                             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
                         }
@@ -194,9 +175,15 @@ public class QuartzScheduler implements Scheduler {
                         TriggerBuilder<?> triggerBuilder = TriggerBuilder.newTrigger()
                                 .withIdentity(name + "_trigger", Scheduler.class.getName())
                                 .withSchedule(scheduleBuilder);
+                        Instant start = null;
                         if (scheduled.delay() > 0) {
-                            triggerBuilder.startAt(new Date(Instant.now()
-                                    .plusMillis(scheduled.delayUnit().toMillis(scheduled.delay())).toEpochMilli()));
+                            start = Instant.now().plusMillis(scheduled.delayUnit().toMillis(scheduled.delay()));
+                        }
+                        if (every != null && schedulerConfig.getClusterLock() != null) {
+                            start = SchedulerConfiguration.alignToEpoch(start != null ? start : Instant.now(), every);
+                        }
+                        if (start != null) {
+                            triggerBuilder.startAt(new Date(start.toEpochMilli()));
                         }
                         scheduler.scheduleJob(jobBuilder.build(), triggerBuilder.build());
                         LOGGER.debugf("Scheduled business method %s with config %s",
@@ -245,8 +232,7 @@ public class QuartzScheduler implements Scheduler {
                     return previousFireTime != null ? previousFireTime.toInstant() : null;
                 }
             };
-            String invokerClass = context.getJobDetail().getJobDataMap().getString(SchedulerDeploymentRecorder.INVOKER_KEY);
-            invokers.computeIfAbsent(invokerClass, schedulerConfig::createInvoker).invoke(new ScheduledExecution() {
+            tasks.get(context.getJobDetail().getKey().getName()).execute(new ScheduledExecution() {
 
                 @Override
                 public Trigger getTrigger() {
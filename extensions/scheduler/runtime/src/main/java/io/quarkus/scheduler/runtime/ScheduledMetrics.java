@@ -0,0 +1,35 @@
+package io.quarkus.scheduler.runtime;
+
+/**
+ * The metrics of a schedule of a business method.
+ *
+ * @see MicroProfileScheduledMetrics
+ */
+interface ScheduledMetrics {
+
+    ScheduledMetrics NOOP = new ScheduledMetrics() {
+    };
+
+    /**
+     * A firing was skipped because of the {@link io.quarkus.scheduler.Scheduled.ConcurrentExecution#SKIP} policy, or a
+     * delayed execution was replaced because of the {@link io.quarkus.scheduler.Scheduled.ConcurrentExecution#QUEUE}
+     * policy.
+     */
+    default void skipped() {
+    }
+
+    /**
+     * An execution was queued because of the {@link io.quarkus.scheduler.Scheduled.ConcurrentExecution#QUEUE} policy.
+     */
+    default void delayed() {
+    }
+
+    /**
+     * An execution completed.
+     *
+     * @param durationNanos the duration of the execution
+     */
+    default void executed(long durationNanos) {
+    }
+
+}
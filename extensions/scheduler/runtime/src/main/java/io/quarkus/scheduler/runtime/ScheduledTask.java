@@ -0,0 +1,131 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+
+/**
+ * Executes the firings of a schedule of a business method, according to its {@link Scheduled#concurrentExecution()} policy.
+ * It is shared by the scheduler backends.
+ */
+class ScheduledTask {
+
+    private static final Logger LOGGER = Logger.getLogger(ScheduledTask.class.getName());
+
+    private final String name;
+    private final String description;
+    private final ScheduledInvoker invoker;
+    private final ConcurrentExecution concurrentExecution;
+    private final ClusterLock clusterLock;
+    private final ScheduledMetrics metrics;
+
+    // The permits of the running executions, not used by ALLOW
+    private final Semaphore permits;
+    // The execution delayed by QUEUE, the later firings replace it so that a slow method does not accumulate executions
+    private final AtomicReference<ScheduledExecution> pending = new AtomicReference<>();
+
+    /**
+     *
+     * @param name the name of the schedule, which is the same for all the application instances
+     * @param description the description of the business method
+     * @param scheduled the schedule
+     * @param invoker the invoker of the business method
+     * @param clusterLock the lock shared by the application instances, or {@code null}
+     * @param metrics the metrics of the schedule
+     */
+    ScheduledTask(String name, String description, Scheduled scheduled, ScheduledInvoker invoker, ClusterLock clusterLock,
+            ScheduledMetrics metrics) {
+        this.name = name;
+        this.description = description;
+        this.invoker = invoker;
+        this.concurrentExecution = scheduled.concurrentExecution();
+        this.clusterLock = clusterLock;
+        this.metrics = metrics;
+        this.permits = concurrentExecution != ConcurrentExecution.ALLOW ? new Semaphore(scheduled.maxConcurrentExecutions())
+                : null;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Executes a firing of the trigger, on the calling thread unless it is skipped or queued.
+     */
+    void execute(ScheduledExecution execution) {
+        if (clusterLock != null && !clusterLock.tryAcquire(name, execution.getScheduledFireTime(),
+                execution.getTrigger().getNextFireTime())) {
+            return;
+        }
+        switch (concurrentExecution) {
+            case ALLOW:
+                invoke(execution);
+                break;
+            case SKIP:
+                if (permits.tryAcquire()) {
+                    try {
+                        invoke(execution);
+                    } finally {
+                        permits.release();
+                    }
+                } else {
+                    LOGGER.debugf("Skipped the execution of %s fired at %s: the previous ones are still running",
+                            description, execution.getFireTime());
+                    metrics.skipped();
+                }
+                break;
+            case QUEUE:
+                if (permits.tryAcquire()) {
+                    try {
+                        invoke(execution);
+                    } finally {
+                        permits.release();
+                    }
+                } else {
+                    if (pending.getAndSet(execution) != null) {
+                        LOGGER.debugf("Skipped a delayed execution of %s: it is replaced by the one fired at %s",
+                                description, execution.getFireTime());
+                        metrics.skipped();
+                    }
+                    metrics.delayed();
+                }
+                // The delayed execution runs on the thread of a completed one
+                drain();
+                break;
+            default:
+                throw new IllegalStateException("Unsupported concurrent execution policy: " + concurrentExecution);
+        }
+    }
+
+    private void drain() {
+        // Checking the pending execution after releasing a permit guarantees that an execution delayed concurrently is not
+        // forgotten
+        while (pending.get() != null && permits.tryAcquire()) {
+            try {
+                ScheduledExecution execution = pending.getAndSet(null);
+                if (execution != null) {
+                    invoke(execution);
+                }
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private void invoke(ScheduledExecution execution) {
+        long start = System.nanoTime();
+        try {
+            invoker.invoke(execution);
+        } catch (Throwable e) {
+            LOGGER.errorf(e, "Error occured while executing the scheduled business method %s", description);
+        } finally {
+            metrics.executed(System.nanoTime() - start);
+        }
+    }
+
+}
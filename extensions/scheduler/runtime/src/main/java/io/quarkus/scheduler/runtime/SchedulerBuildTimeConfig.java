@@ -0,0 +1,24 @@
+package io.quarkus.scheduler.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "scheduler", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class SchedulerBuildTimeConfig {
+
+    /**
+     * The implementation firing the scheduled business methods.
+     * <p>
+     * {@code quartz} relies on a Quartz scheduler with an in-memory job store. {@code simple} relies on a single timer
+     * thread which dispatches the executions to the Quarkus executor: it does not lock a job store for each execution
+     * and does not start a dedicated thread pool.
+     */
+    @ConfigItem(defaultValue = "quartz")
+    public Backend backend;
+
+    public enum Backend {
+        QUARTZ,
+        SIMPLE
+    }
+}
@@ -1,12 +1,17 @@
 package io.quarkus.scheduler.runtime;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 import javax.enterprise.context.ApplicationScoped;
 
+import org.eclipse.microprofile.config.ConfigProvider;
+
 import io.quarkus.scheduler.Scheduled;
 
 /**
@@ -20,6 +25,14 @@ public class SchedulerConfiguration {
 
     private final Map<String, String> descriptions = new ConcurrentHashMap<>();
 
+    private volatile SchedulerRuntimeConfig runtimeConfig;
+
+    private volatile ExecutorService executor;
+
+    private volatile ClusterLock clusterLock;
+
+    private volatile boolean metricsEnabled;
+
     void register(String invokerClassName, String description, List<Scheduled> schedules) {
         this.schedules.put(invokerClassName, schedules);
         this.descriptions.put(invokerClassName, description);
@@ -33,6 +46,42 @@ public class SchedulerConfiguration {
         return descriptions.get(invokerClassName);
     }
 
+    void configure(SchedulerRuntimeConfig runtimeConfig, ExecutorService executor, boolean metricsEnabled) {
+        this.runtimeConfig = runtimeConfig;
+        this.executor = executor;
+        this.clusterLock = runtimeConfig.cluster.enabled ? new ClusterLock(runtimeConfig.cluster) : null;
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    SchedulerRuntimeConfig getRuntimeConfig() {
+        return runtimeConfig;
+    }
+
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     *
+     * @return the lock shared by the application instances, or {@code null} if the cluster mode is disabled
+     */
+    ClusterLock getClusterLock() {
+        return clusterLock;
+    }
+
+    /**
+     *
+     * @param name the name of the schedule, which identifies it across the application instances
+     * @param invokerClassName the invoker of the business method
+     * @param scheduled the schedule
+     * @return the task executing the firings of the schedule
+     */
+    ScheduledTask createTask(String name, String invokerClassName, Scheduled scheduled) {
+        String description = getDescription(invokerClassName);
+        return new ScheduledTask(name, description, scheduled, createInvoker(invokerClassName), clusterLock,
+                metricsEnabled ? new MicroProfileScheduledMetrics(description) : ScheduledMetrics.NOOP);
+    }
+
     @SuppressWarnings("unchecked")
     ScheduledInvoker createInvoker(String invokerClassName) {
         try {
@@ -45,6 +94,61 @@ public class SchedulerConfiguration {
         }
     }
 
+    /**
+     *
+     * @return the cron expression of the schedule, resolved from the config if needed, or {@code null} if it does not
+     *         declare one
+     */
+    static String getCron(Scheduled scheduled) {
+        String cron = scheduled.cron().trim();
+        if (cron.isEmpty()) {
+            return null;
+        }
+        if (isConfigValue(cron)) {
+            cron = ConfigProvider.getConfig().getValue(getConfigProperty(cron), String.class);
+        }
+        return cron;
+    }
+
+    /**
+     *
+     * @return the period of the schedule, resolved from the config if needed, or {@code null} if it does not declare one
+     */
+    static Duration getEvery(Scheduled scheduled) {
+        String every = scheduled.every().trim();
+        if (every.isEmpty()) {
+            return null;
+        }
+        if (isConfigValue(every)) {
+            every = ConfigProvider.getConfig().getValue(getConfigProperty(every), String.class);
+        }
+        if (Character.isDigit(every.charAt(0))) {
+            every = "PT" + every;
+        }
+        try {
+            return Duration.parse(every);
+        } catch (Exception e) {
+            // This should only happen for config-based expressions
+            throw new IllegalStateException("Invalid every() expression on: " + scheduled, e);
+        }
+    }
+
+    /**
+     * The fire times of an {@code every()} schedule depend on the time the application instance started. In the cluster
+     * mode they are aligned to the epoch instead, so that all the instances fire at the same times and compete for the
+     * same lock.
+     *
+     * @return the first multiple of the period, since the epoch, at or after the start
+     */
+    static Instant alignToEpoch(Instant start, Duration every) {
+        long period = every.toMillis();
+        if (period <= 0) {
+            return start;
+        }
+        long remainder = Math.floorMod(start.toEpochMilli(), period);
+        return remainder == 0 ? start : Instant.ofEpochMilli(start.toEpochMilli() - remainder + period);
+    }
+
     public static String getConfigProperty(String val) {
         return val.substring(1, val.length() - 1);
     }
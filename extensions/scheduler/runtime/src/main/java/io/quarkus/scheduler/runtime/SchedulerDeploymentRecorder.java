@@ -2,6 +2,7 @@ package io.quarkus.scheduler.runtime;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.annotations.Recorder;
@@ -27,4 +28,9 @@ public class SchedulerDeploymentRecorder {
         }
     }
 
+    public void configureRuntime(SchedulerRuntimeConfig runtimeConfig, ExecutorService executor, boolean metricsEnabled,
+            BeanContainer container) {
+        container.instance(SchedulerConfiguration.class).configure(runtimeConfig, executor, metricsEnabled);
+    }
+
 }
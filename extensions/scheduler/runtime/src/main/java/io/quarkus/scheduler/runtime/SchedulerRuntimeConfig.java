@@ -0,0 +1,57 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "scheduler", phase = ConfigPhase.RUN_TIME)
+public class SchedulerRuntimeConfig {
+
+    /**
+     * The number of threads of the Quartz scheduler, i.e. the maximum number of scheduled business methods executed
+     * concurrently. The {@code simple} backend executes them on the Quarkus executor instead.
+     */
+    @ConfigItem(defaultValue = "10")
+    public int threadCount;
+
+    /**
+     * The coordination of the application instances sharing a database.
+     */
+    @ConfigItem
+    public ClusterConfig cluster;
+
+    @ConfigGroup
+    public static class ClusterConfig {
+
+        /**
+         * If enabled, each firing of a scheduled business method is executed by a single application instance: the
+         * instances take a lock in the default datasource before each execution, and skip it if another instance already
+         * holds the lock.
+         * <p>
+         * The lock table must exist:
+         *
+         * <pre>
+         * CREATE TABLE QUARKUS_SCHEDULER_LOCK (NAME VARCHAR(255) NOT NULL PRIMARY KEY, LOCKED_UNTIL TIMESTAMP NOT NULL,
+         *         LOCKED_BY VARCHAR(255) NOT NULL)
+         * </pre>
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The name of the lock table.
+         */
+        @ConfigItem(defaultValue = "QUARKUS_SCHEDULER_LOCK")
+        public String lockTable;
+
+        /**
+         * The name of this application instance, recorded in the lock table. Defaults to the host name followed by a
+         * random identifier.
+         */
+        @ConfigItem
+        public Optional<String> nodeName;
+    }
+}
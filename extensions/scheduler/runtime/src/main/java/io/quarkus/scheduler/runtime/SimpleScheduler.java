@@ -0,0 +1,218 @@
+package io.quarkus.scheduler.runtime;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Typed;
+import javax.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.quartz.CronExpression;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.Trigger;
+
+/**
+ * A scheduler relying on a single timer thread, which computes the fire times and dispatches the executions to the Quarkus
+ * executor. Unlike {@link QuartzScheduler}, firing a trigger does not involve a job store.
+ *
+ * @see SchedulerBuildTimeConfig.Backend#SIMPLE
+ */
+@Typed(Scheduler.class)
+@ApplicationScoped
+public class SimpleScheduler implements Scheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class.getName());
+
+    @Inject
+    SchedulerConfiguration schedulerConfig;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private volatile boolean paused;
+
+    private ScheduledExecutorService timer;
+
+    @Override
+    public void pause() {
+        paused = true;
+    }
+
+    @Override
+    public void resume() {
+        paused = false;
+    }
+
+    @Override
+    public void startTimer(long delay, Runnable action) {
+        if (running.get()) {
+            timer.schedule(() -> schedulerConfig.getExecutor().execute(action), delay, TimeUnit.MILLISECONDS);
+        } else {
+            LOGGER.warn("Scheduler not running");
+        }
+    }
+
+    void start(@Observes StartupEvent startupEvent) {
+        if (running.compareAndSet(false, true)) {
+            timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "quarkus-scheduler-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            Instant now = Instant.now();
+            for (Entry<String, List<Scheduled>> entry : schedulerConfig.getSchedules().entrySet()) {
+                int idx = 1;
+                for (Scheduled scheduled : entry.getValue()) {
+                    // Same name as the Quartz job, which identifies the cluster lock
+                    String name = idx++ + "_" + entry.getKey();
+                    Instant start = scheduled.delay() > 0
+                            ? now.plusMillis(scheduled.delayUnit().toMillis(scheduled.delay()))
+                            : now;
+                    Schedule schedule = createSchedule(scheduled);
+                    // every() fires at the start like a Quartz simple trigger, cron() at its first valid time
+                    Instant first;
+                    if (!scheduled.cron().trim().isEmpty()) {
+                        first = schedule.next(start);
+                    } else if (schedulerConfig.getClusterLock() != null) {
+                        first = SchedulerConfiguration.alignToEpoch(start, SchedulerConfiguration.getEvery(scheduled));
+                    } else {
+                        first = start;
+                    }
+                    new ScheduledTrigger(schedulerConfig.createTask(name, entry.getKey(), scheduled), schedule, first)
+                            .scheduleNext();
+                    LOGGER.debugf("Scheduled business method %s with config %s",
+                            schedulerConfig.getDescription(entry.getKey()), scheduled);
+                }
+            }
+        } else {
+            LOGGER.warnf("Unable to start scheduler - already started");
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (running.compareAndSet(true, false)) {
+            if (timer != null) {
+                timer.shutdownNow();
+            }
+        }
+    }
+
+    private static Schedule createSchedule(Scheduled scheduled) {
+        if (!scheduled.cron().trim().isEmpty()) {
+            CronExpression cron;
+            try {
+                cron = new CronExpression(SchedulerConfiguration.getCron(scheduled));
+            } catch (ParseException | RuntimeException e) {
+                // This should only happen for config-based expressions
+                throw new IllegalStateException("Invalid cron() expression on: " + scheduled, e);
+            }
+            return after -> {
+                Date next = cron.getNextValidTimeAfter(Date.from(after));
+                return next != null ? next.toInstant() : null;
+            };
+        }
+        Duration every = SchedulerConfiguration.getEvery(scheduled);
+        if (every == null) {
+            throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
+        }
+        return after -> after.plus(every);
+    }
+
+    /**
+     * Computes the fire times of a trigger.
+     */
+    @FunctionalInterface
+    interface Schedule {
+
+        /**
+         *
+         * @return the first fire time after the given time, or {@code null} if the trigger does not fire anymore
+         */
+        Instant next(Instant after);
+
+    }
+
+    /**
+     * The state of a trigger, only updated by the timer thread.
+     */
+    class ScheduledTrigger implements Trigger {
+
+        private final ScheduledTask task;
+        private final Schedule schedule;
+
+        private volatile Instant nextFireTime;
+        private volatile Instant previousFireTime;
+
+        ScheduledTrigger(ScheduledTask task, Schedule schedule, Instant first) {
+            this.task = task;
+            this.schedule = schedule;
+            this.nextFireTime = first;
+        }
+
+        void scheduleNext() {
+            if (nextFireTime == null || !running.get()) {
+                return;
+            }
+            long delay = Math.max(0, Duration.between(Instant.now(), nextFireTime).toMillis());
+            timer.schedule(this::fire, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void fire() {
+            Instant scheduledFireTime = nextFireTime;
+            Instant fireTime = Instant.now();
+            previousFireTime = scheduledFireTime;
+            // Skip the fire times missed while the timer was late rather than firing them all at once
+            Instant next = schedule.next(scheduledFireTime);
+            nextFireTime = next != null && next.isBefore(fireTime) ? schedule.next(fireTime) : next;
+            scheduleNext();
+
+            if (paused) {
+                return;
+            }
+            schedulerConfig.getExecutor().execute(() -> task.execute(new ScheduledExecution() {
+
+                @Override
+                public Trigger getTrigger() {
+                    return ScheduledTrigger.this;
+                }
+
+                @Override
+                public Instant getScheduledFireTime() {
+                    return scheduledFireTime;
+                }
+
+                @Override
+                public Instant getFireTime() {
+                    return fireTime;
+                }
+            }));
+        }
+
+        @Override
+        public Instant getNextFireTime() {
+            return nextFireTime;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            return previousFireTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,190 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.Trigger;
+
+public class ScheduledTaskTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<ScheduledExecution> executions = new CopyOnWriteArrayList<>();
+    private final RecordingMetrics metrics = new RecordingMetrics();
+
+    @AfterEach
+    public void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSkip() throws Exception {
+        ScheduledTask task = createTask("skip");
+        Execution first = new Execution(1);
+        Execution second = new Execution(2);
+
+        Future<?> running = executor.submit(() -> task.execute(first));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        task.execute(second);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList(first), executions);
+        assertEquals(1, metrics.skipped.get());
+        assertEquals(0, metrics.delayed.get());
+        assertEquals(1, metrics.executed.get());
+    }
+
+    @Test
+    public void testQueueKeepsOneDelayedExecution() throws Exception {
+        ScheduledTask task = createTask("queue");
+        Execution first = new Execution(1);
+        Execution second = new Execution(2);
+        Execution third = new Execution(3);
+
+        Future<?> running = executor.submit(() -> task.execute(first));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        task.execute(second);
+        // replaces the second execution
+        task.execute(third);
+        assertEquals(Arrays.asList(first), executions);
+        release.countDown();
+        // the delayed execution runs on the thread of the first one
+        running.get(5, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList(first, third), executions);
+        assertEquals(2, metrics.delayed.get());
+        assertEquals(1, metrics.skipped.get());
+        assertEquals(2, metrics.executed.get());
+
+        // nothing is left to run
+        Execution fourth = new Execution(4);
+        task.execute(fourth);
+        assertEquals(Arrays.asList(first, third, fourth), executions);
+        assertEquals(3, metrics.executed.get());
+    }
+
+    @Test
+    public void testAllow() throws Exception {
+        ScheduledTask task = createTask("allow");
+        Execution first = new Execution(1);
+        Execution second = new Execution(2);
+
+        Future<?> running = executor.submit(() -> task.execute(first));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        task.execute(second);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList(first, second), executions);
+        assertEquals(0, metrics.skipped.get());
+        assertEquals(2, metrics.executed.get());
+    }
+
+    private ScheduledTask createTask(String method) throws NoSuchMethodException {
+        Scheduled scheduled = Jobs.class.getDeclaredMethod(method).getAnnotation(Scheduled.class);
+        return new ScheduledTask(method, method, scheduled, this::invoke, null, metrics);
+    }
+
+    private void invoke(ScheduledExecution execution) {
+        executions.add(execution);
+        if (((Execution) execution).id == 1) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class Jobs {
+
+        @Scheduled(every = "1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void skip() {
+        }
+
+        @Scheduled(every = "1s", concurrentExecution = ConcurrentExecution.QUEUE)
+        void queue() {
+        }
+
+        @Scheduled(every = "1s")
+        void allow() {
+        }
+
+    }
+
+    static class RecordingMetrics implements ScheduledMetrics {
+
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicInteger delayed = new AtomicInteger();
+        final AtomicInteger executed = new AtomicInteger();
+
+        @Override
+        public void skipped() {
+            skipped.incrementAndGet();
+        }
+
+        @Override
+        public void delayed() {
+            delayed.incrementAndGet();
+        }
+
+        @Override
+        public void executed(long durationNanos) {
+            executed.incrementAndGet();
+        }
+
+    }
+
+    static class Execution implements ScheduledExecution {
+
+        final int id;
+        final Instant fireTime = Instant.now();
+
+        Execution(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public Trigger getTrigger() {
+            return null;
+        }
+
+        @Override
+        public Instant getFireTime() {
+            return fireTime;
+        }
+
+        @Override
+        public Instant getScheduledFireTime() {
+            return fireTime;
+        }
+
+        @Override
+        public String toString() {
+            return "execution " + id;
+        }
+
+    }
+
+}
@@ -28,18 +28,23 @@ import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.smallrye.metrics.deployment.jandex.JandexBeanInfoAdapter;
 import io.quarkus.smallrye.metrics.deployment.jandex.JandexMemberInfoAdapter;
+import io.quarkus.smallrye.metrics.runtime.JvmMetricsSampler;
 import io.quarkus.smallrye.metrics.runtime.SmallRyeMetricsRecorder;
+import io.quarkus.smallrye.metrics.runtime.SmallRyeMetricsRuntimeConfig;
 import io.quarkus.smallrye.metrics.runtime.SmallRyeMetricsServlet;
 import io.quarkus.undertow.deployment.ServletBuildItem;
 import io.smallrye.metrics.MetricProducer;
@@ -74,7 +79,7 @@ public class SmallRyeMetricsProcessor {
         return servletBuildItem;
     }
 
-    @BuildStep
+    @BuildStep(providesCapabilities = Capabilities.METRICS)
     void beans(BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         additionalBeans.produce(new AdditionalBeanBuildItem(MetricProducer.class,
                 MetricNameFactory.class,
@@ -139,9 +144,12 @@ public class SmallRyeMetricsProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    void registerBaseAndVendorMetrics(SmallRyeMetricsRecorder metrics, ShutdownContextBuildItem shutdown) {
-        metrics.registerBaseMetrics(shutdown);
-        metrics.registerVendorMetrics(shutdown);
+    void registerBaseAndVendorMetrics(SmallRyeMetricsRecorder metrics, SmallRyeMetricsRuntimeConfig runtimeConfig,
+            ShutdownContextBuildItem shutdown, ExecutorBuildItem executor) {
+        RuntimeValue<JvmMetricsSampler> sampler = metrics.createJvmMetricsSampler(runtimeConfig);
+        metrics.registerBaseMetrics(shutdown, sampler);
+        metrics.registerVendorMetrics(shutdown, sampler);
+        metrics.registerExecutorMetrics(shutdown, executor.getExecutorProxy());
     }
 
     @BuildStep
@@ -0,0 +1,114 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.eclipse.microprofile.metrics.Meter;
+import org.eclipse.microprofile.metrics.Timer;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+/**
+ * Records the GC pauses and the allocated memory from the notifications sent by the garbage collectors at the end of each
+ * collection, rather than by polling the management beans.
+ * <p>
+ * The memory allocated between two collections is the growth of the young generation: its usage before a collection
+ * minus its usage after the previous one.
+ * <p>
+ * The concurrent phases of the collectors, such as a CMS cycle or a ZGC cycle, do not stop the application, so they are
+ * not recorded as pauses.
+ */
+class GcNotificationListener implements NotificationListener {
+
+    // By collector name
+    private final Map<String, Timer> pauses;
+    private final Meter allocation;
+
+    private long youngUsageAfterLastGc;
+
+    GcNotificationListener(Map<String, Timer> pauses, Meter allocation) {
+        this.pauses = pauses;
+        this.allocation = allocation;
+    }
+
+    /**
+     * @return {@code true} if the collector sends notifications
+     */
+    boolean register(GarbageCollectorMXBean gc) {
+        if (!(gc instanceof NotificationEmitter)) {
+            return false;
+        }
+        ((NotificationEmitter) gc).addNotificationListener(this, null, null);
+        return true;
+    }
+
+    void unregister(GarbageCollectorMXBean gc) {
+        try {
+            ((NotificationEmitter) gc).removeNotificationListener(this);
+        } catch (Exception e) {
+            // Not registered
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+                .from((CompositeData) notification.getUserData());
+        GcInfo gcInfo = info.getGcInfo();
+        record(info.getGcName(), info.getGcAction(), info.getGcCause(), gcInfo.getDuration(),
+                gcInfo.getMemoryUsageBeforeGc(), gcInfo.getMemoryUsageAfterGc());
+    }
+
+    void record(String gcName, String gcAction, String gcCause, long durationMillis,
+            Map<String, MemoryUsage> before, Map<String, MemoryUsage> after) {
+        if (!isConcurrentPhase(gcName, gcAction, gcCause)) {
+            Timer pause = pauses.get(gcName);
+            if (pause != null) {
+                pause.update(durationMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        recordAllocation(before, after);
+    }
+
+    /**
+     * @return whether the collection ran concurrently with the application, as reported by CMS ({@code No GC} cause),
+     *         G1, Shenandoah and ZGC (dedicated collectors or {@code concurrent} actions)
+     */
+    static boolean isConcurrentPhase(String gcName, String gcAction, String gcCause) {
+        return "No GC".equals(gcCause)
+                || (gcAction != null && gcAction.contains("concurrent"))
+                || "G1 Concurrent GC".equals(gcName)
+                || "Shenandoah Cycles".equals(gcName)
+                || (gcName.startsWith("ZGC") && gcName.endsWith("Cycles"));
+    }
+
+    private synchronized void recordAllocation(Map<String, MemoryUsage> before, Map<String, MemoryUsage> after) {
+        for (Map.Entry<String, MemoryUsage> pool : before.entrySet()) {
+            if (isYoungGeneration(pool.getKey())) {
+                long allocated = pool.getValue().getUsed() - youngUsageAfterLastGc;
+                if (allocated > 0) {
+                    allocation.mark(allocated);
+                }
+                MemoryUsage usageAfter = after.get(pool.getKey());
+                youngUsageAfterLastGc = usageAfter != null ? usageAfter.getUsed() : 0;
+                return;
+            }
+        }
+    }
+
+    private static boolean isYoungGeneration(String pool) {
+        return pool.endsWith("Eden Space") || pool.endsWith("nursery-allocate");
+    }
+
+}
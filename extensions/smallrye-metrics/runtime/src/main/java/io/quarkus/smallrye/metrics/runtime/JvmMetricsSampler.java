@@ -0,0 +1,152 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reads all the JVM management beans backing the base and vendor metrics at once, at most once per sampling interval, so
+ * that a scrape reads each bean once rather than once per gauge.
+ * <p>
+ * With a zero interval, every {@link #get()} takes a new snapshot.
+ *
+ * @see SmallRyeMetricsRuntimeConfig#jvmSamplingInterval
+ */
+public class JvmMetricsSampler {
+
+    private final long intervalNanos;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private final List<GarbageCollectorMXBean> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+    // Only set in JVM mode, see memoryPools()
+    private volatile List<MemoryPoolMXBean> memoryPools;
+
+    private volatile Snapshot snapshot;
+
+    public JvmMetricsSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    List<GarbageCollectorMXBean> garbageCollectors() {
+        return garbageCollectors;
+    }
+
+    /**
+     * Makes the memory pools part of the snapshots. They are not read by default, as they do not work in native mode.
+     */
+    List<MemoryPoolMXBean> memoryPools() {
+        List<MemoryPoolMXBean> pools = memoryPools;
+        if (pools == null) {
+            memoryPools = pools = ManagementFactory.getMemoryPoolMXBeans();
+            snapshot = null;
+        }
+        return pools;
+    }
+
+    /**
+     * @return the current snapshot, taken less than a sampling interval ago
+     */
+    Snapshot get() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.nanoTime >= intervalNanos) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || System.nanoTime() - current.nanoTime >= intervalNanos) {
+                    snapshot = current = new Snapshot(this);
+                }
+            }
+        }
+        return current;
+    }
+
+    static final class Snapshot {
+
+        final long nanoTime;
+
+        final long heapUsed;
+        final long heapCommitted;
+        final long heapMax;
+        final long nonHeapUsed;
+        final long nonHeapCommitted;
+        final long nonHeapMax;
+
+        final long loadedClasses;
+        final long totalLoadedClasses;
+        final long unloadedClasses;
+
+        final long threadCount;
+        final long daemonThreadCount;
+        final long peakThreadCount;
+
+        final long uptime;
+        final double systemLoadAverage;
+        final int availableProcessors;
+
+        // Indexed like garbageCollectors()
+        final long[] collectionCounts;
+        final long[] collectionTimes;
+
+        // Indexed like memoryPools(), -1 for the pools without usage
+        final long[] poolCollectionUsages;
+        final long[] poolPeakUsages;
+
+        Snapshot(JvmMetricsSampler sampler) {
+            MemoryUsage heap = sampler.memory.getHeapMemoryUsage();
+            heapUsed = heap.getUsed();
+            heapCommitted = heap.getCommitted();
+            heapMax = heap.getMax();
+            MemoryUsage nonHeap = sampler.memory.getNonHeapMemoryUsage();
+            nonHeapUsed = nonHeap.getUsed();
+            nonHeapCommitted = nonHeap.getCommitted();
+            nonHeapMax = nonHeap.getMax();
+
+            loadedClasses = sampler.classLoading.getLoadedClassCount();
+            totalLoadedClasses = sampler.classLoading.getTotalLoadedClassCount();
+            unloadedClasses = sampler.classLoading.getUnloadedClassCount();
+
+            threadCount = sampler.threads.getThreadCount();
+            daemonThreadCount = sampler.threads.getDaemonThreadCount();
+            peakThreadCount = sampler.threads.getPeakThreadCount();
+
+            uptime = sampler.runtime.getUptime();
+            systemLoadAverage = sampler.operatingSystem.getSystemLoadAverage();
+            availableProcessors = sampler.operatingSystem.getAvailableProcessors();
+
+            List<GarbageCollectorMXBean> gcs = sampler.garbageCollectors;
+            collectionCounts = new long[gcs.size()];
+            collectionTimes = new long[gcs.size()];
+            for (int i = 0; i < gcs.size(); i++) {
+                collectionCounts[i] = gcs.get(i).getCollectionCount();
+                collectionTimes[i] = gcs.get(i).getCollectionTime();
+            }
+
+            List<MemoryPoolMXBean> pools = sampler.memoryPools;
+            int poolCount = pools != null ? pools.size() : 0;
+            poolCollectionUsages = new long[poolCount];
+            poolPeakUsages = new long[poolCount];
+            for (int i = 0; i < poolCount; i++) {
+                MemoryUsage collectionUsage = pools.get(i).getCollectionUsage();
+                MemoryUsage peakUsage = pools.get(i).getPeakUsage();
+                poolCollectionUsages[i] = collectionUsage != null ? collectionUsage.getUsed() : -1;
+                poolPeakUsages[i] = peakUsage != null ? peakUsage.getUsed() : -1;
+            }
+
+            // Taken last, so that a slow reading does not shorten the validity of the snapshot
+            nanoTime = System.nanoTime();
+        }
+
+    }
+
+}
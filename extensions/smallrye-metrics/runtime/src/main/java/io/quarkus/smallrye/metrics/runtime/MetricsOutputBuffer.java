@@ -0,0 +1,98 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A buffer writing bytes to an output stream, whose backing arrays are pooled across the requests.
+ * <p>
+ * It is not thread-safe: each request uses its own instance, and must {@link #close()} it to return the array to the pool.
+ */
+final class MetricsOutputBuffer implements AutoCloseable {
+
+    static final int BUFFER_SIZE = 16 * 1024;
+
+    // Two Prometheus servers scraping at the same time should not allocate
+    private static final BlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(4);
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int position;
+
+    MetricsOutputBuffer(OutputStream out) {
+        this.out = out;
+        byte[] pooled = POOL.poll();
+        this.buffer = pooled != null ? pooled : new byte[BUFFER_SIZE];
+    }
+
+    void write(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            flush();
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    void write(byte b) throws IOException {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = b;
+    }
+
+    /**
+     * Writes a sample value the way {@link Double#toString(double)} does, without allocating for the integral values.
+     */
+    void write(double value) throws IOException {
+        // Double.toString() switches to the computerized scientific notation from 10^7
+        if (value == (long) value && Math.abs(value) < 1e7 && (value != 0 || 1 / value > 0)) {
+            writeLong((long) value);
+            write((byte) '.');
+            write((byte) '0');
+        } else {
+            write(Double.toString(value).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value < 0) {
+            write((byte) '-');
+            value = -value;
+        }
+        // At most 7 digits, see write(double)
+        long divisor = 1;
+        while (divisor * 10 <= value) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            write((byte) ('0' + value / divisor));
+            value %= divisor;
+            divisor /= 10;
+        }
+    }
+
+    void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            POOL.offer(buffer);
+            buffer = null;
+        }
+    }
+
+}
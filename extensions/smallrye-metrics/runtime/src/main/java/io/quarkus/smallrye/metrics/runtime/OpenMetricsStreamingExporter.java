@@ -0,0 +1,418 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.metrics.ConcurrentGauge;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metered;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.Sampling;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.jboss.logging.Logger;
+
+import io.smallrye.metrics.MetricRegistries;
+import io.smallrye.metrics.exporters.OpenMetricsExporter;
+import io.smallrye.metrics.exporters.OpenMetricsUnit;
+
+/**
+ * Exports the metrics in the OpenMetrics text format of {@link OpenMetricsExporter}, writing directly to the response
+ * instead of building the whole response as a string.
+ * <p>
+ * The {@code # HELP} and {@code # TYPE} lines, and the names and tags of the samples, only depend on the metadata and the
+ * {@link MetricID} of a metric: they are rendered once to bytes and cached, so that a scrape only formats the values.
+ * Unlike {@link OpenMetricsExporter}, the samples of a metric name are grouped: the {@code # HELP} and {@code # TYPE}
+ * lines of each family are written once per scope and followed by the samples of all the tag sets.
+ */
+class OpenMetricsStreamingExporter {
+
+    private static final Logger LOGGER = Logger.getLogger(OpenMetricsStreamingExporter.class.getName());
+
+    private static final String MICROPROFILE_METRICS_OMIT_HELP_LINE = "microprofile.metrics.omitHelpLine";
+
+    private static final String GAUGE = "gauge";
+    private static final String COUNTER = "counter";
+    private static final String SUMMARY = "summary";
+    private static final String QUANTILE = "quantile";
+    private static final String NONE = "none";
+    private static final String NANOSECONDS = "nanoseconds";
+
+    private final boolean writeHelpLine;
+
+    private final Map<MetricRegistry.Type, Map<MetricID, RenderedMetric>> cache = new EnumMap<>(MetricRegistry.Type.class);
+
+    OpenMetricsStreamingExporter() {
+        Optional<Boolean> omitHelpLine = ConfigProvider.getConfig().getOptionalValue(MICROPROFILE_METRICS_OMIT_HELP_LINE,
+                Boolean.class);
+        this.writeHelpLine = !omitHelpLine.orElse(false);
+        for (MetricRegistry.Type scope : MetricRegistry.Type.values()) {
+            cache.put(scope, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Writes the metrics of the given scopes to the output stream, which is not closed.
+     */
+    void export(OutputStream out, MetricRegistry.Type... scopes) throws IOException {
+        try (MetricsOutputBuffer buffer = new MetricsOutputBuffer(out)) {
+            for (MetricRegistry.Type scope : scopes) {
+                exportScope(scope, buffer);
+            }
+        }
+    }
+
+    private void exportScope(MetricRegistry.Type scope, MetricsOutputBuffer buffer) throws IOException {
+        MetricRegistry registry = MetricRegistries.get(scope);
+        Map<String, Metadata> metadata = registry.getMetadata();
+        Map<MetricID, Metric> metrics = registry.getMetrics();
+        Map<MetricID, RenderedMetric> renderedMetrics = cache.get(scope);
+        // The sampled metrics of each name, written together so that the samples of a name are contiguous
+        Map<String, List<SampledMetric>> metricsByName = new LinkedHashMap<>();
+
+        for (Map.Entry<MetricID, Metric> entry : metrics.entrySet()) {
+            MetricID metricID = entry.getKey();
+            Metadata md = metadata.get(metricID.getName());
+            if (md == null) {
+                throw new IllegalStateException("No entry for " + metricID.getName() + " found");
+            }
+            RenderedMetric rendered = renderedMetrics.get(metricID);
+            double[] values;
+            try {
+                if (rendered == null || rendered.metadata != md) {
+                    rendered = new Renderer(scope, metricID, md).render();
+                    renderedMetrics.put(metricID, rendered);
+                }
+                values = rendered.sample(entry.getValue());
+            } catch (Exception e) {
+                LOGGER.warn("Unable to export metric " + metricID.getName(), e);
+                continue;
+            }
+            metricsByName.computeIfAbsent(md.getName(), k -> new ArrayList<>()).add(new SampledMetric(rendered, values));
+        }
+
+        for (List<SampledMetric> sampledMetrics : metricsByName.values()) {
+            write(buffer, sampledMetrics);
+        }
+
+        if (renderedMetrics.size() > metrics.size()) {
+            // Forget the removed metrics
+            renderedMetrics.keySet().retainAll(metrics.keySet());
+        }
+    }
+
+    /**
+     * Writes the metrics sharing a name, i.e. the same metadata and thus the same samples, family by family: the
+     * {@code # HELP} and {@code # TYPE} lines of a family are written once, followed by its samples for every tag set.
+     */
+    private static void write(MetricsOutputBuffer buffer, List<SampledMetric> sampledMetrics) throws IOException {
+        Sample[] samples = sampledMetrics.get(0).rendered.samples;
+        int familyStart = 0;
+        while (familyStart < samples.length) {
+            // A family starts with the sample carrying its TYPE line and ends before the next one
+            int familyEnd = familyStart + 1;
+            while (familyEnd < samples.length && samples[familyEnd].header.length == 0) {
+                familyEnd++;
+            }
+            buffer.write(samples[familyStart].header);
+            for (SampledMetric sampledMetric : sampledMetrics) {
+                sampledMetric.write(buffer, familyStart, familyEnd);
+            }
+            familyStart = familyEnd;
+        }
+    }
+
+    static String getOpenMetricsMetricName(String name) {
+        // Same as OpenMetricsExporter
+        String out = name.replaceAll("[^\\w]+", "_");
+        out = out.replace("__", "_");
+        out = out.replace(":_", ":");
+        return out;
+    }
+
+    @FunctionalInterface
+    interface Value {
+
+        double get(Metric metric, Snapshot snapshot);
+
+    }
+
+    /**
+     * A line of the exposition of a metric, preceded by the HELP and TYPE lines introducing it.
+     */
+    static final class Sample {
+
+        final byte[] header;
+        final byte[] prefix;
+        // The unit the value is scaled from, or null if it is not scaled
+        final String scaleFrom;
+        final Value value;
+
+        Sample(byte[] header, byte[] prefix, String scaleFrom, Value value) {
+            this.header = header;
+            this.prefix = prefix;
+            this.scaleFrom = scaleFrom;
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * The cached exposition of a metric, valid as long as its metadata does not change.
+     */
+    static final class RenderedMetric {
+
+        final Metadata metadata;
+        final Sample[] samples;
+        final boolean sampling;
+
+        RenderedMetric(Metadata metadata, List<Sample> samples) {
+            this.metadata = metadata;
+            this.samples = samples.toArray(new Sample[0]);
+            MetricType type = metadata.getTypeRaw();
+            this.sampling = type == MetricType.TIMER || type == MetricType.HISTOGRAM;
+        }
+
+        /**
+         * Reads the values of the metric before writing anything, so that a failing metric is skipped as a whole.
+         */
+        double[] sample(Metric metric) {
+            Snapshot snapshot = sampling ? ((Sampling) metric).getSnapshot() : null;
+            double[] values = new double[samples.length];
+            for (int i = 0; i < samples.length; i++) {
+                Sample sample = samples[i];
+                double value = sample.value.get(metric, snapshot);
+                values[i] = sample.scaleFrom != null ? OpenMetricsUnit.scaleToBase(sample.scaleFrom, value) : value;
+            }
+            return values;
+        }
+
+    }
+
+    /**
+     * The values of a metric read for a scrape.
+     */
+    static final class SampledMetric {
+
+        final RenderedMetric rendered;
+        final double[] values;
+
+        SampledMetric(RenderedMetric rendered, double[] values) {
+            this.rendered = rendered;
+            this.values = values;
+        }
+
+        /**
+         * Writes the samples from {@code start} inclusive to {@code end} exclusive, without their headers.
+         */
+        void write(MetricsOutputBuffer buffer, int start, int end) throws IOException {
+            Sample[] samples = rendered.samples;
+            for (int i = start; i < end; i++) {
+                buffer.write(samples[i].prefix);
+                buffer.write(values[i]);
+                buffer.write((byte) '\n');
+            }
+        }
+
+    }
+
+    /**
+     * Renders the lines of a metric in the same order as {@link OpenMetricsExporter}.
+     */
+    final class Renderer {
+
+        private final String scope;
+        private final Map<String, String> tags;
+        private final Metadata md;
+        private final List<Sample> samples = new ArrayList<>();
+        private final StringBuilder header = new StringBuilder();
+
+        Renderer(MetricRegistry.Type scope, MetricID metricID, Metadata md) {
+            this.scope = scope.getName().toLowerCase();
+            this.tags = metricID.getTags();
+            this.md = md;
+        }
+
+        RenderedMetric render() {
+            String name = md.getName();
+            switch (md.getTypeRaw()) {
+                case GAUGE: {
+                    String key = getOpenMetricsMetricName(name);
+                    String unit = OpenMetricsUnit.getBaseUnitAsOpenMetricsString(md.getUnit());
+                    String unitSuffix = unit.equals(NONE) ? null : "_" + unit;
+                    help(key, unitSuffix);
+                    type(key, unitSuffix, null);
+                    sample(key + (unitSuffix != null ? unitSuffix : ""), tags, md.getUnit().orElse(NONE),
+                            (metric, snapshot) -> gaugeValue(metric, key));
+                    break;
+                }
+                case COUNTER: {
+                    String key = getOpenMetricsMetricName(name);
+                    String suffix = key.endsWith("_total") ? null : "_total";
+                    String unit = OpenMetricsUnit.getBaseUnitAsOpenMetricsString(md.getUnit());
+                    help(key, suffix);
+                    type(key, suffix, null);
+                    sample(key + (suffix != null ? suffix : "") + (unit.equals(NONE) ? "" : "_" + unit), tags,
+                            md.getUnit().orElse(NONE), (metric, snapshot) -> ((Counter) metric).getCount());
+                    break;
+                }
+                case CONCURRENT_GAUGE:
+                    help(getOpenMetricsMetricName(name), "_current");
+                    typeAndValue("_current", GAUGE, null, (metric, snapshot) -> ((ConcurrentGauge) metric).getCount());
+                    typeAndValue("_max", GAUGE, null, (metric, snapshot) -> ((ConcurrentGauge) metric).getMax());
+                    typeAndValue("_min", GAUGE, null, (metric, snapshot) -> ((ConcurrentGauge) metric).getMin());
+                    break;
+                case METERED:
+                    help(name, "_total");
+                    typeAndValue("_total", COUNTER, null, (metric, snapshot) -> ((Metered) metric).getCount());
+                    meterRates();
+                    break;
+                case TIMER: {
+                    String unit = OpenMetricsUnit.getBaseUnitAsOpenMetricsString(md.getUnit());
+                    String unitSuffix = "_" + (unit.equals(NONE) ? "seconds" : unit);
+                    meterRates();
+                    snapshotBasics(unitSuffix, NANOSECONDS);
+                    help(name, unitSuffix);
+                    type(name, unitSuffix, SUMMARY);
+                    sample(getOpenMetricsMetricName(name) + unitSuffix + "_count", tags, null,
+                            (metric, snapshot) -> ((Metered) metric).getCount());
+                    snapshotQuantiles(unitSuffix, NANOSECONDS);
+                    break;
+                }
+                case HISTOGRAM: {
+                    String unit = OpenMetricsUnit.getBaseUnitAsOpenMetricsString(md.getUnit());
+                    String unitSuffix = unit.equals(NONE) ? "" : "_" + unit;
+                    // The values of a histogram are stored in the unit of the metric
+                    String scaleFrom = md.getUnit().orElse(NONE);
+                    help(name, unitSuffix);
+                    snapshotBasics(unitSuffix, scaleFrom);
+                    type(name, unitSuffix, SUMMARY);
+                    sample(getOpenMetricsMetricName(name) + unitSuffix + "_count", tags, null,
+                            (metric, snapshot) -> ((Histogram) metric).getCount());
+                    snapshotQuantiles(unitSuffix, scaleFrom);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Not supported: " + name);
+            }
+            return new RenderedMetric(md, samples);
+        }
+
+        private void meterRates() {
+            typeAndValue("_rate_per_second", GAUGE, null, (metric, snapshot) -> ((Metered) metric).getMeanRate());
+            typeAndValue("_one_min_rate_per_second", GAUGE, null,
+                    (metric, snapshot) -> ((Metered) metric).getOneMinuteRate());
+            typeAndValue("_five_min_rate_per_second", GAUGE, null,
+                    (metric, snapshot) -> ((Metered) metric).getFiveMinuteRate());
+            typeAndValue("_fifteen_min_rate_per_second", GAUGE, null,
+                    (metric, snapshot) -> ((Metered) metric).getFifteenMinuteRate());
+        }
+
+        private void snapshotBasics(String unitSuffix, String scaleFrom) {
+            typeAndValue("_min" + unitSuffix, GAUGE, scaleFrom, (metric, snapshot) -> snapshot.getMin());
+            typeAndValue("_max" + unitSuffix, GAUGE, scaleFrom, (metric, snapshot) -> snapshot.getMax());
+            typeAndValue("_mean" + unitSuffix, GAUGE, scaleFrom, (metric, snapshot) -> snapshot.getMean());
+            typeAndValue("_stddev" + unitSuffix, GAUGE, scaleFrom, (metric, snapshot) -> snapshot.getStdDev());
+        }
+
+        private void snapshotQuantiles(String unitSuffix, String scaleFrom) {
+            String key = getOpenMetricsMetricName(md.getName()) + unitSuffix;
+            sample(key, quantile("0.5"), scaleFrom, (metric, snapshot) -> snapshot.getMedian());
+            sample(key, quantile("0.75"), scaleFrom, (metric, snapshot) -> snapshot.get75thPercentile());
+            sample(key, quantile("0.95"), scaleFrom, (metric, snapshot) -> snapshot.get95thPercentile());
+            sample(key, quantile("0.98"), scaleFrom, (metric, snapshot) -> snapshot.get98thPercentile());
+            sample(key, quantile("0.99"), scaleFrom, (metric, snapshot) -> snapshot.get99thPercentile());
+            sample(key, quantile("0.999"), scaleFrom, (metric, snapshot) -> snapshot.get999thPercentile());
+        }
+
+        private Map<String, String> quantile(String quantile) {
+            Map<String, String> quantileTags = new LinkedHashMap<>(tags);
+            quantileTags.put(QUANTILE, quantile);
+            return quantileTags;
+        }
+
+        private void typeAndValue(String suffix, String type, String scaleFrom, Value value) {
+            type(md.getName(), suffix, type);
+            sample(getOpenMetricsMetricName(md.getName()) + suffix, tags, scaleFrom, value);
+        }
+
+        private void help(String key, String suffix) {
+            Optional<String> description = md.getDescription();
+            if (writeHelpLine && description.isPresent() && !description.get().isEmpty()) {
+                header.append("# HELP ");
+                appendName(key, suffix);
+                header.append(' ').append(OpenMetricsExporter.quoteHelpText(description.get())).append('\n');
+            }
+        }
+
+        private void type(String key, String suffix, String typeOverride) {
+            header.append("# TYPE ");
+            appendName(key, suffix);
+            header.append(' ');
+            if (typeOverride != null) {
+                header.append(typeOverride);
+            } else if (md.getTypeRaw() == MetricType.TIMER) {
+                header.append(SUMMARY);
+            } else if (md.getTypeRaw() == MetricType.METERED) {
+                header.append(COUNTER);
+            } else {
+                header.append(md.getType());
+            }
+            header.append('\n');
+        }
+
+        private void appendName(String key, String suffix) {
+            header.append(scope).append('_').append(getOpenMetricsMetricName(key));
+            if (suffix != null) {
+                header.append(suffix);
+            }
+        }
+
+        private void sample(String key, Map<String, String> sampleTags, String scaleFrom, Value value) {
+            StringBuilder prefix = new StringBuilder();
+            prefix.append(scope).append('_').append(key);
+            if (!sampleTags.isEmpty()) {
+                prefix.append('{');
+                Iterator<Map.Entry<String, String>> it = sampleTags.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<String, String> tag = it.next();
+                    prefix.append(tag.getKey()).append("=\"").append(OpenMetricsExporter.quoteValue(tag.getValue()))
+                            .append('"');
+                    if (it.hasNext()) {
+                        prefix.append(',');
+                    }
+                }
+                prefix.append('}');
+            }
+            prefix.append(' ');
+            samples.add(new Sample(header.toString().getBytes(StandardCharsets.UTF_8),
+                    prefix.toString().getBytes(StandardCharsets.UTF_8), scaleFrom, value));
+            header.setLength(0);
+        }
+
+        private double gaugeValue(Metric metric, String key) {
+            Number value = (Number) ((Gauge<?>) metric).getValue();
+            if (value == null) {
+                throw new IllegalStateException("Value must not be null for " + key);
+            }
+            return value.doubleValue();
+        }
+
+    }
+
+}
@@ -1,25 +1,26 @@
 package io.quarkus.smallrye.metrics.runtime;
 
-import java.lang.management.ClassLoadingMXBean;
 import java.lang.management.GarbageCollectorMXBean;
-import java.lang.management.ManagementFactory;
-import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryPoolMXBean;
-import java.lang.management.OperatingSystemMXBean;
-import java.lang.management.RuntimeMXBean;
-import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metric;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricType;
 import org.eclipse.microprofile.metrics.MetricUnits;
 import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.ExecutorStatistics;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.smallrye.metrics.MetricRegistries;
@@ -58,12 +59,31 @@ public class SmallRyeMetricsRecorder {
     private static final String MEMORY_USED_HEAP = "memory.usedHeap";
     private static final String MEMORY_USED_NON_HEAP = "memory.usedNonHeap";
 
-    public void registerVendorMetrics(ShutdownContext shutdown) {
+    // garbage collection notifications
+    private static final String GC_PAUSE = "gc.pause";
+    private static final String MEMORY_ALLOCATION = "memory.allocation";
+
+    // main executor
+    private static final String THREAD_POOL_SIZE = "thread-pool.size";
+    private static final String THREAD_POOL_MAX_SIZE = "thread-pool.maxSize";
+    private static final String THREAD_POOL_ACTIVE = "thread-pool.active";
+    private static final String THREAD_POOL_BLOCKED = "thread-pool.blocked";
+    private static final String THREAD_POOL_QUEUE_SIZE = "thread-pool.queue.size";
+    private static final String THREAD_POOL_QUEUE_WAIT = "thread-pool.queue.wait";
+    private static final String THREAD_POOL_COMPLETED = "thread-pool.completed";
+    private static final String THREAD_POOL_REJECTED = "thread-pool.rejected";
+
+    public RuntimeValue<JvmMetricsSampler> createJvmMetricsSampler(SmallRyeMetricsRuntimeConfig config) {
+        return new RuntimeValue<>(new JvmMetricsSampler(config.jvmSamplingInterval));
+    }
+
+    public void registerVendorMetrics(ShutdownContext shutdown, RuntimeValue<JvmMetricsSampler> sampler) {
         MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
         List<String> names = new ArrayList<>();
 
-        memoryPoolMetrics(registry, names);
-        vendorSpecificMemoryMetrics(registry, names);
+        memoryPoolMetrics(registry, names, sampler.getValue());
+        vendorSpecificMemoryMetrics(registry, names, sampler.getValue());
+        garbageCollectionNotificationMetrics(registry, names, sampler.getValue(), shutdown);
 
         if (!names.isEmpty()) {
             shutdown.addShutdownTask(() -> {
@@ -74,16 +94,62 @@ public class SmallRyeMetricsRecorder {
         }
     }
 
-    public void registerBaseMetrics(ShutdownContext shutdown) {
+    /**
+     * Registers the vendor metrics of the main executor, if its statistics are enabled.
+     */
+    public void registerExecutorMetrics(ShutdownContext shutdown, ExecutorService executor) {
+        if (!(executor instanceof ExecutorStatistics)) {
+            return;
+        }
+        ExecutorStatistics statistics = (ExecutorStatistics) executor;
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        List<String> names = new ArrayList<>();
+
+        executorMetric(registry, names, THREAD_POOL_SIZE, MetricType.GAUGE, MetricUnits.NONE, "Thread Pool Size",
+                "Displays the current number of threads of the main executor.",
+                new LambdaGauge(statistics::getPoolSize));
+        executorMetric(registry, names, THREAD_POOL_MAX_SIZE, MetricType.GAUGE, MetricUnits.NONE,
+                "Thread Pool Maximum Size",
+                "Displays the current maximum number of threads of the main executor, which varies in adaptive mode.",
+                new LambdaGauge(statistics::getMaximumPoolSize));
+        executorMetric(registry, names, THREAD_POOL_ACTIVE, MetricType.GAUGE, MetricUnits.NONE, "Active Threads",
+                "Displays the number of threads of the main executor executing a task.",
+                new LambdaGauge(statistics::getActiveThreads));
+        executorMetric(registry, names, THREAD_POOL_BLOCKED, MetricType.GAUGE, MetricUnits.NONE, "Blocked Threads",
+                "Displays the number of threads of the main executor blocked or waiting while executing a task.",
+                new LambdaGauge(statistics::getBlockedThreads));
+        executorMetric(registry, names, THREAD_POOL_QUEUE_SIZE, MetricType.GAUGE, MetricUnits.NONE, "Queue Size",
+                "Displays the number of tasks waiting for a thread of the main executor.",
+                new LambdaGauge(statistics::getQueueSize));
+        executorMetric(registry, names, THREAD_POOL_QUEUE_WAIT, MetricType.COUNTER, MetricUnits.NANOSECONDS,
+                "Total Queue Wait",
+                "Displays the total time the tasks waited for a thread of the main executor. Divided by the number of "
+                        + "completed tasks, it gives the average queue wait.",
+                new LambdaCounter(statistics::getTotalQueueWaitNanos));
+        executorMetric(registry, names, THREAD_POOL_COMPLETED, MetricType.COUNTER, MetricUnits.NONE, "Completed Tasks",
+                "Displays the number of tasks completed by the main executor.",
+                new LambdaCounter(statistics::getCompletedTasks));
+        executorMetric(registry, names, THREAD_POOL_REJECTED, MetricType.COUNTER, MetricUnits.NONE, "Rejected Tasks",
+                "Displays the number of tasks rejected by the main executor.",
+                new LambdaCounter(statistics::getRejectedTasks));
+
+        shutdown.addShutdownTask(() -> {
+            for (String i : names) {
+                registry.remove(i);
+            }
+        });
+    }
+
+    public void registerBaseMetrics(ShutdownContext shutdown, RuntimeValue<JvmMetricsSampler> sampler) {
         MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.BASE);
         List<String> names = new ArrayList<>();
 
-        garbageCollectionMetrics(registry, names);
-        classLoadingMetrics(registry, names);
-        operatingSystemMetrics(registry, names);
-        threadingMetrics(registry, names);
-        runtimeMetrics(registry, names);
-        baseMemoryMetrics(registry, names);
+        garbageCollectionMetrics(registry, names, sampler.getValue());
+        classLoadingMetrics(registry, names, sampler.getValue());
+        operatingSystemMetrics(registry, names, sampler.getValue());
+        threadingMetrics(registry, names, sampler.getValue());
+        runtimeMetrics(registry, names, sampler.getValue());
+        baseMemoryMetrics(registry, names, sampler.getValue());
 
         if (!names.isEmpty()) {
             shutdown.addShutdownTask(() -> {
@@ -113,8 +179,8 @@ public class SmallRyeMetricsRecorder {
         container.instance(MetricRegistries.class).getApplicationRegistry();
     }
 
-    private void garbageCollectionMetrics(MetricRegistry registry, List<String> names) {
-        List<GarbageCollectorMXBean> gcs = ManagementFactory.getGarbageCollectorMXBeans();
+    private void garbageCollectionMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
+        List<GarbageCollectorMXBean> gcs = sampler.garbageCollectors();
         if (gcs.isEmpty()) {
             return;
         }
@@ -138,18 +204,18 @@ public class SmallRyeMetricsRecorder {
                                 "elapsed time. This attribute may display the same value even if the collection " +
                                 "count has been incremented if the collection elapsed time is very short.")
                 .build();
-        for (GarbageCollectorMXBean gc : gcs) {
-            registry.register(countMetadata, new LambdaCounter(() -> gc.getCollectionCount()), new Tag("name", gc.getName()));
+        for (int i = 0; i < gcs.size(); i++) {
+            int gc = i;
+            Tag nameTag = new Tag("name", gcs.get(gc).getName());
+            registry.register(countMetadata, new LambdaCounter(() -> sampler.get().collectionCounts[gc]), nameTag);
             names.add(countMetadata.getName());
 
-            registry.register(timeMetadata, new LambdaCounter(() -> gc.getCollectionTime()), new Tag("name", gc.getName()));
+            registry.register(timeMetadata, new LambdaCounter(() -> sampler.get().collectionTimes[gc]), nameTag);
             names.add(timeMetadata.getName());
         }
     }
 
-    private void classLoadingMetrics(MetricRegistry registry, List<String> names) {
-        ClassLoadingMXBean classLoadingMXBean = ManagementFactory.getClassLoadingMXBean();
-
+    private void classLoadingMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
         Metadata meta = Metadata.builder()
                 .withName(TOTAL_LOADED_CLASS_COUNT)
                 .withType(MetricType.COUNTER)
@@ -157,7 +223,7 @@ public class SmallRyeMetricsRecorder {
                 .withDescription(
                         "Displays the total number of classes that have been loaded since the Java virtual machine has started execution.")
                 .build();
-        registry.register(meta, new LambdaCounter(() -> classLoadingMXBean.getTotalLoadedClassCount()));
+        registry.register(meta, new LambdaCounter(() -> sampler.get().totalLoadedClasses));
         names.add(TOTAL_LOADED_CLASS_COUNT);
 
         meta = Metadata.builder()
@@ -167,7 +233,7 @@ public class SmallRyeMetricsRecorder {
                 .withDescription(
                         "Displays the total number of classes unloaded since the Java virtual machine has started execution.")
                 .build();
-        registry.register(meta, new LambdaCounter(() -> classLoadingMXBean.getUnloadedClassCount()));
+        registry.register(meta, new LambdaCounter(() -> sampler.get().unloadedClasses));
         names.add(TOTAL_UNLOADED_CLASS_COUNT);
 
         meta = Metadata.builder()
@@ -176,13 +242,11 @@ public class SmallRyeMetricsRecorder {
                 .withDisplayName("Current Loaded Class Count")
                 .withDescription("Displays the number of classes that are currently loaded in the Java virtual machine.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> (long) classLoadingMXBean.getLoadedClassCount()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().loadedClasses));
         names.add(CURRENT_LOADED_CLASS_COUNT);
     }
 
-    private void operatingSystemMetrics(MetricRegistry registry, List<String> names) {
-        OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
-
+    private void operatingSystemMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
         Metadata meta = Metadata.builder()
                 .withName(SYSTEM_LOAD_AVERAGE)
                 .withType(MetricType.GAUGE)
@@ -195,7 +259,7 @@ public class SmallRyeMetricsRecorder {
                         "This attribute is designed to provide a hint about the system load and may be queried frequently. " +
                         "The load average may be unavailable on some platforms where it is expensive to implement this method.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> operatingSystemMXBean.getSystemLoadAverage()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().systemLoadAverage));
         names.add(SYSTEM_LOAD_AVERAGE);
 
         meta = Metadata.builder()
@@ -207,20 +271,18 @@ public class SmallRyeMetricsRecorder {
                                 +
                                 "a particular invocation of the virtual machine.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> operatingSystemMXBean.getAvailableProcessors()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().availableProcessors));
         names.add(CPU_AVAILABLE_PROCESSORS);
     }
 
-    private void threadingMetrics(MetricRegistry registry, List<String> names) {
-        ThreadMXBean thread = ManagementFactory.getThreadMXBean();
-
+    private void threadingMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
         Metadata meta = Metadata.builder()
                 .withName(THREAD_COUNT)
                 .withType(MetricType.COUNTER)
                 .withDisplayName("Thread Count")
                 .withDescription("Displays the current number of live threads including both daemon and non-daemon threads")
                 .build();
-        registry.register(meta, new LambdaCounter(() -> (long) thread.getThreadCount()));
+        registry.register(meta, new LambdaCounter(() -> sampler.get().threadCount));
         names.add(THREAD_COUNT);
 
         meta = Metadata.builder()
@@ -229,7 +291,7 @@ public class SmallRyeMetricsRecorder {
                 .withDisplayName("Daemon Thread Count")
                 .withDescription("Displays the current number of live daemon threads.")
                 .build();
-        registry.register(meta, new LambdaCounter(() -> (long) thread.getDaemonThreadCount()));
+        registry.register(meta, new LambdaCounter(() -> sampler.get().daemonThreadCount));
         names.add(THREAD_DAEMON_COUNT);
 
         meta = Metadata.builder()
@@ -239,13 +301,11 @@ public class SmallRyeMetricsRecorder {
                 .withDescription("Displays the peak live thread count since the Java virtual machine started or peak was " +
                         "reset. This includes daemon and non-daemon threads.")
                 .build();
-        registry.register(meta, new LambdaCounter(() -> (long) thread.getPeakThreadCount()));
+        registry.register(meta, new LambdaCounter(() -> sampler.get().peakThreadCount));
         names.add(THREAD_MAX_COUNT);
     }
 
-    private void runtimeMetrics(MetricRegistry registry, List<String> names) {
-        RuntimeMXBean runtimeMXBean = ManagementFactory.getRuntimeMXBean();
-
+    private void runtimeMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
         Metadata meta = Metadata.builder()
                 .withName(JVM_UPTIME)
                 .withType(MetricType.GAUGE)
@@ -253,12 +313,11 @@ public class SmallRyeMetricsRecorder {
                 .withDisplayName("JVM Uptime")
                 .withDescription("Displays the time from the start of the Java virtual machine in milliseconds.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> runtimeMXBean.getUptime()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().uptime));
         names.add(JVM_UPTIME);
     }
 
-    private void baseMemoryMetrics(MetricRegistry registry, List<String> names) {
-        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private void baseMemoryMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
         Metadata meta = Metadata.builder()
                 .withName(MEMORY_COMMITTED_HEAP)
                 .withType(MetricType.GAUGE)
@@ -268,7 +327,7 @@ public class SmallRyeMetricsRecorder {
                         "Displays the amount of memory in bytes that is committed for the Java virtual machine to use. " +
                                 "This amount of memory is guaranteed for the Java virtual machine to use.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> memoryMXBean.getHeapMemoryUsage().getCommitted()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().heapCommitted));
         names.add(MEMORY_COMMITTED_HEAP);
 
         meta = Metadata.builder()
@@ -285,7 +344,7 @@ public class SmallRyeMetricsRecorder {
                         "The Java virtual machine may fail to allocate memory even if the amount of used memory does " +
                         "not exceed this maximum size.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> memoryMXBean.getHeapMemoryUsage().getMax()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().heapMax));
         names.add(MEMORY_MAX_HEAP);
 
         meta = Metadata.builder()
@@ -295,13 +354,11 @@ public class SmallRyeMetricsRecorder {
                 .withDisplayName("Used Heap Memory")
                 .withDescription("Displays the amount of used heap memory in bytes.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> memoryMXBean.getHeapMemoryUsage().getUsed()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().heapUsed));
         names.add(MEMORY_USED_HEAP);
     }
 
-    private void vendorSpecificMemoryMetrics(MetricRegistry registry, List<String> names) {
-        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
-
+    private void vendorSpecificMemoryMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
         Metadata meta = Metadata.builder()
                 .withName(MEMORY_COMMITTED_NON_HEAP)
                 .withType(MetricType.GAUGE)
@@ -310,7 +367,7 @@ public class SmallRyeMetricsRecorder {
                 .withDescription(
                         "Displays the amount of non heap memory in bytes that is committed for the Java virtual machine to use.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> memoryMXBean.getNonHeapMemoryUsage().getCommitted()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().nonHeapCommitted));
         names.add(MEMORY_COMMITTED_NON_HEAP);
 
         meta = Metadata.builder()
@@ -320,7 +377,7 @@ public class SmallRyeMetricsRecorder {
                 .withDisplayName("Max Non Heap Memory")
                 .withDescription("Displays the maximum amount of used non-heap memory in bytes.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> memoryMXBean.getNonHeapMemoryUsage().getMax()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().nonHeapMax));
         names.add(MEMORY_MAX_NON_HEAP);
 
         meta = Metadata.builder()
@@ -330,14 +387,14 @@ public class SmallRyeMetricsRecorder {
                 .withDisplayName("Used Non Heap Memory")
                 .withDescription("Displays the amount of used non-heap memory in bytes.")
                 .build();
-        registry.register(meta, new LambdaGauge(() -> memoryMXBean.getNonHeapMemoryUsage().getUsed()));
+        registry.register(meta, new LambdaGauge(() -> sampler.get().nonHeapUsed));
         names.add(MEMORY_USED_NON_HEAP);
     }
 
-    private void memoryPoolMetrics(MetricRegistry registry, List<String> names) {
+    private void memoryPoolMetrics(MetricRegistry registry, List<String> names, JvmMetricsSampler sampler) {
         // MemoryPoolMXBean doesn't work in native mode
         if (!ImageInfo.inImageCode()) {
-            List<MemoryPoolMXBean> mps = ManagementFactory.getMemoryPoolMXBeans();
+            List<MemoryPoolMXBean> mps = sampler.memoryPools();
             Metadata usageMetadata = Metadata.builder()
                     .withName("memoryPool.usage")
                     .withType(MetricType.GAUGE)
@@ -352,13 +409,15 @@ public class SmallRyeMetricsRecorder {
                     .withDescription("Peak usage of the memory pool denoted by the 'name' tag")
                     .withUnit(MetricUnits.BYTES)
                     .build();
-            for (MemoryPoolMXBean mp : mps) {
+            for (int i = 0; i < mps.size(); i++) {
+                MemoryPoolMXBean mp = mps.get(i);
+                int pool = i;
                 if (mp.getCollectionUsage() != null && mp.getPeakUsage() != null) {
-                    registry.register(usageMetadata, new LambdaGauge(() -> mp.getCollectionUsage().getUsed()),
+                    registry.register(usageMetadata, new LambdaGauge(() -> sampler.get().poolCollectionUsages[pool]),
                             new Tag("name", mp.getName()));
                     names.add(usageMetadata.getName());
 
-                    registry.register(maxMetadata, new LambdaGauge(() -> mp.getPeakUsage().getUsed()),
+                    registry.register(maxMetadata, new LambdaGauge(() -> sampler.get().poolPeakUsages[pool]),
                             new Tag("name", mp.getName()));
                     names.add(maxMetadata.getName());
                 }
@@ -366,4 +425,55 @@ public class SmallRyeMetricsRecorder {
         }
     }
 
+    private void garbageCollectionNotificationMetrics(MetricRegistry registry, List<String> names,
+            JvmMetricsSampler sampler, ShutdownContext shutdown) {
+        // GC notifications are not supported in native mode
+        if (ImageInfo.inImageCode() || sampler.garbageCollectors().isEmpty()) {
+            return;
+        }
+        Metadata pauseMetadata = Metadata.builder()
+                .withName(GC_PAUSE)
+                .withType(MetricType.TIMER)
+                .withUnit(MetricUnits.MILLISECONDS)
+                .withDisplayName("Garbage Collection Pause")
+                .withDescription("Duration of the garbage collections of the collector denoted by the 'name' tag.")
+                .build();
+        Metadata allocationMetadata = Metadata.builder()
+                .withName(MEMORY_ALLOCATION)
+                .withType(MetricType.METERED)
+                .withUnit(MetricUnits.BYTES)
+                .withDisplayName("Memory Allocation")
+                .withDescription("Memory allocated in the young generation, measured at each garbage collection.")
+                .build();
+
+        Map<String, Timer> pauses = new HashMap<>();
+        for (GarbageCollectorMXBean gc : sampler.garbageCollectors()) {
+            pauses.put(gc.getName(), registry.timer(pauseMetadata, new Tag("name", gc.getName())));
+        }
+        GcNotificationListener listener = new GcNotificationListener(pauses,
+                registry.meter(allocationMetadata));
+        List<GarbageCollectorMXBean> registered = new ArrayList<>();
+        for (GarbageCollectorMXBean gc : sampler.garbageCollectors()) {
+            if (listener.register(gc)) {
+                registered.add(gc);
+            }
+        }
+        names.add(GC_PAUSE);
+        names.add(MEMORY_ALLOCATION);
+        shutdown.addShutdownTask(() -> registered.forEach(listener::unregister));
+    }
+
+    private void executorMetric(MetricRegistry registry, List<String> names, String name, MetricType type, String unit,
+            String displayName, String description, Metric metric) {
+        Metadata meta = Metadata.builder()
+                .withName(name)
+                .withType(type)
+                .withUnit(unit)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .build();
+        registry.register(meta, metric);
+        names.add(name);
+    }
+
 }
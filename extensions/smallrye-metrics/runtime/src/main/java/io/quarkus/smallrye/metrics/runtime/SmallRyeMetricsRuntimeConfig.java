@@ -0,0 +1,20 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "smallrye-metrics", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeMetricsRuntimeConfig {
+
+    /**
+     * The minimum interval between two readings of the JVM management beans backing the base and vendor metrics. Within
+     * this interval, all the JVM metrics are served from the same snapshot, however many gauges are read and however many
+     * scrapes happen. Set to zero to disable the sampling: each read of a JVM metric then reads all the management beans
+     * again, so a scrape reads them once per JVM metric.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration jvmSamplingInterval;
+}
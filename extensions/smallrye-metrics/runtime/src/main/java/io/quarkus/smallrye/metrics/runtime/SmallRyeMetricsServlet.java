@@ -2,6 +2,10 @@ package io.quarkus.smallrye.metrics.runtime;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -10,14 +14,31 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import io.smallrye.metrics.MetricRegistries;
 import io.smallrye.metrics.MetricsRequestHandler;
 
 @WebServlet
 public class SmallRyeMetricsServlet extends HttpServlet {
 
+    // Same headers as MetricsRequestHandler
+    private static final Map<String, String> OPEN_METRICS_HEADERS = new HashMap<>();
+
+    static {
+        OPEN_METRICS_HEADERS.put("Content-Type", "text/plain");
+        OPEN_METRICS_HEADERS.put("Access-Control-Max-Age", "1209600");
+        OPEN_METRICS_HEADERS.put("Access-Control-Allow-Origin", "*");
+        OPEN_METRICS_HEADERS.put("Access-Control-Allow-Headers", "origin, content-type, accept, authorization");
+        OPEN_METRICS_HEADERS.put("Access-Control-Allow-Credentials", "true");
+        OPEN_METRICS_HEADERS.put("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS, HEAD");
+    }
+
     @Inject
     MetricsRequestHandler metricsHandler;
 
+    private final OpenMetricsStreamingExporter openMetricsExporter = new OpenMetricsStreamingExporter();
+
     @Override
     protected void doOptions(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         doGet(req, resp);
@@ -25,6 +46,9 @@ public class SmallRyeMetricsServlet extends HttpServlet {
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (streamOpenMetrics(request, response)) {
+            return;
+        }
         String requestPath = request.getRequestURI();
         String method = request.getMethod();
         Stream<String> acceptHeaders = Collections.list(request.getHeaders("Accept")).stream();
@@ -35,4 +59,54 @@ public class SmallRyeMetricsServlet extends HttpServlet {
             response.getWriter().write(message);
         });
     }
+
+    /**
+     * Scrapes of all the metrics or of a scope in the OpenMetrics format are streamed, the other requests are left to the
+     * {@link MetricsRequestHandler}.
+     *
+     * @return {@code true} if the response was written
+     */
+    private boolean streamOpenMetrics(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!"GET".equals(request.getMethod()) || !acceptsOpenMetrics(request.getHeaders("Accept"))) {
+            return false;
+        }
+        String scopePath = request.getPathInfo();
+        MetricRegistry.Type[] scopes;
+        if (scopePath == null || scopePath.equals("/")) {
+            scopes = MetricRegistry.Type.values();
+        } else {
+            if (scopePath.endsWith("/")) {
+                scopePath = scopePath.substring(0, scopePath.length() - 1);
+            }
+            MetricRegistry.Type scope;
+            try {
+                scope = MetricRegistry.Type.valueOf(scopePath.substring(1).toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                // A metric name, or an unknown scope
+                return false;
+            }
+            if (MetricRegistries.get(scope).getMetadata().isEmpty()) {
+                return false;
+            }
+            scopes = new MetricRegistry.Type[] { scope };
+        }
+        OPEN_METRICS_HEADERS.forEach(response::addHeader);
+        response.setStatus(HttpServletResponse.SC_OK);
+        openMetricsExporter.export(response.getOutputStream(), scopes);
+        return true;
+    }
+
+    private static boolean acceptsOpenMetrics(Enumeration<String> acceptHeaders) {
+        // Without a text media type, the MetricsRequestHandler negotiates the content type or rejects the request
+        boolean acceptsText = false;
+        while (acceptHeaders.hasMoreElements()) {
+            String acceptHeader = acceptHeaders.nextElement();
+            if (acceptHeader.contains("application/json")) {
+                // Let the MetricsRequestHandler negotiate the content type
+                return false;
+            }
+            acceptsText |= acceptHeader.contains("text/plain") || acceptHeader.contains("*/*");
+        }
+        return acceptsText;
+    }
 }
@@ -0,0 +1,102 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.MemoryUsage;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.metrics.Meter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.metrics.MetricRegistries;
+
+public class GcNotificationListenerTest {
+
+    private static final String PAUSE = "test.gc.pause";
+    private static final String ALLOCATION = "test.memory.allocation";
+
+    private MetricRegistry registry;
+    private Map<String, Timer> pauses;
+    private Meter allocation;
+    private GcNotificationListener listener;
+
+    @BeforeEach
+    public void createListener() {
+        registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        pauses = new HashMap<>();
+        for (String gc : new String[] { "ParNew", "ConcurrentMarkSweep", "ZGC Cycles", "ZGC Pauses" }) {
+            pauses.put(gc, registry.timer(PAUSE, new Tag("name", gc)));
+        }
+        allocation = registry.meter(ALLOCATION);
+        listener = new GcNotificationListener(pauses, allocation);
+    }
+
+    @AfterEach
+    public void removeMetrics() {
+        registry.removeMatching((id, metric) -> id.getName().equals(PAUSE) || id.getName().equals(ALLOCATION));
+    }
+
+    @Test
+    public void testPausesAreRecorded() {
+        listener.record("ParNew", "end of minor GC", "Allocation Failure", 12, eden(100), eden(0));
+        listener.record("ZGC Pauses", "end of GC pause", "Proactive", 1, noPools(), noPools());
+
+        assertEquals(1, pauses.get("ParNew").getCount());
+        assertEquals(12_000_000, pauses.get("ParNew").getSnapshot().getMax());
+        assertEquals(1, pauses.get("ZGC Pauses").getCount());
+    }
+
+    @Test
+    public void testConcurrentPhasesAreNotRecordedAsPauses() {
+        listener.record("ConcurrentMarkSweep", "end of major GC", "No GC", 250, eden(10), eden(10));
+        listener.record("ZGC Cycles", "end of GC cycle", "Proactive", 40, noPools(), noPools());
+
+        assertEquals(0, pauses.get("ConcurrentMarkSweep").getCount());
+        assertEquals(0, pauses.get("ZGC Cycles").getCount());
+
+        // a stop-the-world collection of the same collector is still a pause
+        listener.record("ConcurrentMarkSweep", "end of major GC", "Allocation Failure", 300, eden(10), eden(0));
+        assertEquals(1, pauses.get("ConcurrentMarkSweep").getCount());
+    }
+
+    @Test
+    public void testConcurrentPhases() {
+        assertTrue(GcNotificationListener.isConcurrentPhase("ConcurrentMarkSweep", "end of major GC", "No GC"));
+        assertTrue(GcNotificationListener.isConcurrentPhase("G1 Concurrent GC", "end of concurrent GC pause",
+                "No GC"));
+        assertTrue(GcNotificationListener.isConcurrentPhase("Shenandoah Cycles", "end of GC cycle", "Concurrent GC"));
+        assertTrue(GcNotificationListener.isConcurrentPhase("ZGC Major Cycles", "end of GC cycle", "Proactive"));
+        assertFalse(GcNotificationListener.isConcurrentPhase("G1 Young Generation", "end of minor GC",
+                "G1 Evacuation Pause"));
+        assertFalse(GcNotificationListener.isConcurrentPhase("G1 Old Generation", "end of major GC", "System.gc()"));
+        assertFalse(GcNotificationListener.isConcurrentPhase("Shenandoah Pauses", "end of GC pause", "Concurrent GC"));
+        assertFalse(GcNotificationListener.isConcurrentPhase("ZGC Pauses", "end of GC pause", "Proactive"));
+    }
+
+    @Test
+    public void testAllocationIsYoungGenerationGrowth() {
+        listener.record("ParNew", "end of minor GC", "Allocation Failure", 1, eden(100), eden(0));
+        listener.record("ParNew", "end of minor GC", "Allocation Failure", 1, eden(60), eden(10));
+        // concurrent phases still track the young generation
+        listener.record("ConcurrentMarkSweep", "end of major GC", "No GC", 1, eden(30), eden(30));
+
+        assertEquals(100 + 60 + 20, allocation.getCount());
+    }
+
+    private static Map<String, MemoryUsage> eden(long used) {
+        return Collections.singletonMap("Par Eden Space", new MemoryUsage(0, used, 1000, 1000));
+    }
+
+    private static Map<String, MemoryUsage> noPools() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class JvmMetricsSamplerTest {
+
+    @Test
+    public void testSnapshotIsSharedWithinInterval() {
+        JvmMetricsSampler sampler = new JvmMetricsSampler(Duration.ofHours(1));
+        JvmMetricsSampler.Snapshot snapshot = sampler.get();
+        assertSame(snapshot, sampler.get());
+        assertSame(snapshot, sampler.get());
+
+        assertEquals(Runtime.getRuntime().availableProcessors(), snapshot.availableProcessors);
+        assertTrue(snapshot.heapUsed > 0);
+        assertTrue(snapshot.threadCount > 0);
+        assertEquals(sampler.garbageCollectors().size(), snapshot.collectionCounts.length);
+        // the memory pools are only read once requested
+        assertEquals(0, snapshot.poolPeakUsages.length);
+    }
+
+    @Test
+    public void testZeroIntervalTakesNewSnapshots() {
+        JvmMetricsSampler sampler = new JvmMetricsSampler(Duration.ZERO);
+        assertNotSame(sampler.get(), sampler.get());
+    }
+
+    @Test
+    public void testMemoryPoolsInvalidateSnapshot() {
+        JvmMetricsSampler sampler = new JvmMetricsSampler(Duration.ofHours(1));
+        JvmMetricsSampler.Snapshot snapshot = sampler.get();
+        int pools = sampler.memoryPools().size();
+        assertEquals(ManagementFactory.getMemoryPoolMXBeans().size(), pools);
+
+        JvmMetricsSampler.Snapshot withPools = sampler.get();
+        assertNotSame(snapshot, withPools);
+        assertEquals(pools, withPools.poolPeakUsages.length);
+        assertSame(withPools, sampler.get());
+    }
+}
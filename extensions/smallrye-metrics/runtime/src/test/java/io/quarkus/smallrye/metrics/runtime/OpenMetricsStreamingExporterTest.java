@@ -0,0 +1,139 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricFilter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.metrics.MetricRegistries;
+import io.smallrye.metrics.exporters.OpenMetricsExporter;
+
+public class OpenMetricsStreamingExporterTest {
+
+    @BeforeEach
+    public void registerMetrics() {
+        MetricRegistry application = MetricRegistries.get(MetricRegistry.Type.APPLICATION);
+        MetricRegistry vendor = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        for (int i = 0; i < 3; i++) {
+            Tag[] tags = { new Tag("endpoint", "/e" + i), new Tag("method", i == 2 ? "q\"uo\\ted" : "GET") };
+            application.counter(Metadata.builder().withName("requests").withDescription("Requests \\ count")
+                    .withType(MetricType.COUNTER).build(), tags).inc(i + 1);
+            application.counter(Metadata.builder().withName("sent").withUnit(MetricUnits.BYTES)
+                    .withType(MetricType.COUNTER).build(), tags).inc(1000 * i);
+            application.timer(Metadata.builder().withName("request.time").withDescription("Time")
+                    .withType(MetricType.TIMER).build(), tags).update(10 + i, TimeUnit.MILLISECONDS);
+            application.timer(Metadata.builder().withName("query.time").withUnit(MetricUnits.MILLISECONDS)
+                    .withType(MetricType.TIMER).build(), tags).update(i, TimeUnit.SECONDS);
+            application.histogram(Metadata.builder().withName("sizes").withUnit(MetricUnits.KILOBYTES)
+                    .withType(MetricType.HISTOGRAM).build(), tags).update(100 * i);
+            application.histogram(Metadata.builder().withName("items").withDescription("Items")
+                    .withType(MetricType.HISTOGRAM).build(), tags).update(i);
+            application.meter(Metadata.builder().withName("hits").withType(MetricType.METERED).build(), tags).mark(3);
+            application.concurrentGauge(Metadata.builder().withName("in.flight").withType(MetricType.CONCURRENT_GAUGE)
+                    .build(), tags).inc();
+            double value = 1.5e4 * i;
+            application.register(Metadata.builder().withName("memory").withUnit(MetricUnits.MEGABYTES)
+                    .withType(MetricType.GAUGE).build(), (Gauge<Double>) () -> value, tags);
+            long count = 3 * i;
+            vendor.register(Metadata.builder().withName("threads").withDescription("Threads")
+                    .withType(MetricType.GAUGE).build(), (Gauge<Long>) () -> count, tags);
+        }
+        application.counter("untagged").inc();
+        application.register(Metadata.builder().withName("ratio").withUnit(MetricUnits.PERCENT)
+                .withType(MetricType.GAUGE).build(), (Gauge<Double>) () -> 0.25);
+    }
+
+    @AfterEach
+    public void removeMetrics() {
+        for (MetricRegistry.Type scope : MetricRegistry.Type.values()) {
+            MetricRegistries.get(scope).removeMatching(MetricFilter.ALL);
+        }
+    }
+
+    @Test
+    public void testSameLinesAsOpenMetricsExporter() throws IOException {
+        String expected = new OpenMetricsExporter().exportAllScopes().toString();
+        String actual = export(MetricRegistry.Type.values());
+        assertEquals(normalize(expected), normalize(actual));
+    }
+
+    @Test
+    public void testSameLinesAsOpenMetricsExporterForOneScope() throws IOException {
+        String expected = new OpenMetricsExporter().exportOneScope(MetricRegistry.Type.VENDOR).toString();
+        String actual = export(MetricRegistry.Type.VENDOR);
+        assertEquals(normalize(expected), normalize(actual));
+        assertTrue(actual.contains("vendor_threads{endpoint=\"/e1\",method=\"GET\"} 3.0\n"), actual);
+    }
+
+    @Test
+    public void testSamplesOfANameAreContiguous() throws IOException {
+        String actual = export(MetricRegistry.Type.values());
+        Set<String> families = new HashSet<>();
+        String family = null;
+        for (String line : actual.split("\n")) {
+            if (line.startsWith("# HELP ")) {
+                continue;
+            }
+            if (line.startsWith("# TYPE ")) {
+                family = line.split(" ")[2];
+                assertTrue(families.add(family), "Family written twice: " + family + "\n" + actual);
+                continue;
+            }
+            assertNotNull(family, actual);
+            assertTrue(line.startsWith(family), line + " written after the TYPE line of " + family + "\n" + actual);
+        }
+        assertTrue(families.contains("application_request_time_seconds"), actual);
+    }
+
+    private static String export(MetricRegistry.Type... scopes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new OpenMetricsStreamingExporter().export(out, scopes);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sorts the lines and the tags of each sample, and drops the values of the rates which depend on the time.
+     */
+    private static List<String> normalize(String export) {
+        List<String> lines = new ArrayList<>();
+        for (String line : export.split("\n")) {
+            if (line.startsWith("#")) {
+                lines.add(line);
+                continue;
+            }
+            int valueStart = line.lastIndexOf(' ');
+            String sample = line.substring(0, valueStart);
+            int tagsStart = sample.indexOf('{');
+            if (tagsStart >= 0) {
+                String[] tags = sample.substring(tagsStart + 1, sample.length() - 1).split(",(?=[a-z]+=\")");
+                Arrays.sort(tags);
+                sample = sample.substring(0, tagsStart) + "{" + String.join(",", tags) + "}";
+            }
+            lines.add(sample.contains("rate_per_second") ? sample : sample + line.substring(valueStart));
+        }
+        Collections.sort(lines);
+        return lines;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.quarkus.undertow.deployment;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources served from memory, see {@link StaticResourcesConfig#precompress}.
+ */
+final class PrecompressedResourcesBuildItem extends SimpleBuildItem {
+
+    /**
+     * The content hash of each resource, by path relative to {@code META-INF/resources}
+     */
+    final Map<String, String> contentHashes;
+    /**
+     * The resources with a {@code .gz} variant
+     */
+    final Set<String> gzipped;
+    /**
+     * The resources with a {@code .br} variant
+     */
+    final Set<String> brotli;
+
+    PrecompressedResourcesBuildItem(Map<String, String> contentHashes, Set<String> gzipped, Set<String> brotli) {
+        this.contentHashes = contentHashes;
+        this.gzipped = gzipped;
+        this.brotli = brotli;
+    }
+}
@@ -16,4 +16,10 @@ public class ServletConfig {
     @ConfigItem
     Optional<String> contextPath;
 
+    /**
+     * The static resources configuration
+     */
+    @ConfigItem
+    StaticResourcesConfig staticResources;
+
 }
@@ -0,0 +1,36 @@
+package io.quarkus.undertow.deployment;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * If the static resources from {@code META-INF/resources} are served from memory, with strong ETags computed at
+     * build time and the compressed variants negotiated with {@code Accept-Encoding}.
+     * <p>
+     * The compressible resources are gzipped at build time; the {@code .br} and {@code .gz} files shipped next to a
+     * resource are served as its brotli and gzip variants.
+     * <p>
+     * The resources are served before the Servlet filters, so this is ignored if the application or an extension
+     * declares filters, handler wrappers, authentication mechanisms or security constraints.
+     */
+    @ConfigItem(defaultValue = "true")
+    boolean precompress;
+
+    /**
+     * The resources smaller than this size are not compressed.
+     */
+    @ConfigItem(defaultValue = "1K")
+    MemorySize compressionThreshold;
+
+    /**
+     * The maximum size of the off-heap memory holding the resources. The resources which do not fit are served by the
+     * default Servlet.
+     */
+    @ConfigItem(defaultValue = "10M")
+    MemorySize maxCacheSize;
+
+}
@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -133,10 +134,18 @@ public class UndertowBuildStep {
             List<HttpHandlerWrapperBuildItem> wrappers,
             ShutdownContextBuildItem shutdown,
             Consumer<DefaultRouteBuildItem> undertowProducer,
-            ExecutorBuildItem executorBuildItem) throws Exception {
+            ExecutorBuildItem executorBuildItem,
+            Optional<PrecompressedResourcesBuildItem> precompressedResources,
+            ServletConfig servletConfig) throws Exception {
         Handler<HttpServerRequest> ut = recorder.startUndertow(shutdown, executorBuildItem.getExecutorProxy(),
                 servletDeploymentManagerBuildItem.getDeploymentManager(),
                 wrappers.stream().map(HttpHandlerWrapperBuildItem::getValue).collect(Collectors.toList()));
+        if (precompressedResources.isPresent()) {
+            PrecompressedResourcesBuildItem resources = precompressedResources.get();
+            ut = recorder.serveStaticResources(ut, servletDeploymentManagerBuildItem.getDeploymentManager(),
+                    resources.contentHashes, resources.gzipped, resources.brotli,
+                    servletConfig.staticResources.maxCacheSize.asLongValue());
+        }
 
         undertowProducer.accept(new DefaultRouteBuildItem(ut));
         return new ServiceStartBuildItem("undertow");
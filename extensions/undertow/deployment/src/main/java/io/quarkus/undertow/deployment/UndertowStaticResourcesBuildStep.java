@@ -1,21 +1,36 @@
 package io.quarkus.undertow.deployment;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+import org.jboss.metadata.web.spec.WebMetaData;
 
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
@@ -26,6 +41,14 @@ public class UndertowStaticResourcesBuildStep {
     protected static final String META_INF_RESOURCES_SLASH = "META-INF/resources/";
     protected static final String META_INF_RESOURCES = "META-INF/resources";
 
+    private static final Logger log = Logger.getLogger(UndertowStaticResourcesBuildStep.class);
+
+    /**
+     * The extensions of the resources worth compressing, the other formats are usually compressed already
+     */
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = new HashSet<>(Arrays.asList("html", "htm", "css", "js",
+            "mjs", "json", "map", "svg", "txt", "xml", "csv", "ico", "wasm", "webmanifest", "ttf", "otf", "eot"));
+
     @BuildStep
     void handleGeneratedWebResources(BuildProducer<GeneratedResourceBuildItem> generatedResources,
             List<GeneratedWebResourceBuildItem> generatedWebResources) throws Exception {
@@ -114,4 +137,113 @@ public class UndertowStaticResourcesBuildStep {
             substrate.produce(new SubstrateResourceBuildItem(META_INF_RESOURCES_SLASH + i));
         }
     }
+
+    @BuildStep
+    PrecompressedResourcesBuildItem precompressStaticResources(KnownPathsBuildItem paths,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            List<GeneratedWebResourceBuildItem> generatedWebResources,
+            WebMetadataBuildItem webMetadataBuildItem,
+            CombinedIndexBuildItem combinedIndexBuildItem,
+            List<FilterBuildItem> filters,
+            List<HttpHandlerWrapperBuildItem> wrappers,
+            LaunchModeBuildItem launchModeBuildItem,
+            ServletConfig servletConfig,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<SubstrateResourceBuildItem> substrate) throws Exception {
+        StaticResourcesConfig config = servletConfig.staticResources;
+        if (!config.precompress || launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT
+                || paths.knownFiles.isEmpty()) {
+            return null;
+        }
+        //the resources are served ahead of Undertow, before the Servlet filters, the handler wrappers and the security
+        //constraints are applied. What the servlet extensions install is only known at runtime, it is checked there
+        WebMetaData webMetaData = webMetadataBuildItem.getWebMetaData();
+        IndexView index = combinedIndexBuildItem.getIndex();
+        if ((webMetaData.getFilters() != null && !webMetaData.getFilters().isEmpty())
+                || (webMetaData.getSecurityConstraints() != null && !webMetaData.getSecurityConstraints().isEmpty())
+                || !index.getAnnotations(UndertowBuildStep.WEB_FILTER).isEmpty()
+                || !index.getAnnotations(UndertowBuildStep.SERVLET_SECURITY).isEmpty()
+                || !filters.isEmpty() || !wrappers.isEmpty()) {
+            log.debug("Static resources are not precompressed, as the application declares filters, handler wrappers "
+                    + "or security constraints");
+            return null;
+        }
+        Map<String, byte[]> generated = new HashMap<>();
+        for (GeneratedWebResourceBuildItem genResource : generatedWebResources) {
+            String sub = genResource.getName();
+            generated.put(sub.startsWith("/") ? sub.substring(1) : sub, genResource.getClassData());
+        }
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Map<String, String> contentHashes = new HashMap<>();
+        Set<String> gzipped = new HashSet<>();
+        Set<String> brotli = new HashSet<>();
+        for (String path : paths.knownFiles) {
+            if (path.endsWith(".gz") || path.endsWith(".br")) {
+                //served as a variant of the original resource
+                continue;
+            }
+            byte[] data = generated.get(path);
+            if (data == null) {
+                data = readResource(applicationArchivesBuildItem, path);
+            }
+            if (data == null) {
+                continue;
+            }
+            contentHashes.put(path, Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(data)));
+            if (paths.knownFiles.contains(path + ".br")) {
+                brotli.add(path);
+            }
+            if (paths.knownFiles.contains(path + ".gz")) {
+                gzipped.add(path);
+            } else if (data.length >= config.compressionThreshold.asLongValue() && isCompressible(path)) {
+                byte[] compressed = gzip(data);
+                if (compressed.length < data.length) {
+                    generatedResources.produce(new GeneratedResourceBuildItem(META_INF_RESOURCES_SLASH + path + ".gz",
+                            compressed));
+                    substrate.produce(new SubstrateResourceBuildItem(META_INF_RESOURCES_SLASH + path + ".gz"));
+                    gzipped.add(path);
+                }
+            }
+        }
+        return new PrecompressedResourcesBuildItem(contentHashes, gzipped, brotli);
+    }
+
+    private byte[] readResource(ApplicationArchivesBuildItem applicationArchivesBuildItem, String path) throws IOException {
+        for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
+            Path resource = i.getChildPath(META_INF_RESOURCES_SLASH + path);
+            if (resource != null && Files.isRegularFile(resource)) {
+                return Files.readAllBytes(resource);
+            }
+        }
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(META_INF_RESOURCES_SLASH + path)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static boolean isCompressible(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot != -1 && COMPRESSIBLE_EXTENSIONS.contains(path.substring(dot + 1).toLowerCase());
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                //this is done once at build time, so we can afford the best compression
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
 }
@@ -0,0 +1,84 @@
+package io.quarkus.undertow.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrecompressedStaticResourcesTestCase {
+
+    private static final String SCRIPT = script();
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource(new StringAsset(SCRIPT), "resources/app.js")
+                    .addAsManifestResource(new StringAsset("tiny"), "resources/tiny.txt"));
+
+    @Test
+    public void testGzipVariant() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/app.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .header("ETag", startsWith("\""))
+                .body(is(SCRIPT));
+    }
+
+    @Test
+    public void testIdentity() {
+        given().header("Accept-Encoding", "identity")
+                .when().get("/app.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Length", Integer.toString(SCRIPT.length()))
+                .body(is(SCRIPT));
+        given().header("Accept-Encoding", "gzip;q=0")
+                .when().get("/app.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+    }
+
+    @Test
+    public void testNotModified() {
+        String etag = given().header("Accept-Encoding", "gzip")
+                .when().get("/app.js").then()
+                .statusCode(200)
+                .extract().header("ETag");
+        given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .when().get("/app.js").then()
+                .statusCode(304);
+        // The identity representation has its own ETag
+        given().header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .when().get("/app.js").then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testSmallResourceNotCompressed() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/tiny.txt").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("ETag", startsWith("\""))
+                .body(is("tiny"));
+    }
+
+    private static String script() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; ++i) {
+            sb.append("console.log('line ").append(i).append("');\n");
+        }
+        return sb.toString();
+    }
+
+}
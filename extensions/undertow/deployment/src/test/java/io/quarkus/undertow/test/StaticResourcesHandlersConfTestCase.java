@@ -0,0 +1,50 @@
+package io.quarkus.undertow.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * The handlers installed by a servlet extension must apply to the static resources, which are then served by Undertow.
+ */
+public class StaticResourcesHandlersConfTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource(new StringAsset(script()), "resources/secret.js")
+                    .addAsManifestResource(new StringAsset(script()), "resources/app.js")
+                    .addAsManifestResource(new StringAsset("path('/secret.js') -> response-code(403)"),
+                            "undertow-handlers.conf"));
+
+    @Test
+    public void testHandlerApplied() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/secret.js").then()
+                .statusCode(403);
+    }
+
+    @Test
+    public void testServedByUndertow() {
+        given().header("Accept-Encoding", "identity")
+                .when().get("/app.js").then()
+                .statusCode(200)
+                .body(is(script()));
+    }
+
+    private static String script() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; ++i) {
+            sb.append("console.log('line ").append(i).append("');\n");
+        }
+        return sb.toString();
+    }
+
+}
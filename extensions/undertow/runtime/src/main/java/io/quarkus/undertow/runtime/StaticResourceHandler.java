@@ -0,0 +1,246 @@
+package io.quarkus.undertow.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.servlet.ServletContext;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Serves the static resources known at build time from off-heap memory, before the requests reach the default
+ * Servlet.
+ * <p>
+ * Each resource has a strong ETag computed from its content at build time, and may have gzip and brotli variants which
+ * are selected with the {@code Accept-Encoding} header. The requests for any other path, or for the resources which did
+ * not fit in the cache, are passed to Undertow.
+ */
+final class StaticResourceHandler implements Handler<HttpServerRequest> {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.undertow");
+
+    private static final String META_INF_RESOURCES = "META-INF/resources/";
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+    private static final CharSequence VARY = HttpHeaders.createOptimized("Vary");
+
+    private final Handler<HttpServerRequest> next;
+    private final String prefix;
+    private final Map<String, CachedResource> resources;
+
+    StaticResourceHandler(Handler<HttpServerRequest> next, String contextPath, Map<String, CachedResource> resources) {
+        this.next = next;
+        this.prefix = contextPath.endsWith("/") ? contextPath : contextPath + "/";
+        this.resources = resources;
+    }
+
+    @Override
+    public void handle(HttpServerRequest request) {
+        HttpMethod method = request.method();
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD) {
+            String path = request.path();
+            if (path != null && path.startsWith(prefix)) {
+                CachedResource resource = resources.get(path.substring(prefix.length()));
+                if (resource != null) {
+                    serve(request, resource);
+                    return;
+                }
+            }
+        }
+        next.handle(request);
+    }
+
+    private void serve(HttpServerRequest request, CachedResource resource) {
+        Representation representation = resource.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        HttpServerResponse response = request.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, representation.etag);
+        if (resource.gzip != null || resource.brotli != null) {
+            headers.set(VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), representation.etag)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+        if (resource.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        }
+        if (representation.encoding != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, representation.encoding);
+        }
+        headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(representation.content.length()));
+        if (request.method() == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            response.end(representation.content);
+        }
+    }
+
+    /**
+     * Uses the weak comparison, as required for {@code If-None-Match}.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the content coding is acceptable, i.e. listed or matched by {@code *} with a non zero quality
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim();
+            boolean acceptable = true;
+            for (int i = 1; i < parts.length; ++i) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        acceptable = Double.parseDouble(param.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        acceptable = false;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase(coding)) {
+                return acceptable;
+            } else if (name.equals("*")) {
+                wildcard = acceptable;
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    /**
+     * Loads the resources in direct buffers, until the maximum size is reached. The buffers are never released, their
+     * memory is reclaimed with the handler.
+     *
+     * @param contentHashes the content hash of each resource, by path relative to {@code META-INF/resources}
+     * @param gzipped the resources with a {@code .gz} variant
+     * @param brotli the resources with a {@code .br} variant
+     */
+    static Map<String, CachedResource> load(ClassLoader classLoader, ServletContext servletContext,
+            Map<String, String> contentHashes, Set<String> gzipped, Set<String> brotli, long maxSize) throws IOException {
+        Map<String, CachedResource> resources = new HashMap<>();
+        long remaining = maxSize;
+        for (Map.Entry<String, String> entry : contentHashes.entrySet()) {
+            String path = entry.getKey();
+            byte[] identity = read(classLoader, path);
+            byte[] gzip = gzipped.contains(path) ? read(classLoader, path + ".gz") : null;
+            byte[] br = brotli.contains(path) ? read(classLoader, path + ".br") : null;
+            long size = length(identity) + length(gzip) + length(br);
+            if (identity == null || size > remaining) {
+                log.debugf("Static resource %s is not cached", path);
+                continue;
+            }
+            remaining -= size;
+            String etag = entry.getValue();
+            resources.put(path, new CachedResource(servletContext.getMimeType(path),
+                    representation(identity, "\"" + etag + "\"", null),
+                    representation(gzip, "\"" + etag + "-gzip\"", GZIP),
+                    representation(br, "\"" + etag + "-br\"", BROTLI)));
+        }
+        return resources;
+    }
+
+    private static byte[] read(ClassLoader classLoader, String path) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(META_INF_RESOURCES + path)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static long length(byte[] data) {
+        return data == null ? 0 : data.length;
+    }
+
+    private static Representation representation(byte[] data, String etag, String encoding) {
+        if (data == null) {
+            return null;
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        // The buffer is shared by all the responses, so the writes must not release it
+        return new Representation(Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(direct))), etag,
+                encoding);
+    }
+
+    static final class CachedResource {
+
+        final String contentType;
+        final Representation identity;
+        final Representation gzip;
+        final Representation brotli;
+
+        CachedResource(String contentType, Representation identity, Representation gzip, Representation brotli) {
+            this.contentType = contentType;
+            this.identity = identity;
+            this.gzip = gzip;
+            this.brotli = brotli;
+        }
+
+        Representation select(String acceptEncoding) {
+            if (brotli != null && accepts(acceptEncoding, BROTLI)) {
+                return brotli;
+            }
+            if (gzip != null && accepts(acceptEncoding, GZIP)) {
+                return gzip;
+            }
+            return identity;
+        }
+    }
+
+    static final class Representation {
+
+        final Buffer content;
+        final String etag;
+        final String encoding;
+
+        Representation(Buffer content, String etag, String encoding) {
+            this.content = content;
+            this.etag = etag;
+            this.encoding = encoding;
+        }
+    }
+
+}
@@ -332,6 +332,35 @@ public class UndertowDeploymentRecorder {
         };
     }
 
+    /**
+     * Serves the static resources from memory, ahead of Undertow, unless the servlet extensions installed filters,
+     * handler wrappers or security in the deployment, in which case Undertow serves them.
+     *
+     * @param contentHashes the content hash of each resource, by path relative to {@code META-INF/resources}
+     * @param gzipped the resources with a {@code .gz} variant
+     * @param brotli the resources with a {@code .br} variant
+     */
+    public Handler<HttpServerRequest> serveStaticResources(Handler<HttpServerRequest> undertow, DeploymentManager manager,
+            Map<String, String> contentHashes, Set<String> gzipped, Set<String> brotli, long maxCacheSize)
+            throws IOException {
+        DeploymentInfo info = manager.getDeployment().getDeploymentInfo();
+        if (!info.getFilters().isEmpty() || !info.getSecurityConstraints().isEmpty()
+                || !info.getAuthenticationMechanisms().isEmpty() || info.getLoginConfig() != null
+                || info.getInitialSecurityWrapper() != null || !info.getSecurityWrappers().isEmpty()
+                || !info.getInitialHandlerChainWrappers().isEmpty() || !info.getOuterHandlerChainWrappers().isEmpty()
+                || !info.getInnerHandlerChainWrappers().isEmpty()) {
+            log.debug("Static resources are served by Undertow, as the deployment has filters, handler wrappers or security");
+            return undertow;
+        }
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl == null) {
+            cl = getClass().getClassLoader();
+        }
+        Map<String, StaticResourceHandler.CachedResource> resources = StaticResourceHandler.load(cl,
+                manager.getDeployment().getServletContext(), contentHashes, gzipped, brotli, maxCacheSize);
+        return new StaticResourceHandler(undertow, info.getContextPath(), resources);
+    }
+
     public static void addHotDeploymentWrapper(HandlerWrapper handlerWrapper) {
         hotDeploymentWrappers.add(handlerWrapper);
     }
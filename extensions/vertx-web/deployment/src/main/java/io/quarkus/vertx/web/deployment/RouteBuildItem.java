@@ -0,0 +1,32 @@
+package io.quarkus.vertx.web.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A handler registered by an extension for the requests matching a path. The routes are added after the filters and
+ * before the default route, which the handler may fall back to by calling {@link RoutingContext#next()}.
+ */
+public final class RouteBuildItem extends MultiBuildItem {
+
+    private final String path;
+    private final Handler<RoutingContext> handler;
+
+    /**
+     * @param path the path of the route, see {@link io.vertx.ext.web.Router#route(String)}
+     * @param handler the handler
+     */
+    public RouteBuildItem(String path, Handler<RoutingContext> handler) {
+        this.path = path;
+        this.handler = handler;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Handler<RoutingContext> getHandler() {
+        return handler;
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkus.vertx.web.deployment;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +61,7 @@ import io.quarkus.vertx.web.runtime.HttpConfiguration;
 import io.quarkus.vertx.web.runtime.RouterProducer;
 import io.quarkus.vertx.web.runtime.RoutingExchangeImpl;
 import io.quarkus.vertx.web.runtime.VertxWebRecorder;
+import io.quarkus.vertx.web.runtime.compression.CompressionRecorder;
 import io.quarkus.vertx.web.runtime.cors.CORSRecorder;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -85,6 +87,13 @@ class VertxWebProcessor {
         return new FilterBuildItem(recorder.corsHandler(configuration));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    FilterBuildItem compression(CompressionRecorder recorder,
+            HttpConfiguration configuration) {
+        return new FilterBuildItem(recorder.compressionHandler(configuration));
+    }
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FeatureBuildItem.VERTX_WEB);
@@ -151,7 +160,8 @@ class VertxWebProcessor {
             VertxBuildItem vertx,
             Optional<DefaultRouteBuildItem> defaultRoute,
             Optional<RequireVirtualHttpBuildItem> requireVirtual,
-            List<FilterBuildItem> filters) throws IOException {
+            List<FilterBuildItem> filters,
+            List<RouteBuildItem> extensionRoutes) throws IOException {
 
         ClassOutput classOutput = new ClassOutput() {
             @Override
@@ -168,11 +178,20 @@ class VertxWebProcessor {
             routeConfigs.put(handlerClass, routes);
             reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, handlerClass));
         }
+        // The routes are registered in the order they were produced
+        Map<String, Handler<RoutingContext>> extensionRouteHandlers = new LinkedHashMap<>();
+        for (RouteBuildItem route : extensionRoutes) {
+            if (extensionRouteHandlers.putIfAbsent(route.getPath(), route.getHandler()) != null) {
+                throw new IllegalStateException(
+                        String.format("Several extensions registered a route for the path %s", route.getPath()));
+            }
+        }
         boolean startVirtual = requireVirtual.isPresent() || httpConfiguration.virtual;
         // start http socket in dev/test mode even if virtual http is required
         boolean startSocket = !startVirtual || launchMode.getLaunchMode() != LaunchMode.NORMAL;
         recorder.configureRouter(vertx.getVertx(), beanContainer.getValue(), routeConfigs,
-                filters.stream().map(FilterBuildItem::getHandler).collect(Collectors.toList()), httpConfiguration,
+                filters.stream().map(FilterBuildItem::getHandler).collect(Collectors.toList()), extensionRouteHandlers,
+                httpConfiguration,
                 launchMode.getLaunchMode(),
                 shutdown, defaultRoute.map(DefaultRouteBuildItem::getHandler).orElse(null),
                 startVirtual, startSocket);
@@ -0,0 +1,82 @@
+package io.quarkus.vertx.web;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+public class CompressionTestCase {
+
+    private static final String JSON = json();
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true"), "application.properties"));
+
+    @Test
+    public void testCompressedJson() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/json").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(is(JSON));
+    }
+
+    @Test
+    public void testSmallResponseNotCompressed() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/small").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is("{}"));
+    }
+
+    @Test
+    public void testMediaTypeNotCompressed() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/binary").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+    }
+
+    private static String json() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 100; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i).append(",\"name\":\"item ").append(i).append("\"}");
+        }
+        return sb.append(']').toString();
+    }
+
+    public static class Routes {
+
+        @Route(path = "/json")
+        void json(RoutingContext context) {
+            context.response().putHeader(HttpHeaders.CONTENT_TYPE, "application/json").end(JSON);
+        }
+
+        @Route(path = "/small")
+        void small(RoutingContext context) {
+            context.response().putHeader(HttpHeaders.CONTENT_TYPE, "application/json").end("{}");
+        }
+
+        @Route(path = "/binary")
+        void binary(RoutingContext context) {
+            context.response().putHeader(HttpHeaders.CONTENT_TYPE, "application/octet-stream").end(JSON);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.vertx.web;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.function.Consumer;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.web.deployment.RouteBuildItem;
+
+public class DuplicateExtensionRouteTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(NamedRouteHandler.class))
+            .setExpectedException(IllegalStateException.class)
+            .addBuildChainCustomizer(buildCustomizer());
+
+    static Consumer<BuildChainBuilder> buildCustomizer() {
+        return new Consumer<BuildChainBuilder>() {
+
+            @Override
+            public void accept(BuildChainBuilder builder) {
+                builder.addBuildStep(new BuildStep() {
+
+                    @Override
+                    public void execute(BuildContext context) {
+                        context.produce(new RouteBuildItem("/ext", new NamedRouteHandler("first", true)));
+                        context.produce(new RouteBuildItem("/ext", new NamedRouteHandler("second", true)));
+                    }
+                }).produces(RouteBuildItem.class).build();
+            }
+        };
+    }
+
+    @Test
+    public void testDuplicateRoutesFail() {
+        fail();
+    }
+
+}
@@ -0,0 +1,74 @@
+package io.quarkus.vertx.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+
+public class Http2DisabledTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestRoute.class)
+                    .addAsResource(new StringAsset("quarkus.http.http2.enabled=false"), "application.properties"));
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void createVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void closeVertx() {
+        vertx.close();
+    }
+
+    @Test
+    public void testUpgradeIgnored() throws Exception {
+        assertEquals(HttpVersion.HTTP_1_1, get(true).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPriorKnowledgeRejected() {
+        // the HTTP/2 preface is not understood by the HTTP/1.1 server, the request fails or never completes
+        assertThrows(Exception.class, () -> get(false).get(3, TimeUnit.SECONDS));
+    }
+
+    private CompletableFuture<HttpVersion> get(boolean upgrade) {
+        HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(upgrade)
+                .setDefaultHost("localhost")
+                .setDefaultPort(Integer.getInteger("quarkus.http.test-port", 8081)));
+        CompletableFuture<HttpVersion> result = new CompletableFuture<>();
+        client.get("/test", response -> {
+            response.bodyHandler(body -> {
+                if (body.toString().equals("test route")) {
+                    result.complete(response.version());
+                } else {
+                    result.completeExceptionally(new AssertionError("Unexpected body " + body));
+                }
+            });
+            response.exceptionHandler(result::completeExceptionally);
+        }).exceptionHandler(result::completeExceptionally).end();
+        return result.whenComplete((version, failure) -> client.close());
+    }
+
+}
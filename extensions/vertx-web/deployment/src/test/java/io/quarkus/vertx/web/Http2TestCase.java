@@ -0,0 +1,72 @@
+package io.quarkus.vertx.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+
+public class Http2TestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestRoute.class)
+                    .addAsResource(new StringAsset("quarkus.http.http2.max-concurrent-streams=10"),
+                            "application.properties"));
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void createVertx() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void closeVertx() {
+        vertx.close();
+    }
+
+    @Test
+    public void testPriorKnowledge() throws Exception {
+        assertH2c(false);
+    }
+
+    @Test
+    public void testUpgrade() throws Exception {
+        assertH2c(true);
+    }
+
+    private void assertH2c(boolean upgrade) throws Exception {
+        HttpClient client = vertx.createHttpClient(new HttpClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(upgrade)
+                .setDefaultHost("localhost")
+                .setDefaultPort(Integer.getInteger("quarkus.http.test-port", 8081)));
+        CompletableFuture<String> result = new CompletableFuture<>();
+        client.getNow("/test", response -> {
+            if (response.version() != HttpVersion.HTTP_2) {
+                result.completeExceptionally(new AssertionError("Unexpected version " + response.version()));
+                return;
+            }
+            response.bodyHandler(body -> result.complete(body.toString()));
+            response.exceptionHandler(result::completeExceptionally);
+        });
+        assertEquals("test route", result.get(10, TimeUnit.SECONDS));
+        client.close();
+    }
+
+}
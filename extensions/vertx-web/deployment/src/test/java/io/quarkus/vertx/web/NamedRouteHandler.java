@@ -0,0 +1,49 @@
+package io.quarkus.vertx.web;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Appends its name to the names of the previous handlers, the last handler writes them.
+ */
+public class NamedRouteHandler implements Handler<RoutingContext> {
+
+    private String name;
+    private boolean last;
+
+    public NamedRouteHandler() {
+    }
+
+    public NamedRouteHandler(String name, boolean last) {
+        this.name = name;
+        this.last = last;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+
+    public void setLast(boolean last) {
+        this.last = last;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        String previous = context.get("names");
+        String names = previous != null ? previous + "," + name : name;
+        if (last) {
+            context.response().end(names);
+        } else {
+            context.put("names", names);
+            context.next();
+        }
+    }
+}
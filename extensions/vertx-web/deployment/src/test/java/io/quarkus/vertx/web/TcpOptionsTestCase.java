@@ -0,0 +1,34 @@
+package io.quarkus.vertx.web;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TcpOptionsTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TestRoute.class)
+                    .addAsResource(new StringAsset("quarkus.vertx.prefer-native-transport=true\n"
+                            + "quarkus.http.so-reuse-port=true\n"
+                            + "quarkus.http.tcp-quick-ack=true\n"
+                            + "quarkus.http.accept-backlog=1024\n"
+                            + "quarkus.http.idle-timeout=30S"), "application.properties"));
+
+    @Test
+    public void testServerStarted() {
+        // Falls back to the JDK transport if the native one is not available
+        when().get("/test").then()
+                .statusCode(200)
+                .body(is("test route"));
+    }
+
+}
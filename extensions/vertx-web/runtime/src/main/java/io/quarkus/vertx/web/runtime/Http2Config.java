@@ -0,0 +1,40 @@
+package io.quarkus.vertx.web.runtime;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class Http2Config {
+
+    /**
+     * Enable HTTP/2. It is negotiated with ALPN on the HTTPS port, if the JVM supports it, and with the h2c upgrade on
+     * the HTTP port, where the clients with prior knowledge of HTTP/2 may also use h2c directly.
+     *
+     * If disabled, the h2c upgrade requests are served with HTTP/1.1 and the h2c connections are rejected.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean enabled;
+
+    /**
+     * The maximum number of concurrent streams on a connection
+     */
+    @ConfigItem(defaultValue = "100")
+    public long maxConcurrentStreams;
+
+    /**
+     * The initial flow control window of the streams, in bytes. The HTTP/2 default of 65535 bytes is used if this is
+     * not set.
+     */
+    @ConfigItem
+    public OptionalInt initialWindowSize;
+
+    /**
+     * The flow control window of the connections, in bytes. The HTTP/2 default of 65535 bytes is used if this is not
+     * set.
+     */
+    @ConfigItem
+    public OptionalInt connectionWindowSize;
+
+}
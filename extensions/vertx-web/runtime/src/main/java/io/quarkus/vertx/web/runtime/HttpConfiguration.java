@@ -1,5 +1,7 @@
 package io.quarkus.vertx.web.runtime;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.OptionalInt;
 
 import io.quarkus.runtime.LaunchMode;
@@ -7,6 +9,7 @@ import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.configuration.ssl.ServerSslConfig;
+import io.quarkus.vertx.web.runtime.compression.CompressionConfig;
 import io.quarkus.vertx.web.runtime.cors.CORSConfig;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
@@ -53,6 +56,16 @@ public class HttpConfiguration {
      */
     public CORSConfig cors;
 
+    /**
+     * The compression config
+     */
+    public CompressionConfig compression;
+
+    /**
+     * The HTTP/2 config
+     */
+    public Http2Config http2;
+
     /**
      * The SSL config
      */
@@ -65,6 +78,44 @@ public class HttpConfiguration {
     @ConfigItem
     public OptionalInt ioThreads;
 
+    /**
+     * Enable {@code SO_REUSEPORT}, so that several processes can listen on the same port and the kernel balances the
+     * connections between them. This requires the native transport, see {@code quarkus.vertx.prefer-native-transport}.
+     */
+    @ConfigItem
+    public boolean soReusePort;
+
+    /**
+     * Enable {@code TCP_QUICKACK}. This requires the native transport on Linux.
+     */
+    @ConfigItem
+    public boolean tcpQuickAck;
+
+    /**
+     * Enable {@code TCP_CORK}. This requires the native transport on Linux.
+     */
+    @ConfigItem
+    public boolean tcpCork;
+
+    /**
+     * Enable {@code TCP_FASTOPEN}. This requires the native transport on Linux.
+     */
+    @ConfigItem
+    public boolean tcpFastOpen;
+
+    /**
+     * The size of the queue of the connections waiting to be accepted. The system default is used if this is not set.
+     */
+    @ConfigItem
+    public OptionalInt acceptBacklog;
+
+    /**
+     * The connections without any read or write for this duration are closed. The connections are never closed for
+     * inactivity if this is not set.
+     */
+    @ConfigItem
+    public Optional<Duration> idleTimeout;
+
     /**
      * If this is true then only a virtual channel will be set up for vertx web.
      * We have this switch for testing purposes.
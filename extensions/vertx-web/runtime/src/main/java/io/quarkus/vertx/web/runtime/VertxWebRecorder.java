@@ -7,6 +7,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -14,6 +15,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -38,22 +40,29 @@ import io.quarkus.runtime.configuration.ssl.ServerSslConfig;
 import io.quarkus.vertx.runtime.VertxConfiguration;
 import io.quarkus.vertx.runtime.VertxRecorder;
 import io.quarkus.vertx.web.Route;
+import io.quarkus.vertx.web.runtime.compression.CompressionConfig;
+import io.quarkus.vertx.web.runtime.compression.IdentityEncodingRemover;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.impl.Http1xServerConnection;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.JksOptions;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PfxOptions;
@@ -71,6 +80,18 @@ public class VertxWebRecorder {
 
     private static final Logger LOGGER = Logger.getLogger(VertxWebRecorder.class.getName());
 
+    /**
+     * Read by Vert.x when an HTTP server is created, there is no option to disable h2c on a given server
+     */
+    private static final String DISABLE_H2C = "vertx.disableH2c";
+
+    /**
+     * The connection-specific headers, which are not allowed in HTTP/2 responses
+     */
+    private static final List<CharSequence> HTTP_1_CONNECTION_HEADERS = Arrays.asList(HttpHeaders.CONNECTION,
+            HttpHeaders.KEEP_ALIVE, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE,
+            HttpHeaders.createOptimized("Proxy-Connection"));
+
     private static volatile Handler<RoutingContext> hotReplacementHandler;
 
     private static volatile Router router;
@@ -107,11 +128,12 @@ public class VertxWebRecorder {
     }
 
     public void configureRouter(RuntimeValue<Vertx> vertx, BeanContainer container, Map<String, List<Route>> routeHandlers,
-            List<Handler<RoutingContext>> filters,
+            List<Handler<RoutingContext>> filters, Map<String, Handler<RoutingContext>> extensionRoutes,
             HttpConfiguration httpConfiguration, LaunchMode launchMode, ShutdownContext shutdown,
             Handler<HttpServerRequest> defaultRoute, boolean startVirtual, boolean startSocket) throws IOException {
 
-        List<io.vertx.ext.web.Route> appRoutes = initializeRoutes(vertx.getValue(), routeHandlers, filters, defaultRoute);
+        List<io.vertx.ext.web.Route> appRoutes = initializeRoutes(vertx.getValue(), routeHandlers, filters, extensionRoutes,
+                defaultRoute);
         if (startVirtual) {
             initializeVirtual(vertx.getValue());
         }
@@ -141,6 +163,7 @@ public class VertxWebRecorder {
     List<io.vertx.ext.web.Route> initializeRoutes(Vertx vertx,
             Map<String, List<Route>> routeHandlers,
             List<Handler<RoutingContext>> filters,
+            Map<String, Handler<RoutingContext>> extensionRoutes,
             Handler<HttpServerRequest> defaultRoute) {
         List<io.vertx.ext.web.Route> routes = new ArrayList<>();
         if (router == null) {
@@ -164,11 +187,26 @@ public class VertxWebRecorder {
                 router.route().handler(i);
             }
         }
+        for (Entry<String, Handler<RoutingContext>> entry : extensionRoutes.entrySet()) {
+            routes.add(router.route(entry.getKey()).handler(entry.getValue()));
+        }
         if (defaultRoute != null) {
             //TODO: can we skip the router if no other routes?
             router.route().handler(new Handler<RoutingContext>() {
                 @Override
                 public void handle(RoutingContext event) {
+                    if (event.request().version() == HttpVersion.HTTP_2) {
+                        // The default route may be written for HTTP/1.1, e.g. Undertow
+                        event.addHeadersEndHandler(new Handler<Void>() {
+                            @Override
+                            public void handle(Void v) {
+                                MultiMap headers = event.response().headers();
+                                for (CharSequence header : HTTP_1_CONNECTION_HEADERS) {
+                                    headers.remove(header);
+                                }
+                            }
+                        });
+                    }
                     defaultRoute.handle(event.request());
                 }
             });
@@ -182,8 +220,19 @@ public class VertxWebRecorder {
         // Http server configuration
         HttpServerOptions httpServerOptions = createHttpServerOptions(httpConfiguration, launchMode);
         HttpServerOptions sslConfig = createSslOptions(httpConfiguration, launchMode);
+        if ((httpConfiguration.soReusePort || httpConfiguration.tcpQuickAck || httpConfiguration.tcpCork
+                || httpConfiguration.tcpFastOpen) && !vertx.isNativeTransportEnabled()) {
+            LOGGER.warn("SO_REUSEPORT, TCP_QUICKACK, TCP_CORK and TCP_FASTOPEN require the native transport, "
+                    + "see quarkus.vertx.prefer-native-transport");
+        }
 
         int ioThreads = httpConfiguration.ioThreads.orElse(Runtime.getRuntime().availableProcessors() * 2);
+        // Without HTTP/2 neither the h2c upgrade nor the prior knowledge h2c are allowed, the property is only set
+        // while the servers are created
+        boolean disableH2c = !httpConfiguration.http2.enabled && !Boolean.getBoolean(DISABLE_H2C);
+        if (disableH2c) {
+            System.setProperty(DISABLE_H2C, "true");
+        }
         CompletableFuture<String> futureResult = new CompletableFuture<>();
         vertx.deployVerticle(new Supplier<Verticle>() {
             @Override
@@ -226,6 +275,10 @@ public class VertxWebRecorder {
             };
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException("Unable to start HTTP server", e);
+        } finally {
+            if (disableH2c) {
+                System.clearProperty(DISABLE_H2C);
+            }
         }
 
         // TODO log proper message
@@ -320,6 +373,9 @@ public class VertxWebRecorder {
         serverOptions.setSsl(true);
         serverOptions.setHost(httpConfiguration.host);
         serverOptions.setPort(httpConfiguration.determineSslPort(launchMode));
+        setCompressionOptions(serverOptions, httpConfiguration);
+        setHttp2Options(serverOptions, httpConfiguration);
+        setTcpOptions(serverOptions, httpConfiguration);
         return serverOptions;
     }
 
@@ -338,9 +394,60 @@ public class VertxWebRecorder {
         HttpServerOptions options = new HttpServerOptions();
         options.setHost(httpConfiguration.host);
         options.setPort(httpConfiguration.determinePort(launchMode));
+        setCompressionOptions(options, httpConfiguration);
+        setHttp2Options(options, httpConfiguration);
+        setTcpOptions(options, httpConfiguration);
         return options;
     }
 
+    private static void setTcpOptions(HttpServerOptions options, HttpConfiguration httpConfiguration) {
+        // The options specific to the native transport are ignored by the JDK transport
+        options.setReusePort(httpConfiguration.soReusePort);
+        options.setTcpQuickAck(httpConfiguration.tcpQuickAck);
+        options.setTcpCork(httpConfiguration.tcpCork);
+        options.setTcpFastOpen(httpConfiguration.tcpFastOpen);
+        if (httpConfiguration.acceptBacklog.isPresent()) {
+            options.setAcceptBacklog(httpConfiguration.acceptBacklog.getAsInt());
+        }
+        if (httpConfiguration.idleTimeout.isPresent()) {
+            options.setIdleTimeout((int) httpConfiguration.idleTimeout.get().toMillis());
+            options.setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void setHttp2Options(HttpServerOptions options, HttpConfiguration httpConfiguration) {
+        Http2Config http2 = httpConfiguration.http2;
+        if (!http2.enabled) {
+            // ALPN is left disabled, and h2c is disabled when the servers are created
+            return;
+        }
+        Http2Settings settings = new Http2Settings();
+        settings.setMaxConcurrentStreams(http2.maxConcurrentStreams);
+        if (http2.initialWindowSize.isPresent()) {
+            settings.setInitialWindowSize(http2.initialWindowSize.getAsInt());
+        }
+        options.setInitialSettings(settings);
+        if (http2.connectionWindowSize.isPresent()) {
+            options.setHttp2ConnectionWindowSize(http2.connectionWindowSize.getAsInt());
+        }
+        if (options.isSsl()) {
+            if (JdkSSLEngineOptions.isAlpnAvailable()) {
+                options.setUseAlpn(true);
+            } else {
+                LOGGER.warn("HTTP/2 is not available on the HTTPS port, as the JVM does not support ALPN");
+            }
+        }
+    }
+
+    private static void setCompressionOptions(HttpServerOptions options, HttpConfiguration httpConfiguration) {
+        CompressionConfig compression = httpConfiguration.compression;
+        if (compression.enabled) {
+            // The responses to compress are selected by the CompressionFilter
+            options.setCompressionSupported(true);
+            options.setCompressionLevel(compression.level);
+        }
+    }
+
     private io.vertx.ext.web.Route addRoute(Router router, Handler<RoutingContext> handler, Route routeAnnotation,
             List<Handler<RoutingContext>> filters) {
         io.vertx.ext.web.Route route;
@@ -452,10 +559,16 @@ public class VertxWebRecorder {
             };
             httpServer = vertx.createHttpServer(httpOptions);
             httpServer.requestHandler(router);
+            if (httpOptions.isCompressionSupported()) {
+                httpServer.connectionHandler(IdentityEncodingRemover::install);
+            }
             httpServer.listen(port, host, doneHandler);
             if (httpsOptions != null) {
                 httpsServer = vertx.createHttpServer(httpsOptions);
                 httpsServer.requestHandler(router);
+                if (httpsOptions.isCompressionSupported()) {
+                    httpsServer.connectionHandler(IdentityEncodingRemover::install);
+                }
                 httpsServer.listen(httpsPort, host, doneHandler);
             }
         }
@@ -0,0 +1,39 @@
+package io.quarkus.vertx.web.runtime.compression;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * Enable the compression of the responses, for the clients accepting it.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (smallest)
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * The responses smaller than this size are not compressed. This only applies to the responses whose length is
+     * known when the headers are sent.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minSize;
+
+    /**
+     * The media types of the compressed responses
+     *
+     * Comma separated list of media types, without parameters. ex: text/html,application/json
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/css,text/xml,text/javascript,application/javascript,application/json,application/xml,image/svg+xml")
+    public List<String> mimeTypes;
+
+}
@@ -0,0 +1,71 @@
+package io.quarkus.vertx.web.runtime.compression;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Restricts the compression done by the HTTP server to the responses of the configured media types and size.
+ * <p>
+ * The server compresses every response unless it has a {@code Content-Encoding} header, so the other responses are
+ * marked with the {@code identity} encoding just before their headers are sent. This also applies to the responses of
+ * the default route, e.g. Undertow. The mark is removed by the {@link IdentityEncodingRemover} once the compressor has
+ * skipped the response.
+ */
+public class CompressionFilter implements Handler<RoutingContext> {
+
+    private final Set<String> mimeTypes;
+    private final long minSize;
+
+    public CompressionFilter(CompressionConfig compressionConfig) {
+        this.mimeTypes = new HashSet<>();
+        for (String mimeType : compressionConfig.mimeTypes) {
+            if (!mimeType.isEmpty()) {
+                mimeTypes.add(mimeType.trim().toLowerCase());
+            }
+        }
+        this.minSize = compressionConfig.minSize.asLongValue();
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        if (event.request().headers().contains(HttpHeaders.ACCEPT_ENCODING)) {
+            MultiMap headers = event.response().headers();
+            event.addHeadersEndHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void v) {
+                    if (!headers.contains(HttpHeaders.CONTENT_ENCODING) && !isCompressible(headers)) {
+                        headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                    }
+                }
+            });
+        }
+        event.next();
+    }
+
+    private boolean isCompressible(MultiMap headers) {
+        String contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int paramStart = contentType.indexOf(';');
+        String mediaType = (paramStart == -1 ? contentType : contentType.substring(0, paramStart)).trim().toLowerCase();
+        if (!mimeTypes.contains(mediaType)) {
+            return false;
+        }
+        String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength) >= minSize;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
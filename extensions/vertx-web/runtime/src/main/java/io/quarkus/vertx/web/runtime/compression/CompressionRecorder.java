@@ -0,0 +1,18 @@
+package io.quarkus.vertx.web.runtime.compression;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.web.runtime.HttpConfiguration;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class CompressionRecorder {
+
+    public Handler<RoutingContext> compressionHandler(HttpConfiguration configuration) {
+        if (configuration.compression.enabled) {
+            return new CompressionFilter(configuration.compression);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.quarkus.vertx.web.runtime.compression;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.net.impl.ConnectionBase;
+
+/**
+ * Removes the {@code identity} encoding the {@link CompressionFilter} uses to mark the responses which must not be
+ * compressed, once the compressor of the connection has skipped them, so that it is never sent to the client.
+ * <p>
+ * The handler sits between the compressor and the encoder of the HTTP/1.x connections. The HTTP/2 compressor removes
+ * the {@code identity} encoding itself.
+ */
+@ChannelHandler.Sharable
+public final class IdentityEncodingRemover extends ChannelOutboundHandlerAdapter {
+
+    private static final String NAME = "quarkusIdentityEncodingRemover";
+    // The name of the compressor in the pipeline of the HTTP/1.x connections of Vert.x
+    private static final String COMPRESSOR = "deflater";
+
+    private static final IdentityEncodingRemover INSTANCE = new IdentityEncodingRemover();
+
+    private IdentityEncodingRemover() {
+    }
+
+    /**
+     * Adds the handler to the pipeline of the given connection, if the responses of the connection may be compressed.
+     */
+    public static void install(HttpConnection connection) {
+        if (connection instanceof ConnectionBase) {
+            ChannelPipeline pipeline = ((ConnectionBase) connection).channel().pipeline();
+            if (pipeline.get(COMPRESSOR) != null && pipeline.get(NAME) == null) {
+                pipeline.addBefore(COMPRESSOR, NAME, INSTANCE);
+            }
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof HttpResponse) {
+            HttpHeaders headers = ((HttpResponse) msg).headers();
+            if (headers.containsValue(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY, true)) {
+                headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+            }
+        }
+        ctx.write(msg, promise);
+    }
+
+}
@@ -0,0 +1,252 @@
+package io.quarkus.vertx.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.util.HashUtil;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.vertx.runtime.BinaryMessageCodecSupport;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * Generates a {@link MessageCodec} for an event bus payload type. The generated codec encodes the payload field by
+ * field, using {@link BinaryMessageCodecSupport}, instead of relying on Java serialization.
+ * <p>
+ * A codec can only be generated for a class with a no-args constructor whose instance fields, including the inherited
+ * ones, are primitives, primitive wrappers or strings, and are either accessible from the package of the class or have
+ * a public getter and setter.
+ */
+final class MessageCodecGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(MessageCodecGenerator.class.getName());
+
+    private static final String CODEC_SUFFIX = "_MessageCodec";
+
+    private static final DotName CLONEABLE = DotName.createSimple(Cloneable.class.getName());
+
+    private static final Map<DotName, String> FIELD_TYPES = new HashMap<>();
+
+    static {
+        FIELD_TYPES.put(DotName.createSimple(boolean.class.getName()), "Boolean");
+        FIELD_TYPES.put(DotName.createSimple(byte.class.getName()), "Byte");
+        FIELD_TYPES.put(DotName.createSimple(short.class.getName()), "Short");
+        FIELD_TYPES.put(DotName.createSimple(char.class.getName()), "Char");
+        FIELD_TYPES.put(DotName.createSimple(int.class.getName()), "Int");
+        FIELD_TYPES.put(DotName.createSimple(long.class.getName()), "Long");
+        FIELD_TYPES.put(DotName.createSimple(float.class.getName()), "Float");
+        FIELD_TYPES.put(DotName.createSimple(double.class.getName()), "Double");
+        FIELD_TYPES.put(DotName.createSimple(Boolean.class.getName()), "NullableBoolean");
+        FIELD_TYPES.put(DotName.createSimple(Byte.class.getName()), "NullableByte");
+        FIELD_TYPES.put(DotName.createSimple(Short.class.getName()), "NullableShort");
+        FIELD_TYPES.put(DotName.createSimple(Character.class.getName()), "NullableChar");
+        FIELD_TYPES.put(DotName.createSimple(Integer.class.getName()), "NullableInt");
+        FIELD_TYPES.put(DotName.createSimple(Long.class.getName()), "NullableLong");
+        FIELD_TYPES.put(DotName.createSimple(Float.class.getName()), "NullableFloat");
+        FIELD_TYPES.put(DotName.createSimple(Double.class.getName()), "NullableDouble");
+        FIELD_TYPES.put(DotName.createSimple(String.class.getName()), "String");
+    }
+
+    private MessageCodecGenerator() {
+    }
+
+    /**
+     * @param type the payload type
+     * @param index the index
+     * @param classOutput the class output
+     * @return the name of the generated codec class, or {@code null} if no codec can be generated for the given type
+     */
+    static String generate(Type type, IndexView index, ClassOutput classOutput) {
+        if (type.kind() != Type.Kind.CLASS) {
+            return null;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        if (clazz == null) {
+            return null;
+        }
+        List<PayloadField> fields = collectFields(clazz, index);
+        if (fields == null) {
+            LOGGER.debugf("Unable to generate a binary message codec for %s, Java serialization is used instead", type);
+            return null;
+        }
+
+        String targetPackage = DotNames.packageName(clazz.name());
+        String generatedName = targetPackage.replace('.', '/') + "/" + DotNames.simpleName(clazz.name()) + CODEC_SUFFIX
+                + "_" + HashUtil.sha1(clazz.name().toString());
+        String payloadName = clazz.name().toString();
+
+        ClassCreator codecCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(MessageCodec.class).build();
+
+        // void encodeToWire(Buffer buffer, Object payload)
+        MethodCreator encode = codecCreator.getMethodCreator("encodeToWire", void.class, Buffer.class, Object.class);
+        ResultHandle payload = encode.checkCast(encode.getMethodParam(1), payloadName);
+        for (PayloadField field : fields) {
+            encode.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(BinaryMessageCodecSupport.class, "write" + field.kind, void.class,
+                            Buffer.class, field.typeName()),
+                    encode.getMethodParam(0), field.read(encode, payload));
+        }
+        encode.returnValue(null);
+
+        // Object decodeFromWire(int position, Buffer buffer)
+        MethodCreator decode = codecCreator.getMethodCreator("decodeFromWire", Object.class, int.class, Buffer.class);
+        ResultHandle reader = decode.newInstance(
+                MethodDescriptor.ofConstructor(BinaryMessageCodecSupport.Reader.class, Buffer.class, int.class),
+                decode.getMethodParam(1), decode.getMethodParam(0));
+        ResultHandle decoded = decode.newInstance(MethodDescriptor.ofConstructor(payloadName));
+        for (PayloadField field : fields) {
+            field.write(decode, decoded, decode.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(BinaryMessageCodecSupport.Reader.class, "read" + field.kind,
+                            field.typeName()),
+                    reader));
+        }
+        decode.returnValue(decoded);
+
+        // Object transform(Object payload)
+        MethodCreator transform = codecCreator.getMethodCreator("transform", Object.class, Object.class);
+        if (isCloneable(clazz, index)) {
+            // a shallow copy, as the fields are either primitives or immutable
+            ResultHandle original = transform.checkCast(transform.getMethodParam(0), payloadName);
+            ResultHandle copy = transform.newInstance(MethodDescriptor.ofConstructor(payloadName));
+            for (PayloadField field : fields) {
+                field.write(transform, copy, field.read(transform, original));
+            }
+            transform.returnValue(copy);
+        } else {
+            transform.returnValue(transform.getMethodParam(0));
+        }
+
+        MethodCreator name = codecCreator.getMethodCreator("name", String.class);
+        name.returnValue(name.load(generatedName.replace('/', '.')));
+
+        MethodCreator systemCodecID = codecCreator.getMethodCreator("systemCodecID", byte.class);
+        systemCodecID.returnValue(systemCodecID.load((byte) -1));
+
+        codecCreator.close();
+        return generatedName.replace('/', '.');
+    }
+
+    private static List<PayloadField> collectFields(ClassInfo clazz, IndexView index) {
+        if (Modifier.isAbstract(clazz.flags()) || Modifier.isInterface(clazz.flags())) {
+            return null;
+        }
+        // the constructor of a non-static inner class has a parameter
+        MethodInfo constructor = clazz.method("<init>");
+        if (constructor == null || Modifier.isPrivate(constructor.flags())) {
+            return null;
+        }
+        String payloadPackage = DotNames.packageName(clazz.name());
+        List<PayloadField> fields = new ArrayList<>();
+        ClassInfo current = clazz;
+        while (current != null && !current.name().equals(DotNames.OBJECT)) {
+            for (FieldInfo field : current.fields()) {
+                if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags())) {
+                    continue;
+                }
+                String kind = FIELD_TYPES.get(field.type().name());
+                if (kind == null) {
+                    return null;
+                }
+                boolean accessible = Modifier.isPublic(field.flags()) || (!Modifier.isPrivate(field.flags())
+                        && DotNames.packageName(current.name()).equals(payloadPackage));
+                if (accessible && !Modifier.isFinal(field.flags())) {
+                    fields.add(new PayloadField(field, kind, null, null));
+                    continue;
+                }
+                MethodInfo getter = findAccessor(current, field, "Boolean".equals(kind) ? "is" : "get",
+                        true);
+                MethodInfo setter = findAccessor(current, field, "set", false);
+                if (getter == null || setter == null) {
+                    return null;
+                }
+                fields.add(new PayloadField(field, kind, getter, setter));
+            }
+            DotName superName = current.superName();
+            current = superName == null ? null : index.getClassByName(superName);
+            if (current == null && superName != null && !superName.equals(DotNames.OBJECT)) {
+                // the superclass is not indexed
+                return null;
+            }
+        }
+        return fields;
+    }
+
+    private static MethodInfo findAccessor(ClassInfo clazz, FieldInfo field, String prefix, boolean getter) {
+        String name = prefix + Character.toUpperCase(field.name().charAt(0)) + field.name().substring(1);
+        for (MethodInfo method : clazz.methods()) {
+            if (!method.name().equals(name) || !Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags())) {
+                continue;
+            }
+            if (getter && method.parameters().isEmpty() && method.returnType().name().equals(field.type().name())) {
+                return method;
+            }
+            if (!getter && method.parameters().size() == 1 && method.parameters().get(0).name().equals(field.type().name())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCloneable(ClassInfo clazz, IndexView index) {
+        ClassInfo current = clazz;
+        while (current != null) {
+            if (current.interfaceNames().contains(CLONEABLE)) {
+                return true;
+            }
+            current = current.superName() == null ? null : index.getClassByName(current.superName());
+        }
+        return false;
+    }
+
+    private static final class PayloadField {
+
+        final FieldInfo field;
+        final String kind;
+        final MethodInfo getter;
+        final MethodInfo setter;
+
+        PayloadField(FieldInfo field, String kind, MethodInfo getter, MethodInfo setter) {
+            this.field = field;
+            this.kind = kind;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        String typeName() {
+            return field.type().name().toString();
+        }
+
+        ResultHandle read(BytecodeCreator bytecode, ResultHandle instance) {
+            if (getter != null) {
+                return bytecode.invokeVirtualMethod(getter, instance);
+            }
+            return bytecode.readInstanceField(field, instance);
+        }
+
+        void write(BytecodeCreator bytecode, ResultHandle instance, ResultHandle value) {
+            if (setter != null) {
+                bytecode.invokeVirtualMethod(setter, instance, value);
+            } else {
+                bytecode.writeInstanceField(field, instance, value);
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package io.quarkus.vertx.deployment;
 
-import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +45,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.AnnotationProxyBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
@@ -54,16 +55,13 @@ import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateConfigBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.deployment.util.HashUtil;
-import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
-import io.quarkus.gizmo.CatchBlockCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.FunctionCreator;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
-import io.quarkus.gizmo.TryBlock;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.vertx.ConsumeEvent;
 import io.quarkus.vertx.runtime.EventConsumerInvoker;
@@ -71,8 +69,6 @@ import io.quarkus.vertx.runtime.GenericMessageCodec;
 import io.quarkus.vertx.runtime.VertxConfiguration;
 import io.quarkus.vertx.runtime.VertxProducer;
 import io.quarkus.vertx.runtime.VertxRecorder;
-import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.Message;
 
@@ -85,6 +81,7 @@ class VertxProcessor {
     private static final DotName RX_MESSAGE = DotName.createSimple(io.vertx.reactivex.core.eventbus.Message.class.getName());
     private static final DotName AXLE_MESSAGE = DotName.createSimple(io.vertx.axle.core.eventbus.Message.class.getName());
     private static final DotName COMPLETION_STAGE = DotName.createSimple(CompletionStage.class.getName());
+    private static final DotName LIST = DotName.createSimple(List.class.getName());
     private static final DotName GENERIC_MESSAGE_CODEC = DotName.createSimple(GenericMessageCodec.class.getName());
 
     private static final String INVOKER_SUFFIX = "_VertxInvoker";
@@ -97,15 +94,10 @@ class VertxProcessor {
     private static final MethodDescriptor ARC_CONTAINER_INSTANCE_FOR_BEAN = MethodDescriptor.ofMethod(ArcContainer.class,
             "instance", InstanceHandle.class,
             InjectableBean.class);
-    private static final MethodDescriptor ARC_CONTAINER_INSTANCE_FOR_TYPE = MethodDescriptor.ofMethod(ArcContainer.class,
-            "instance", InstanceHandle.class,
-            Class.class, Annotation[].class);
-    private static final MethodDescriptor VERTX_EXECUTE_BLOCKING = MethodDescriptor.ofMethod(Vertx.class,
-            "executeBlocking", void.class, Handler.class, boolean.class, Handler.class);
-    private static final MethodDescriptor FUTURE_COMPLETE = MethodDescriptor.ofMethod(Future.class,
-            "complete", void.class, Object.class);
-    private static final MethodDescriptor FUTURE_FAIL = MethodDescriptor.ofMethod(Future.class,
-            "fail", void.class, Throwable.class);
+    private static final MethodDescriptor EVENT_CONSUMER_INVOKER_INVOKE_BATCH = MethodDescriptor.ofMethod(
+            EventConsumerInvoker.class, "invokeBatch", void.class, List.class);
+    private static final MethodDescriptor COLLECTIONS_SINGLETON_LIST = MethodDescriptor.ofMethod(Collections.class,
+            "singletonList", List.class, Object.class);
     private static final MethodDescriptor RX_MESSAGE_NEW_INSTANCE = MethodDescriptor.ofMethod(
             io.vertx.reactivex.core.eventbus.Message.class,
             "newInstance", io.vertx.reactivex.core.eventbus.Message.class, Message.class);
@@ -195,6 +187,13 @@ class VertxProcessor {
                                     "Event consumer business method must accept exactly one parameter: %s [method: %s, bean:%s",
                                     params, method, bean));
                         }
+                        if (isBatchConsumer(consumeEvent)) {
+                            if (!params.get(0).name().equals(LIST) || method.returnType().kind() != Kind.VOID) {
+                                throw new IllegalStateException(String.format(
+                                        "Batch event consumer business method must accept a java.util.List and return void: %s [method: %s, bean:%s",
+                                        params, method, bean));
+                            }
+                        }
                         messageConsumerBusinessMethods
                                 .produce(new EventConsumerBusinessMethodItem(bean, method, consumeEvent));
                         LOGGER.debugf("Found event consumer business method %s declared on %s", method, bean);
@@ -250,40 +249,29 @@ class VertxProcessor {
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(EventConsumerInvoker.class).build();
 
-        MethodCreator invoke = invokerCreator.getMethodCreator("invoke", void.class, Message.class);
-        ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
-
-        AnnotationValue blocking = consumeEvent.value("blocking");
-        if (blocking != null && blocking.asBoolean()) {
-            // Blocking operation must be performed on a worker thread
-            ResultHandle vertxHandle = invoke
-                    .invokeInterfaceMethod(INSTANCE_HANDLE_GET,
-                            invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_TYPE, containerHandle,
-                                    invoke.loadClass(Vertx.class),
-                                    invoke.newArray(Annotation.class.getName(), invoke.load(0))));
-
-            FunctionCreator func = invoke.createFunction(Handler.class);
-            BytecodeCreator funcBytecode = func.getBytecode();
-            AssignableResultHandle messageHandle = funcBytecode.createVariable(Message.class);
-            funcBytecode.assign(messageHandle, invoke.getMethodParam(0));
-            TryBlock tryBlock = funcBytecode.tryBlock();
-            invoke(bean, method, messageHandle, tryBlock);
-            tryBlock.invokeInterfaceMethod(FUTURE_COMPLETE, funcBytecode.getMethodParam(0), tryBlock.loadNull());
-            CatchBlockCreator catchBlock = tryBlock.addCatch(Exception.class);
-            catchBlock.invokeInterfaceMethod(FUTURE_FAIL, funcBytecode.getMethodParam(0), catchBlock.getMethodParam(0));
-            funcBytecode.returnValue(null);
-
-            invoke.invokeInterfaceMethod(VERTX_EXECUTE_BLOCKING, vertxHandle, func.getInstance(), invoke.load(false),
-                    invoke.loadNull());
+        // Blocking and batched consumers are dispatched by the handler registered at runtime
+        MethodCreator invoke = invokerCreator.getMethodCreator("invoke", CompletionStage.class, Message.class);
+        MethodCreator invokeBatch = invokerCreator.getMethodCreator("invokeBatch", void.class, List.class);
+        if (isBatchConsumer(consumeEvent)) {
+            invokeBatch(bean, method, invokeBatch.getMethodParam(0), invokeBatch);
+            invokeBatch.returnValue(null);
+            // A single message is delivered as a batch of one
+            invoke.invokeInterfaceMethod(EVENT_CONSUMER_INVOKER_INVOKE_BATCH, invoke.getThis(),
+                    invoke.invokeStaticMethod(COLLECTIONS_SINGLETON_LIST,
+                            invoke.invokeInterfaceMethod(MESSAGE_BODY, invoke.getMethodParam(0))));
+            invoke.returnValue(invoke.loadNull());
         } else {
-            invoke(bean, method, invoke.getMethodParam(0), invoke);
+            // Never invoked, the batch size of the consumer is validated when the business method is found
+            invokeBatch.throwException(UnsupportedOperationException.class,
+                    "Not a batch event consumer: " + method + " declared on " + bean.getBeanClass());
+            ResultHandle stage = invoke(bean, method, invoke.getMethodParam(0), invoke);
+            invoke.returnValue(stage != null ? stage : invoke.loadNull());
         }
-        invoke.returnValue(null);
         invokerCreator.close();
         return generatedName.replace('/', '.');
     }
 
-    private void invoke(BeanInfo bean, MethodInfo method, ResultHandle messageHandle, BytecodeCreator invoke) {
+    private void invokeBatch(BeanInfo bean, MethodInfo method, ResultHandle bodiesHandle, BytecodeCreator invoke) {
         ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
         ResultHandle beanHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_BEAN, containerHandle,
                 invoke.load(bean.getIdentifier()));
@@ -291,7 +279,28 @@ class VertxProcessor {
                 beanHandle);
         ResultHandle beanInstanceHandle = invoke
                 .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+        invoke.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class, List.class),
+                beanInstanceHandle, bodiesHandle);
+        // handle.destroy() - destroy dependent instance afterwards
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
+        }
+    }
 
+    /**
+     * @return the stage returned by the business method, or {@code null} if it does not return a {@link CompletionStage}
+     */
+    private ResultHandle invoke(BeanInfo bean, MethodInfo method, ResultHandle messageHandle, BytecodeCreator invoke) {
+        ResultHandle containerHandle = invoke.invokeStaticMethod(ARC_CONTAINER);
+        ResultHandle beanHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_BEAN, containerHandle,
+                invoke.load(bean.getIdentifier()));
+        ResultHandle instanceHandle = invoke.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle,
+                beanHandle);
+        ResultHandle beanInstanceHandle = invoke
+                .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+
+        ResultHandle stageHandle = null;
         Type paramType = method.parameters().get(0);
         if (paramType.name().equals(MESSAGE)) {
             // io.vertx.core.eventbus.Message
@@ -330,7 +339,7 @@ class VertxProcessor {
                             funcBytecode.getMethodParam(0));
                     funcBytecode.returnValue(null);
                     // returnValue.thenAccept(reply -> Message.reply(reply))
-                    invoke.invokeInterfaceMethod(
+                    stageHandle = invoke.invokeInterfaceMethod(
                             MethodDescriptor.ofMethod(CompletionStage.class, "thenAccept", CompletionStage.class,
                                     Consumer.class),
                             replyHandle, func.getInstance());
@@ -345,11 +354,12 @@ class VertxProcessor {
         if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
             invoke.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
         }
+        return stageHandle;
     }
 
     @BuildStep
-    public void registerCodecs(BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
-            BuildProducer<MessageCodecBuildItem> messageCodecs) {
+    public void registerCodecs(BeanArchiveIndexBuildItem beanArchiveIndexBuildItem, CombinedIndexBuildItem combinedIndex,
+            BuildProducer<MessageCodecBuildItem> messageCodecs, BuildProducer<GeneratedClassBuildItem> generatedClass) {
         final IndexView index = beanArchiveIndexBuildItem.getIndex();
         Collection<AnnotationInstance> consumeEventAnnotationInstances = index.getAnnotations(CONSUME_EVENT);
         Map<Type, DotName> codecByTypes = new HashMap<>();
@@ -358,8 +368,22 @@ class VertxProcessor {
             if (typeTarget.kind() != AnnotationTarget.Kind.METHOD) {
                 continue;
             }
+            MethodInfo method = typeTarget.asMethod();
+            AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
+
+            Type paramType = method.parameters().size() == 1 ? method.parameters().get(0) : null;
+            if (paramType != null && paramType.kind() == Kind.PARAMETERIZED_TYPE
+                    && isBatchConsumer(consumeEventAnnotationInstance)) {
+                // List<T> - the payload is the element type
+                paramType = paramType.asParameterizedType().arguments().get(0);
+            }
+            if (paramType != null && paramType.kind() == Kind.CLASS && !paramType.name().equals(MESSAGE)
+                    && !paramType.name().equals(RX_MESSAGE) && !paramType.name().equals(AXLE_MESSAGE)) {
+                // Parameter is payload
+                addCodec(codecByTypes, paramType, codec);
+            }
 
-            Type returnType = typeTarget.asMethod().returnType();
+            Type returnType = method.returnType();
             Type typeToAdd = null;
             if (returnType.kind() == Kind.CLASS) {
                 typeToAdd = returnType;
@@ -377,6 +401,8 @@ class VertxProcessor {
                 } else {
                     typeToAdd = returnedParamType;
                 }
+            } else if (returnType.kind() == Kind.VOID) {
+                continue;
             }
             if (typeToAdd == null) {
                 LOGGER.warnf(
@@ -384,21 +410,49 @@ class VertxProcessor {
                         typeTarget);
                 continue;
             }
-            AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
-            if (codec != null && codec.asClass().kind() == Kind.CLASS) {
-                codecByTypes.put(typeToAdd, codec.asClass().asClassType().name());
-                continue;
-            }
+            addCodec(codecByTypes, typeToAdd, codec);
+        }
 
-            if (!codecByTypes.containsKey(typeToAdd)) {
-                codecByTypes.put(typeToAdd, GENERIC_MESSAGE_CODEC);
+        ClassOutput classOutput = new ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                generatedClass.produce(new GeneratedClassBuildItem(true, name, data));
             }
-        }
-        Map<Class<?>, Class<?>> codecByClass = new HashMap<>();
+        };
         for (Map.Entry<Type, DotName> entry : codecByTypes.entrySet()) {
-            messageCodecs.produce(new MessageCodecBuildItem(entry.getKey().toString(), entry.getValue().toString()));
+            String codec = entry.getValue().toString();
+            if (entry.getValue().equals(GENERIC_MESSAGE_CODEC)) {
+                if (isBuiltinType(entry.getKey().name())) {
+                    // Vert.x provides codecs for the JDK types
+                    continue;
+                }
+                // Try to avoid the Java serialization
+                String generated = MessageCodecGenerator.generate(entry.getKey(), combinedIndex.getIndex(), classOutput);
+                if (generated != null) {
+                    codec = generated;
+                }
+            }
+            messageCodecs.produce(new MessageCodecBuildItem(entry.getKey().toString(), codec));
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, codec));
+        }
+    }
+
+    private static boolean isBatchConsumer(AnnotationInstance consumeEvent) {
+        AnnotationValue batchSize = consumeEvent.value("batchSize");
+        return batchSize != null && batchSize.asInt() > 0;
+    }
+
+    private static void addCodec(Map<Type, DotName> codecByTypes, Type type, AnnotationValue codec) {
+        if (codec != null && codec.asClass().kind() == Kind.CLASS) {
+            codecByTypes.put(type, codec.asClass().asClassType().name());
+        } else if (!codecByTypes.containsKey(type)) {
+            codecByTypes.put(type, GENERIC_MESSAGE_CODEC);
         }
+    }
 
+    private static boolean isBuiltinType(DotName name) {
+        String className = name.toString();
+        return className.startsWith("java.") || className.startsWith("io.vertx.");
     }
 
 }
@@ -0,0 +1,159 @@
+package io.quarkus.vertx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.runtime.GenericMessageCodec;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.EventBusImpl;
+
+public class MessageCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(GreetingBean.class, Person.class, Greeting.class, Opaque.class));
+
+    @Test
+    public void testSendPojo() throws InterruptedException {
+        EventBus eventBus = Arc.container().instance(EventBus.class).get();
+        BlockingQueue<Object> synchronizer = new LinkedBlockingQueue<>();
+        eventBus.send("greeting", new Person("Ada", 36, true), ar -> {
+            if (ar.succeeded()) {
+                try {
+                    synchronizer.put(ar.result().body());
+                } catch (InterruptedException e) {
+                    fail(e);
+                }
+            } else {
+                fail(ar.cause());
+            }
+        });
+        Object reply = synchronizer.poll(2, TimeUnit.SECONDS);
+        assertTrue(reply instanceof Greeting);
+        assertEquals("Hello Ada", ((Greeting) reply).text);
+        assertEquals(37, ((Greeting) reply).count);
+    }
+
+    @Test
+    public void testGeneratedCodec() throws Exception {
+        MessageCodec<Object, Object> codec = lookupCodec(new Person());
+        assertFalse(codec instanceof GenericMessageCodec);
+
+        Buffer buffer = Buffer.buffer("header");
+        codec.encodeToWire(buffer, new Person("Ada", null, true));
+        Person person = (Person) codec.decodeFromWire("header".length(), buffer);
+        assertEquals("Ada", person.getName());
+        assertNull(person.getAge());
+        assertTrue(person.isActive());
+
+        MessageCodec<Object, Object> greetingCodec = lookupCodec(new Greeting());
+        assertFalse(greetingCodec instanceof GenericMessageCodec);
+        Greeting greeting = new Greeting();
+        greeting.text = "Hi";
+        greeting.count = 2;
+        // the payload is cloneable and is copied for local deliveries
+        Greeting copy = (Greeting) greetingCodec.transform(greeting);
+        assertNotSame(greeting, copy);
+        assertEquals("Hi", copy.text);
+        assertEquals(2, copy.count);
+    }
+
+    @Test
+    public void testFallbackCodec() throws Exception {
+        assertTrue(lookupCodec(new Opaque()) instanceof GenericMessageCodec);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageCodec<Object, Object> lookupCodec(Object payload) throws Exception {
+        EventBus eventBus = Arc.container().instance(EventBus.class).get();
+        Field codecManager = EventBusImpl.class.getDeclaredField("codecManager");
+        codecManager.setAccessible(true);
+        return ((CodecManager) codecManager.get(eventBus)).lookupCodec(payload, null);
+    }
+
+    static class GreetingBean {
+
+        @ConsumeEvent("greeting")
+        Greeting greet(Person person) {
+            Greeting greeting = new Greeting();
+            greeting.text = "Hello " + person.getName();
+            greeting.count = person.getAge() + 1;
+            return greeting;
+        }
+
+        @ConsumeEvent("opaque")
+        void consume(Opaque opaque) {
+        }
+    }
+
+    public static class Person {
+
+        private String name;
+        private Integer age;
+        private boolean active;
+
+        public Person() {
+        }
+
+        Person(String name, Integer age, boolean active) {
+            this.name = name;
+            this.age = age;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    public static class Greeting implements Cloneable {
+
+        public String text;
+        public int count;
+    }
+
+    public static class Opaque implements java.io.Serializable {
+
+        public Object value;
+    }
+}
@@ -0,0 +1,162 @@
+package io.quarkus.vertx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Context;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.ReplyException;
+
+public class MessageConsumerBatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(BatchBean.class));
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testBatches() throws InterruptedException {
+        BatchBean.BATCHES.clear();
+        BatchBean.latch = new CountDownLatch(7);
+        for (int i = 0; i < 7; i++) {
+            eventBus.send("batch", "m" + i);
+        }
+        // the last batch is incomplete and delivered once the max delay elapsed
+        assertTrue(BatchBean.latch.await(2, TimeUnit.SECONDS));
+        List<Integer> sizes = new ArrayList<>();
+        List<String> bodies = new ArrayList<>();
+        for (List<String> batch : BatchBean.BATCHES) {
+            sizes.add(batch.size());
+            bodies.addAll(batch);
+        }
+        assertEquals(3, sizes.get(0));
+        assertEquals(3, sizes.get(1));
+        assertEquals(1, sizes.get(2));
+        assertEquals(7, bodies.size());
+        assertTrue(BatchBean.WORKER.get());
+    }
+
+    @Test
+    public void testMaxInFlight() throws InterruptedException {
+        BatchBean.inFlightLatch = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            eventBus.send("in-flight", "m" + i);
+        }
+        assertTrue(BatchBean.inFlightLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(BatchBean.MAX_CONCURRENCY.get() <= 2);
+    }
+
+    @Test
+    public void testBatchReplies() throws InterruptedException {
+        BatchBean.latch = new CountDownLatch(3);
+        CountDownLatch replies = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            eventBus.send("batch", "r" + i, ar -> {
+                if (ar.succeeded()) {
+                    replies.countDown();
+                }
+            });
+        }
+        assertTrue(replies.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBatchFailure() throws InterruptedException {
+        CountDownLatch failures = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            eventBus.send("failing-batch", "f" + i, ar -> {
+                if (ar.failed() && ((ReplyException) ar.cause()).failureCode() == ConsumeEvent.FAILURE_CODE) {
+                    failures.countDown();
+                }
+            });
+        }
+        assertTrue(failures.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMaxInFlightCompletionStage() throws InterruptedException {
+        CountDownLatch replies = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            eventBus.send("in-flight-async", "m" + i, ar -> {
+                if (ar.succeeded()) {
+                    replies.countDown();
+                }
+            });
+        }
+        assertTrue(replies.await(5, TimeUnit.SECONDS));
+        assertTrue(BatchBean.MAX_ASYNC_CONCURRENCY.get() <= 2);
+    }
+
+    static class BatchBean {
+
+        static final List<List<String>> BATCHES = new CopyOnWriteArrayList<>();
+        static final AtomicInteger CONCURRENCY = new AtomicInteger();
+        static final AtomicInteger MAX_CONCURRENCY = new AtomicInteger();
+        static final AtomicBoolean WORKER = new AtomicBoolean();
+        static final AtomicInteger ASYNC_CONCURRENCY = new AtomicInteger();
+        static final AtomicInteger MAX_ASYNC_CONCURRENCY = new AtomicInteger();
+
+        static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor();
+
+        static volatile CountDownLatch latch;
+        static volatile CountDownLatch inFlightLatch;
+
+        @ConsumeEvent(value = "batch", blocking = true, batchSize = 3, maxDelay = 200)
+        void consume(List<String> messages) {
+            WORKER.set(Context.isOnWorkerThread());
+            BATCHES.add(messages);
+            for (int i = 0; i < messages.size(); i++) {
+                latch.countDown();
+            }
+        }
+
+        @ConsumeEvent(value = "in-flight", blocking = true, maxInFlight = 2)
+        void consumeSlowly(String message) throws InterruptedException {
+            int concurrency = CONCURRENCY.incrementAndGet();
+            MAX_CONCURRENCY.accumulateAndGet(concurrency, Math::max);
+            Thread.sleep(100);
+            CONCURRENCY.decrementAndGet();
+            inFlightLatch.countDown();
+        }
+
+        @ConsumeEvent(value = "failing-batch", batchSize = 2)
+        void consumeAndFail(List<String> messages) {
+            throw new IllegalStateException("Batch of " + messages.size());
+        }
+
+        @ConsumeEvent(value = "in-flight-async", maxInFlight = 2)
+        CompletionStage<String> consumeAsync(String message) {
+            int concurrency = ASYNC_CONCURRENCY.incrementAndGet();
+            MAX_ASYNC_CONCURRENCY.accumulateAndGet(concurrency, Math::max);
+            CompletableFuture<String> result = new CompletableFuture<>();
+            EXECUTOR.schedule(() -> {
+                ASYNC_CONCURRENCY.decrementAndGet();
+                result.complete(message.toUpperCase());
+            }, 100, TimeUnit.MILLISECONDS);
+            return result;
+        }
+    }
+
+}
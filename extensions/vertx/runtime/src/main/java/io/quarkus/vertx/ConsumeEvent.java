@@ -39,8 +39,18 @@ import io.vertx.core.eventbus.MessageCodec;
  *     void echoMessageBlocking(Message<String> msg) {
  *         msg.reply(msg.body().toUpperCase());
  *     }
+ *
+ *     &#64;ConsumeEvent(value = "samples", blocking = true, batchSize = 100, maxDelay = 50, maxInFlight = 4)
+ *     void storeSamples(List<Sample> samples) {
+ *         // bulk insert
+ *     }
  * }
  * </pre>
+ * <p>
+ * If {@link #batchSize()} is set the method must accept a {@link java.util.List} and return void. The bodies of the
+ * received messages are collected and the method is invoked once a batch is complete or {@link #maxDelay()} elapsed since
+ * the first message of the batch was received. The messages are then replied to with an empty body, or failed if the
+ * method throws an exception.
  * 
  * @see io.vertx.core.eventbus.EventBus
  */
@@ -75,6 +85,31 @@ public @interface ConsumeEvent {
      */
     boolean blocking() default false;
 
+    /**
+     * 
+     * @return the maximum number of message bodies passed to the consumer at once, or {@code 0} if each message is
+     *         delivered separately
+     */
+    int batchSize() default 0;
+
+    /**
+     * 
+     * @return the maximum time in milliseconds a message may wait for its batch to complete, only used if
+     *         {@link #batchSize()} is set
+     */
+    long maxDelay() default 100;
+
+    /**
+     * The maximum number of invocations, i.e. messages or batches, that may be processed concurrently. When the limit is
+     * reached the consumer is paused until an invocation completes, which is mostly useful for {@link #blocking()}
+     * consumers and the ones returning a {@link java.util.concurrent.CompletionStage}: the invocation completes with the
+     * stage. While paused, the messages are buffered by the consumer.
+     * 
+     * @return the maximum number of concurrent invocations, or {@code 0} if unbounded
+     * @see io.vertx.core.eventbus.MessageConsumer#pause()
+     */
+    int maxInFlight() default 0;
+
     /**
      * 
      * @return {@code null} if it should use a default MessageCodec
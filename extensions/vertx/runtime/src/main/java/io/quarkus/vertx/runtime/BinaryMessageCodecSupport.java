@@ -0,0 +1,212 @@
+package io.quarkus.vertx.runtime;
+
+import java.nio.charset.StandardCharsets;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Encodes and decodes the fields of event bus payloads for the message codecs generated at build time.
+ * <p>
+ * Values are written in their binary representation straight into the {@link Buffer}. Nullable values are preceded
+ * by a presence flag and strings are encoded as UTF-8 bytes preceded by their length.
+ */
+public final class BinaryMessageCodecSupport {
+
+    private static final byte NULL = 0;
+    private static final byte NOT_NULL = 1;
+
+    private BinaryMessageCodecSupport() {
+    }
+
+    public static void writeBoolean(Buffer buffer, boolean value) {
+        buffer.appendByte(value ? NOT_NULL : NULL);
+    }
+
+    public static void writeByte(Buffer buffer, byte value) {
+        buffer.appendByte(value);
+    }
+
+    public static void writeShort(Buffer buffer, short value) {
+        buffer.appendShort(value);
+    }
+
+    public static void writeChar(Buffer buffer, char value) {
+        buffer.appendShort((short) value);
+    }
+
+    public static void writeInt(Buffer buffer, int value) {
+        buffer.appendInt(value);
+    }
+
+    public static void writeLong(Buffer buffer, long value) {
+        buffer.appendLong(value);
+    }
+
+    public static void writeFloat(Buffer buffer, float value) {
+        buffer.appendFloat(value);
+    }
+
+    public static void writeDouble(Buffer buffer, double value) {
+        buffer.appendDouble(value);
+    }
+
+    public static void writeNullableBoolean(Buffer buffer, Boolean value) {
+        if (writePresence(buffer, value)) {
+            writeBoolean(buffer, value);
+        }
+    }
+
+    public static void writeNullableByte(Buffer buffer, Byte value) {
+        if (writePresence(buffer, value)) {
+            buffer.appendByte(value);
+        }
+    }
+
+    public static void writeNullableShort(Buffer buffer, Short value) {
+        if (writePresence(buffer, value)) {
+            buffer.appendShort(value);
+        }
+    }
+
+    public static void writeNullableChar(Buffer buffer, Character value) {
+        if (writePresence(buffer, value)) {
+            writeChar(buffer, value);
+        }
+    }
+
+    public static void writeNullableInt(Buffer buffer, Integer value) {
+        if (writePresence(buffer, value)) {
+            buffer.appendInt(value);
+        }
+    }
+
+    public static void writeNullableLong(Buffer buffer, Long value) {
+        if (writePresence(buffer, value)) {
+            buffer.appendLong(value);
+        }
+    }
+
+    public static void writeNullableFloat(Buffer buffer, Float value) {
+        if (writePresence(buffer, value)) {
+            buffer.appendFloat(value);
+        }
+    }
+
+    public static void writeNullableDouble(Buffer buffer, Double value) {
+        if (writePresence(buffer, value)) {
+            buffer.appendDouble(value);
+        }
+    }
+
+    public static void writeString(Buffer buffer, String value) {
+        if (writePresence(buffer, value)) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.appendInt(bytes.length);
+            buffer.appendBytes(bytes);
+        }
+    }
+
+    private static boolean writePresence(Buffer buffer, Object value) {
+        buffer.appendByte(value == null ? NULL : NOT_NULL);
+        return value != null;
+    }
+
+    /**
+     * Reads the values written by the {@code write} methods of {@link BinaryMessageCodecSupport}, starting at a given
+     * position of a buffer.
+     */
+    public static final class Reader {
+
+        private final Buffer buffer;
+        private int position;
+
+        public Reader(Buffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        public boolean readBoolean() {
+            return readByte() != NULL;
+        }
+
+        public byte readByte() {
+            return buffer.getByte(position++);
+        }
+
+        public short readShort() {
+            short value = buffer.getShort(position);
+            position += Short.BYTES;
+            return value;
+        }
+
+        public char readChar() {
+            return (char) readShort();
+        }
+
+        public int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        public long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        public float readFloat() {
+            float value = buffer.getFloat(position);
+            position += Float.BYTES;
+            return value;
+        }
+
+        public double readDouble() {
+            double value = buffer.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+
+        public Boolean readNullableBoolean() {
+            return readBoolean() ? readBoolean() : null;
+        }
+
+        public Byte readNullableByte() {
+            return readBoolean() ? readByte() : null;
+        }
+
+        public Short readNullableShort() {
+            return readBoolean() ? readShort() : null;
+        }
+
+        public Character readNullableChar() {
+            return readBoolean() ? readChar() : null;
+        }
+
+        public Integer readNullableInt() {
+            return readBoolean() ? readInt() : null;
+        }
+
+        public Long readNullableLong() {
+            return readBoolean() ? readLong() : null;
+        }
+
+        public Float readNullableFloat() {
+            return readBoolean() ? readFloat() : null;
+        }
+
+        public Double readNullableDouble() {
+            return readBoolean() ? readDouble() : null;
+        }
+
+        public String readString() {
+            if (!readBoolean()) {
+                return null;
+            }
+            int length = readInt();
+            String value = new String(buffer.getBytes(position, position + length), StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+
+/**
+ * Delivers the messages received by a {@link MessageConsumer} to an {@link EventConsumerInvoker}, as configured by
+ * {@link ConsumeEvent}: on a worker thread if the consumer is blocking, in batches if a batch size is set, and pausing the
+ * consumer while the maximum number of in-flight invocations is reached.
+ * <p>
+ * An invocation completes when the business method returns, or when the {@link CompletionStage} it returns completes.
+ * The messages of a batch are replied to with an empty body once the batch is processed, or all failed if the business
+ * method throws.
+ * <p>
+ * The handler, the batch timer and the completion of the invocations all run on the context of the consumer, so the
+ * state is never accessed concurrently.
+ */
+class EventConsumerHandler implements Handler<Message<Object>> {
+
+    private final Vertx vertx;
+    private final MessageConsumer<Object> consumer;
+    private final EventConsumerInvoker invoker;
+    private final boolean blocking;
+    private final int batchSize;
+    private final long maxDelay;
+    private final int maxInFlight;
+    private final Handler<AsyncResult<Void>> release;
+
+    private List<Message<Object>> batch;
+    private long batchTimer = -1;
+    private int inFlight;
+    private boolean paused;
+
+    EventConsumerHandler(Vertx vertx, MessageConsumer<Object> consumer, EventConsumerInvoker invoker,
+            ConsumeEvent configuration) {
+        this.vertx = vertx;
+        this.consumer = consumer;
+        this.invoker = invoker;
+        this.blocking = configuration.blocking();
+        this.batchSize = configuration.batchSize();
+        this.maxDelay = configuration.maxDelay();
+        this.maxInFlight = configuration.maxInFlight();
+        this.release = ar -> release();
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        if (batchSize > 0) {
+            if (batch == null) {
+                batch = new ArrayList<>(batchSize);
+                if (maxDelay > 0) {
+                    batchTimer = vertx.setTimer(maxDelay, id -> {
+                        batchTimer = -1;
+                        flush();
+                    });
+                }
+            }
+            batch.add(message);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        } else if (blocking) {
+            acquire();
+            vertx.<Void> executeBlocking(future -> {
+                CompletionStage<?> stage = invoke(message);
+                if (stage == null) {
+                    future.complete();
+                } else {
+                    stage.whenComplete((result, failure) -> future.complete());
+                }
+            }, false, release);
+        } else {
+            acquire();
+            CompletionStage<?> stage = invoke(message);
+            if (stage == null) {
+                release();
+            } else {
+                Context context = vertx.getOrCreateContext();
+                stage.whenComplete((result, failure) -> context.runOnContext(v -> release()));
+            }
+        }
+    }
+
+    private void flush() {
+        if (batchTimer != -1) {
+            vertx.cancelTimer(batchTimer);
+            batchTimer = -1;
+        }
+        List<Message<Object>> messages = batch;
+        batch = null;
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        acquire();
+        if (blocking) {
+            vertx.<Void> executeBlocking(future -> {
+                invokeBatch(messages);
+                future.complete();
+            }, false, release);
+        } else {
+            invokeBatch(messages);
+            release();
+        }
+    }
+
+    private CompletionStage<?> invoke(Message<Object> message) {
+        try {
+            return invoker.invoke(message);
+        } catch (Throwable e) {
+            message.fail(ConsumeEvent.FAILURE_CODE, e.getMessage());
+            return null;
+        }
+    }
+
+    private void invokeBatch(List<Message<Object>> messages) {
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        try {
+            invoker.invokeBatch(bodies);
+        } catch (Throwable e) {
+            for (Message<Object> message : messages) {
+                message.fail(ConsumeEvent.FAILURE_CODE, e.getMessage());
+            }
+            return;
+        }
+        for (Message<Object> message : messages) {
+            // a no-op unless the sender expects a reply
+            message.reply(null);
+        }
+    }
+
+    private void acquire() {
+        inFlight++;
+        if (maxInFlight > 0 && inFlight >= maxInFlight && !paused) {
+            paused = true;
+            consumer.pause();
+        }
+    }
+
+    private void release() {
+        inFlight--;
+        if (paused && inFlight < maxInFlight) {
+            // resuming may deliver the buffered messages right away
+            paused = false;
+            consumer.resume();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.vertx.runtime;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
 import io.quarkus.vertx.ConsumeEvent;
 import io.vertx.core.eventbus.Message;
 
@@ -8,6 +11,22 @@ import io.vertx.core.eventbus.Message;
  */
 public interface EventConsumerInvoker {
 
-    void invoke(Message<Object> message);
+    /**
+     * 
+     * @param message the received message
+     * @return the stage returned by the business method, which completes once the message is processed, or {@code null}
+     *         if the message is processed when this method returns
+     */
+    CompletionStage<?> invoke(Message<Object> message);
+
+    /**
+     * Invokes a business method consuming batches of message bodies. The invokers of the other business methods throw
+     * an {@link UnsupportedOperationException}, they are never configured with a batch size as this is validated at
+     * build time.
+     * 
+     * @param bodies the bodies of the messages of a batch
+     * @see ConsumeEvent#batchSize()
+     */
+    void invokeBatch(List<Object> bodies);
 
 }
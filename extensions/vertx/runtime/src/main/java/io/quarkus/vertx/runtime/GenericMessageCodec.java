@@ -8,9 +8,27 @@ import org.jboss.logging.Logger;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 
+/**
+ * A message codec relying on Java serialization. It is used for the payload types for which no binary codec can be
+ * generated, see {@link BinaryMessageCodecSupport}.
+ */
 public class GenericMessageCodec implements MessageCodec<Object, Object> {
     private static final Logger LOGGER = Logger.getLogger(GenericMessageCodec.class.getName());
 
+    private final String name;
+
+    public GenericMessageCodec() {
+        this.name = getClass().getSimpleName();
+    }
+
+    /**
+     * @param type the payload type the codec is registered for
+     */
+    public GenericMessageCodec(Class<?> type) {
+        // a codec name must be unique, but the same name must be used on every node of a cluster
+        this.name = getClass().getSimpleName() + "<" + type.getName() + ">";
+    }
+
     @Override
     public void encodeToWire(Buffer buffer, Object o) {
         // Encode object to byte[]
@@ -20,6 +38,8 @@ public class GenericMessageCodec implements MessageCodec<Object, Object> {
             oos = new ObjectOutputStream(b);
             oos.writeObject(o);
             oos.close();
+            // the length is needed to find the end of the message body
+            buffer.appendInt(b.size());
             buffer.appendBytes(b.toByteArray());
         } catch (IOException e) {
             LOGGER.error("cannot write object to buffer", e);
@@ -28,7 +48,9 @@ public class GenericMessageCodec implements MessageCodec<Object, Object> {
 
     @Override
     public Object decodeFromWire(int position, Buffer buffer) {
-        final ByteArrayInputStream bais = new ByteArrayInputStream(buffer.getBytes());
+        final int length = buffer.getInt(position);
+        final int start = position + Integer.BYTES;
+        final ByteArrayInputStream bais = new ByteArrayInputStream(buffer.getBytes(start, start + length));
         try {
             ObjectInputStream inputStream = new ObjectInputStream(bais);
             return inputStream.readObject();
@@ -56,7 +78,7 @@ public class GenericMessageCodec implements MessageCodec<Object, Object> {
     public String name() {
         // Each codec must have a unique name.
         // This is used to identify a codec when sending a message and for unregistering codecs.
-        return this.getClass().getSimpleName();
+        return name;
     }
 
     @Override
@@ -58,6 +58,13 @@ public class VertxConfiguration {
     @ConfigItem(defaultValue = "20")
     public int internalBlockingPoolSize;
 
+    /**
+     * Use the native transport of Netty, e.g. epoll on Linux, if it is available. The matching
+     * {@code netty-transport-native-*} artifact has to be added to the application. This is ignored in native images.
+     */
+    @ConfigItem
+    public boolean preferNativeTransport;
+
     /**
      * Enables the async DNS resolver.
      */
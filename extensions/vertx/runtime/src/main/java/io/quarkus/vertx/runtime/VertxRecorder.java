@@ -39,6 +39,7 @@ public class VertxRecorder {
 
     static volatile Vertx vertx;
     static volatile List<MessageConsumer<?>> messageConsumers;
+    static volatile List<Class<?>> codecTypes;
 
     public RuntimeValue<Vertx> configureVertx(BeanContainer container, VertxConfiguration config,
             Map<String, ConsumeEvent> messageConsumerConfigurations,
@@ -55,6 +56,7 @@ public class VertxRecorder {
                 @Override
                 public void run() {
                     unregisterMessageConsumers();
+                    unregisterCodecs();
                 }
             });
         } else {
@@ -110,6 +112,9 @@ public class VertxRecorder {
         } else {
             vertx = Vertx.vertx(options);
         }
+        if (conf.preferNativeTransport && !vertx.isNativeTransportEnabled()) {
+            LOGGER.warn("The native transport is not available, the JDK transport is used instead");
+        }
 
         messageConsumers = new ArrayList<>();
     }
@@ -137,6 +142,7 @@ public class VertxRecorder {
         //  options.setMaxEventLoopExecuteTime(conf.maxEventLoopExecuteTime)
         //         .setMaxWorkerExecuteTime(conf.maxWorkerExecuteTime)
         options.setWarningExceptionTime(conf.warningExceptionTime.toNanos());
+        options.setPreferNativeTransport(conf.preferNativeTransport);
 
         return options;
     }
@@ -270,13 +276,7 @@ public class VertxRecorder {
                 } else {
                     consumer = eventBus.consumer(address);
                 }
-                consumer.handler(m -> {
-                    try {
-                        invoker.invoke(m);
-                    } catch (Throwable e) {
-                        m.fail(ConsumeEvent.FAILURE_CODE, e.getMessage());
-                    }
-                });
+                consumer.handler(new EventConsumerHandler(vertx, consumer, invoker, entry.getValue()));
                 consumer.completionHandler(ar -> {
                     if (ar.succeeded()) {
                         latch.countDown();
@@ -328,6 +328,9 @@ public class VertxRecorder {
     }
 
     private void registerCodecs(Map<Class<?>, Class<?>> codecByClass) {
+        if (codecTypes == null) {
+            codecTypes = new ArrayList<>();
+        }
         for (Map.Entry<Class<?>, Class<?>> codecEntry : codecByClass.entrySet()) {
             registerCodec(codecEntry.getKey(), codecEntry.getValue());
         }
@@ -335,8 +338,10 @@ public class VertxRecorder {
 
     private void registerCodec(Class<?> typeToAdd, Class<?> messageCodecClass) {
         try {
-            if (messageCodecClass.isAssignableFrom(MessageCodec.class)) {
-                MessageCodec messageCodec = (MessageCodec) messageCodecClass.newInstance();
+            if (MessageCodec.class.isAssignableFrom(messageCodecClass)) {
+                MessageCodec messageCodec = messageCodecClass == GenericMessageCodec.class
+                        ? new GenericMessageCodec(typeToAdd)
+                        : (MessageCodec) messageCodecClass.newInstance();
                 registerCodec(typeToAdd, messageCodec);
             } else {
                 LOGGER.error(String.format("The codec %s does not inherit from MessageCodec ", messageCodecClass.toString()));
@@ -349,5 +354,15 @@ public class VertxRecorder {
     private void registerCodec(Class<?> typeToAdd, MessageCodec codec) {
         EventBus eventBus = vertx.eventBus();
         eventBus.registerDefaultCodec(typeToAdd, codec);
+        codecTypes.add(typeToAdd);
+    }
+
+    void unregisterCodecs() {
+        // the Vert.x instance is reused after a restart in development mode
+        EventBus eventBus = vertx.eventBus();
+        for (Class<?> codecType : codecTypes) {
+            eventBus.unregisterDefaultCodec(codecType);
+        }
+        codecTypes.clear();
     }
 }
@@ -282,6 +282,14 @@ public class BeanDeployment {
             }
             LOGGER.debugf("Removed %s unused beans in %s ms", removable.size(), System.currentTimeMillis() - removalStart);
         }
+
+        // Assign dense slots so that the request context can store the instances in an array
+        int requestContextSlot = 0;
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                bean.setRequestContextSlot(requestContextSlot++);
+            }
+        }
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
@@ -218,6 +218,7 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -297,6 +298,7 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -389,6 +391,7 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -466,6 +469,7 @@ public class BeanGenerator extends AbstractGenerator {
         }
         implementGetBeanClass(bean, beanCreator);
         implementGetName(bean, beanCreator);
+        implementGetRequestContextSlot(bean, beanCreator);
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
@@ -1446,6 +1450,20 @@ public class BeanGenerator extends AbstractGenerator {
         }
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextSlot()
+     */
+    protected void implementGetRequestContextSlot(BeanInfo bean, ClassCreator beanCreator) {
+        if (bean.getRequestContextSlot() != -1) {
+            MethodCreator getRequestContextSlot = beanCreator.getMethodCreator("getRequestContextSlot", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getRequestContextSlot.returnValue(getRequestContextSlot.load(bean.getRequestContextSlot()));
+        }
+    }
+
     private String getProxyTypeName(BeanInfo bean, String baseName) {
         return getPackageName(bean) + "." + baseName + ClientProxyGenerator.CLIENT_PROXY_SUFFIX;
     }
@@ -75,6 +75,8 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final Map<String, Object> params;
 
+    private int requestContextSlot = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers,
             List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer, Integer alternativePriority,
@@ -146,6 +148,18 @@ public class BeanInfo implements InjectionTargetInfo {
         return identifier;
     }
 
+    /**
+     *
+     * @return the request context slot or {@code -1} if the bean is not {@link javax.enterprise.context.RequestScoped}
+     */
+    public int getRequestContextSlot() {
+        return requestContextSlot;
+    }
+
+    void setRequestContextSlot(int requestContextSlot) {
+        this.requestContextSlot = requestContextSlot;
+    }
+
     public Optional<AnnotationTarget> getTarget() {
         return target;
     }
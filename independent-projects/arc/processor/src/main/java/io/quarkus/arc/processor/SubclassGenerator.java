@@ -202,6 +202,19 @@ public class SubclassGenerator extends AbstractGenerator {
         constructor.writeInstanceField(methodsField.getFieldDescriptor(), constructor.getThis(),
                 constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
         ResultHandle methodsHandle = constructor.readInstanceField(methodsField.getFieldDescriptor(), constructor.getThis());
+        // private final Map<String, Set<Annotation>> interceptorBindings
+        FieldCreator interceptorBindingsField = subclass.getFieldCreator("interceptorBindings", Map.class.getName())
+                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+        constructor.writeInstanceField(interceptorBindingsField.getFieldDescriptor(), constructor.getThis(),
+                constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
+        ResultHandle interceptorBindingsHandle = constructor.readInstanceField(interceptorBindingsField.getFieldDescriptor(),
+                constructor.getThis());
+        // private final Map<String, Function<InvocationContext, Object>> forwards
+        FieldCreator forwardsField = subclass.getFieldCreator("forwards", Map.class.getName())
+                .setModifiers(ACC_PRIVATE | ACC_FINAL);
+        constructor.writeInstanceField(forwardsField.getFieldDescriptor(), constructor.getThis(),
+                constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
+        ResultHandle forwardsHandle = constructor.readInstanceField(forwardsField.getFieldDescriptor(), constructor.getThis());
 
         int methodIdx = 1;
         for (Entry<MethodInfo, InterceptionInfo> entry : bean.getInterceptedMethods().entrySet()) {
@@ -246,20 +259,59 @@ public class SubclassGenerator extends AbstractGenerator {
             // Needed when running on substrate VM
             reflectionRegistration.registerMethod(method);
 
+            // Interceptor bindings are shared by all invocations of the method
+            // interceptorBindings.put("m1", Collections.unmodifiableSet(m1Bindings))
+            ResultHandle bindingsHandle = constructor.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+            for (AnnotationInstance binding : interceptedMethod.bindings) {
+                // Create annotation literals first
+                ClassInfo bindingClass = bean.getDeployment().getInterceptorBinding(binding.name());
+                constructor.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
+                        annotationLiterals.process(constructor, classOutput, bindingClass, binding,
+                                Types.getPackageName(subclass.getClassName())));
+            }
+            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, interceptorBindingsHandle, methodIdHandle,
+                    constructor.invokeStaticMethod(MethodDescriptors.COLLECTIONS_UNMODIFIABLE_SET, bindingsHandle));
+
+            // forwards.put("m1", forward)
+            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, forwardsHandle, methodIdHandle,
+                    createForwardingFunction(constructor, method, providerTypeName));
+
             // Finally create the forwarding method
-            createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName,
+            createForwardingMethod(bean, method, methodId, subclass, providerTypeName,
                     interceptorChainsField.getFieldDescriptor(),
-                    methodsField.getFieldDescriptor(), interceptedMethod);
+                    methodsField.getFieldDescriptor(), interceptorBindingsField.getFieldDescriptor(),
+                    forwardsField.getFieldDescriptor());
         }
 
         constructor.returnValue(null);
         return preDestroysField != null ? preDestroysField.getFieldDescriptor() : null;
     }
 
-    private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId,
-            ClassCreator subclass,
+    private ResultHandle createForwardingFunction(MethodCreator constructor, MethodInfo method, String providerTypeName) {
+        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+        FunctionCreator func = constructor.createFunction(Function.class);
+        BytecodeCreator funcBytecode = func.getBytecode();
+        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
+        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
+        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
+                ctxHandle);
+        // autoboxing is handled inside Gizmo
+        for (int i = 0; i < superParamHandles.length; i++) {
+            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
+        }
+        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
+                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
+                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
+                                .toArray(new String[0])),
+                constructor.getThis(), superParamHandles);
+        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        return func.getInstance();
+    }
+
+    private void createForwardingMethod(BeanInfo bean, MethodInfo method, String methodId, ClassCreator subclass,
             String providerTypeName, FieldDescriptor interceptorChainsField, FieldDescriptor methodsField,
-            InterceptionInfo interceptedMethod) {
+            FieldDescriptor interceptorBindingsField, FieldDescriptor forwardsField) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator forwardMethod = subclass.getMethodCreator(originalMethodDescriptor);
@@ -287,26 +339,6 @@ public class SubclassGenerator extends AbstractGenerator {
             notConstructed.returnValue(
                     notConstructed.invokeSpecialMethod(superDescriptor, notConstructed.getThis(), params));
         }
-
-        // Forwarding function
-        // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
-        BytecodeCreator funcBytecode = func.getBytecode();
-        ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
-        ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
-        ResultHandle ctxParamsHandle = funcBytecode.invokeInterfaceMethod(
-                MethodDescriptor.ofMethod(InvocationContext.class, "getParameters", Object[].class),
-                ctxHandle);
-        // autoboxing is handled inside Gizmo
-        for (int i = 0; i < superParamHandles.length; i++) {
-            superParamHandles[i] = funcBytecode.readArrayValue(ctxParamsHandle, i);
-        }
-        ResultHandle superResult = funcBytecode.invokeSpecialMethod(
-                MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
-                        method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList())
-                                .toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
-        funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
@@ -348,22 +380,17 @@ public class SubclassGenerator extends AbstractGenerator {
                 tryCatch.readInstanceField(methodsField, tryCatch.getThis()), methodIdHandle);
         ResultHandle interceptedChainHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
                 tryCatch.readInstanceField(interceptorChainsField, tryCatch.getThis()), methodIdHandle);
-        // Interceptor bindings
-        ResultHandle bindingsHandle = tryCatch.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
-        for (AnnotationInstance binding : interceptedMethod.bindings) {
-            // Create annotation literals first
-            ClassInfo bindingClass = bean.getDeployment().getInterceptorBinding(binding.name());
-            tryCatch.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
-                    annotationLiterals.process(tryCatch, classOutput, bindingClass, binding,
-                            Types.getPackageName(subclass.getClassName())));
-        }
+        ResultHandle bindingsHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
+                tryCatch.readInstanceField(interceptorBindingsField, tryCatch.getThis()), methodIdHandle);
+        ResultHandle forwardHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
+                tryCatch.readInstanceField(forwardsField, tryCatch.getThis()), methodIdHandle);
 
         ResultHandle invocationContext = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXT_AROUND_INVOKE,
                 tryCatch.getThis(),
-                interceptedMethodHandle, paramsHandle, interceptedChainHandle, func.getInstance(), bindingsHandle);
+                interceptedMethodHandle, paramsHandle, interceptedChainHandle, forwardHandle, bindingsHandle);
         // InvocationContext.proceed()
         ResultHandle ret = tryCatch.invokeInterfaceMethod(MethodDescriptors.INVOCATION_CONTEXT_PROCEED, invocationContext);
-        tryCatch.returnValue(superResult != null ? ret : null);
+        tryCatch.returnValue(method.returnType().kind() == Type.Kind.VOID ? null : ret);
     }
 
     /**
@@ -5,6 +5,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -17,6 +18,7 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.enterprise.context.ApplicationScoped;
@@ -63,8 +65,12 @@ class ArcContainerImpl implements ArcContainer {
     private final InjectableContext singletonContext;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    // Lookups with no qualifiers are keyed by the required type only
+    private final ComputingCache<Type, Set<InjectableBean<?>>> resolvedDefault;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    // The number of typesafe resolutions by type and qualifiers, i.e. the misses of the resolved cache
+    private final AtomicLong resolutions = new AtomicLong();
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
@@ -78,9 +84,7 @@ class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -112,9 +116,13 @@ class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        requestContext = new RequestContext(initRequestContextSlots(beans));
+        contexts.add(0, requestContext);
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        resolvedDefault = new ComputingCache<>(this::resolveDefault);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -130,6 +138,23 @@ class ArcContainerImpl implements ArcContainer {
         beans.add(new InstanceBean());
     }
 
+    private static int initRequestContextSlots(List<InjectableBean<?>> beans) {
+        BitSet slots = new BitSet();
+        for (InjectableBean<?> bean : beans) {
+            int slot = bean.getRequestContextSlot();
+            if (slot < 0) {
+                continue;
+            }
+            if (slots.get(slot)) {
+                // Slots are assigned per deployment - fall back to map-based storage if multiple deployments are used
+                LOGGER.debugf("Request context slot %s is not unique - slot-based storage disabled", slot);
+                return 0;
+            }
+            slots.set(slot);
+        }
+        return slots.length();
+    }
+
     void init() {
         requireRunning();
         // Fire an event with qualifier @Initialized(ApplicationScoped.class)
@@ -292,6 +317,7 @@ class ArcContainerImpl implements ArcContainer {
             contexts.clear();
             beans.clear();
             resolved.clear();
+            resolvedDefault.clear();
             observers.clear();
             running.set(false);
             LOGGER.debugf("ArC DI container shut down");
@@ -343,10 +369,7 @@ class ArcContainerImpl implements ArcContainer {
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = getResolvedBeans(requiredType, qualifiers);
         return resolvedBeans.isEmpty() || resolvedBeans.size() > 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -361,9 +384,14 @@ class ArcContainerImpl implements ArcContainer {
     }
 
     private Set<InjectableBean<?>> resolve(Resolvable resolvable) {
+        resolutions.incrementAndGet();
         return resolve(getMatchingBeans(resolvable));
     }
 
+    private Set<InjectableBean<?>> resolveDefault(Type requiredType) {
+        return resolved.getValue(new Resolvable(requiredType, new Annotation[] { Default.Literal.INSTANCE }));
+    }
+
     private Set<InjectableBean<?>> resolve(String name) {
         return resolve(getMatchingBeans(name));
     }
@@ -555,11 +583,28 @@ class ArcContainerImpl implements ArcContainer {
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            return resolvedDefault.getValue(requiredType);
         }
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    /**
+     * Test hook.
+     *
+     * @return the number of typesafe resolutions by type and qualifiers performed so far
+     */
+    long getResolutionCount() {
+        return resolutions.get();
+    }
+
+    /**
+     * Test hook. Clears the results of the typesafe resolutions by type and qualifiers, so that the next lookups going
+     * through {@link #getResolvedBeans(Type, Annotation...)} with these qualifiers resolve the beans again.
+     */
+    void clearResolvedBeans() {
+        resolved.clear();
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         if (!BeanTypeAssignabilityRules.matches(requiredType, bean.getTypes())) {
             return false;
@@ -103,4 +103,14 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The slot is generated by the container for every {@link javax.enterprise.context.RequestScoped} bean and is unique for
+     * a specific deployment. It is used to store the contextual instance in the request context.
+     *
+     * @return the request context slot or {@code -1} if no slot is assigned
+     */
+    default int getRequestContextSlot() {
+        return -1;
+    }
+
 }
@@ -40,21 +40,32 @@ class InstanceImpl<T> implements Instance<T> {
 
     InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
             CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
-        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position);
+        this(targetBean, type, qualifiers, creationalContext, annotations, javaMember, position, null);
+    }
+
+    InstanceImpl(InjectableBean<?> targetBean, Type type, Set<Annotation> qualifiers,
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Set<InjectableBean<?>> resolvedBeans) {
+        this(targetBean, type, getRequiredType(type), qualifiers, creationalContext, annotations, javaMember, position,
+                resolvedBeans);
     }
 
     InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
         this(parent.targetBean, parent.injectionPointType, requiredType, requiredQualifiers, parent.creationalContext,
-                parent.annotations, parent.javaMember, parent.position);
+                parent.annotations, parent.javaMember, parent.position, null);
     }
 
     InstanceImpl(InjectableBean<?> targetBean, Type injectionPointType, Type requiredType, Set<Annotation> requiredQualifiers,
-            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position) {
+            CreationalContextImpl<?> creationalContext, Set<Annotation> annotations, Member javaMember, int position,
+            Set<InjectableBean<?>> resolvedBeans) {
         this.injectionPointType = injectionPointType;
         this.requiredType = requiredType;
         this.requiredQualifiers = requiredQualifiers != null ? requiredQualifiers : Collections.emptySet();
         this.creationalContext = creationalContext;
-        if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
+        if (resolvedBeans != null) {
+            // Beans resolved for the same injection point previously
+            this.resolvedBeans = resolvedBeans;
+        } else if (this.requiredQualifiers.isEmpty() && Object.class.equals(requiredType)) {
             // Do not prefetch the beans for Instance<Object> with no qualifiers
             this.resolvedBeans = null;
         } else {
@@ -134,6 +145,14 @@ class InstanceImpl<T> implements Instance<T> {
         creationalContext.release();
     }
 
+    /**
+     *
+     * @return the prefetched beans or {@code null}
+     */
+    Set<InjectableBean<?>> getResolvedBeans() {
+        return resolvedBeans;
+    }
+
     private T getBeanInstance(InjectableBean<T> bean) {
         CreationalContextImpl<T> ctx = creationalContext.child(bean);
         InjectionPoint prev = InjectionPointProvider
@@ -20,6 +20,9 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
     private final Member javaMember;
     private final int position;
 
+    // The result of typesafe resolution does not change while the container is running
+    private volatile Set<InjectableBean<?>> resolvedBeans;
+
     public InstanceProvider(Type type, Set<Annotation> qualifiers, InjectableBean<?> targetBean, Set<Annotation> annotations,
             Member javaMember, int position) {
         this.requiredType = type;
@@ -32,8 +35,12 @@ public class InstanceProvider<T> implements InjectableReferenceProvider<Instance
 
     @Override
     public Instance<T> get(CreationalContext<Instance<T>> creationalContext) {
-        return new InstanceImpl<T>(targetBean, requiredType, qualifiers, CreationalContextImpl.unwrap(creationalContext),
-                annotations, javaMember, position);
+        InstanceImpl<T> instance = new InstanceImpl<T>(targetBean, requiredType, qualifiers,
+                CreationalContextImpl.unwrap(creationalContext), annotations, javaMember, position, resolvedBeans);
+        if (resolvedBeans == null) {
+            resolvedBeans = instance.getResolvedBeans();
+        }
+        return instance;
     }
 
 }
@@ -8,7 +8,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.enterprise.inject.spi.InterceptionType;
@@ -76,7 +75,7 @@ public class InvocationContextImpl implements InvocationContext {
                 interceptorBindings);
     }
 
-    private final AtomicReference<Object> target;
+    private Object target;
 
     private final Method method;
 
@@ -86,7 +85,8 @@ public class InvocationContextImpl implements InvocationContext {
 
     private int position;
 
-    private final Map<String, Object> contextData;
+    // Most interceptors do not use the context data - the map is created lazily
+    private Map<String, Object> contextData;
 
     private final List<InterceptorInvocation> chain;
 
@@ -110,7 +110,7 @@ public class InvocationContextImpl implements InvocationContext {
             List<InterceptorInvocation> chain,
             Function<InvocationContext, Object> aroundInvokeForward, Supplier<Object> aroundConstructForward,
             Set<Annotation> interceptorBindings) {
-        this.target = new AtomicReference<>(target);
+        this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.args = args;
@@ -119,8 +119,6 @@ public class InvocationContextImpl implements InvocationContext {
         this.aroundInvokeForward = aroundInvokeForward;
         this.aroundConstructForward = aroundConstructForward;
         this.interceptorBindings = interceptorBindings;
-        contextData = new HashMap<>();
-        contextData.put(KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
     }
 
     boolean hasNextInterceptor() {
@@ -141,7 +139,7 @@ public class InvocationContextImpl implements InvocationContext {
             return aroundInvokeForward.apply(this);
         }
         if (aroundConstructForward != null) {
-            target.set(aroundConstructForward.get());
+            target = aroundConstructForward.get();
         }
         return null;
     }
@@ -152,7 +150,7 @@ public class InvocationContextImpl implements InvocationContext {
             if (hasNextInterceptor()) {
                 if (aroundConstructForward != null) {
                     invokeNext();
-                    return target.get();
+                    return target;
                 } else {
                     return invokeNext();
                 }
@@ -174,7 +172,7 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Object getTarget() {
-        return target.get();
+        return target;
     }
 
     @Override
@@ -205,6 +203,10 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new HashMap<>();
+            contextData.put(KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
+        }
         return contextData;
     }
 
@@ -2,11 +2,17 @@ package io.quarkus.arc;
 
 import io.quarkus.arc.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
@@ -27,14 +33,24 @@ class RequestContext implements ManagedContext {
 
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
+    // Thread.isVirtual() (Java 19+), or null
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<ContextInstances> currentContext = new ThreadLocal<>();
+
+    // Destroyed instances storage that can be reused by the next activation on the same thread
+    private final ThreadLocal<ContextInstances> recycled = new ThreadLocal<>();
+
+    // The number of slots assigned to @RequestScoped beans at build time, see InjectableBean#getRequestContextSlot()
+    private final int slots;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    public RequestContext(int slots) {
+        this.slots = slots;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -48,7 +64,7 @@ class RequestContext implements ManagedContext {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -75,7 +91,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -89,7 +105,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            ContextInstances ctx = recycled.get();
+            if (ctx != null) {
+                recycled.remove();
+            } else {
+                ctx = new ContextInstances(slots);
+            }
+            currentContext.set(ctx);
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -103,22 +125,30 @@ class RequestContext implements ManagedContext {
 
     @Override
     public InjectableContext.ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
+        // The state may be propagated to other threads - never reuse the storage
+        ctx.shared = true;
         return new RequestContextState(ctx);
     }
 
     @Override
     public void deactivate() {
+        ContextInstances ctx = currentContext.get();
+        if (ctx != null && !ctx.shared && ctx.isEmpty() && !isVirtualThread(Thread.currentThread())) {
+            // No other thread can access the storage and there are no instances to keep
+            // Virtual threads are not reused, so the storage would never be reused either
+            recycled.set(ctx);
+        }
         currentContext.remove();
     }
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx != null) {
             synchronized (ctx) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -145,6 +175,26 @@ class RequestContext implements ManagedContext {
         }
     }
 
+    static boolean isVirtualThread(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+                    MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
         Notifier<Object> notifier = value.get();
         if (!notifier.isEmpty()) {
@@ -172,9 +222,9 @@ class RequestContext implements ManagedContext {
 
     private static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final ContextInstances value;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
+        RequestContextState(ContextInstances value) {
             this.value = value;
         }
 
@@ -185,4 +235,105 @@ class RequestContext implements ManagedContext {
         }
 
     }
+
+    /**
+     * Instances of beans with a slot assigned at build time are stored in an array, all other instances are stored in a
+     * lazily created map.
+     */
+    static final class ContextInstances {
+
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        volatile boolean shared;
+
+        ContextInstances(int slots) {
+            this.slots = new AtomicReferenceArray<>(slots);
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int slot = slot(contextual);
+            if (slot != -1) {
+                return slots.get(slot);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int slot = slot(contextual);
+            if (slot != -1) {
+                slots.set(slot, instance);
+            } else {
+                getOthers().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int slot = slot(contextual);
+            if (slot != -1) {
+                return slots.getAndSet(slot, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        List<ContextInstanceHandle<?>> values() {
+            List<ContextInstanceHandle<?>> values = new ArrayList<>();
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> instance = slots.get(i);
+                if (instance != null) {
+                    values.add(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                values.addAll(map.values());
+            }
+            return values;
+        }
+
+        boolean isEmpty() {
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) != null) {
+                    return false;
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map == null || map.isEmpty();
+        }
+
+        void clear() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, null);
+            }
+            others = null;
+        }
+
+        private int slot(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int slot = ((InjectableBean<?>) contextual).getRequestContextSlot();
+                if (slot >= 0 && slot < slots.length()) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> getOthers() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map == null) {
+                synchronized (this) {
+                    map = others;
+                    if (map == null) {
+                        map = new ConcurrentHashMap<>();
+                        others = map;
+                    }
+                }
+            }
+            return map;
+        }
+
+    }
 }
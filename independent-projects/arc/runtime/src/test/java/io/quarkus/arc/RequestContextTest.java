@@ -0,0 +1,38 @@
+package io.quarkus.arc;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class RequestContextTest {
+
+    @Test
+    public void testPlatformThreadIsNotVirtual() throws InterruptedException {
+        assertFalse(RequestContext.isVirtualThread(Thread.currentThread()));
+        AtomicBoolean virtual = new AtomicBoolean(true);
+        Thread thread = new Thread(() -> virtual.set(RequestContext.isVirtualThread(Thread.currentThread())));
+        thread.start();
+        thread.join();
+        assertFalse(virtual.get());
+    }
+
+    @Test
+    public void testVirtualThread() throws Exception {
+        Method startVirtualThread;
+        try {
+            startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            startVirtualThread = null;
+        }
+        Assume.assumeNotNull(startVirtualThread);
+        AtomicBoolean virtual = new AtomicBoolean();
+        Runnable task = () -> virtual.set(RequestContext.isVirtualThread(Thread.currentThread()));
+        ((Thread) startVirtualThread.invoke(null, task)).join();
+        assertTrue(virtual.get());
+    }
+
+}
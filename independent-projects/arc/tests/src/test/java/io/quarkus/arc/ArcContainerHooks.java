@@ -0,0 +1,23 @@
+package io.quarkus.arc;
+
+/**
+ * Gives the tests access to the package-private test hooks of the container.
+ */
+public final class ArcContainerHooks {
+
+    private ArcContainerHooks() {
+    }
+
+    public static long getResolutionCount() {
+        return container().getResolutionCount();
+    }
+
+    public static void clearResolvedBeans() {
+        container().clearResolvedBeans();
+    }
+
+    private static ArcContainerImpl container() {
+        return (ArcContainerImpl) Arc.container();
+    }
+
+}
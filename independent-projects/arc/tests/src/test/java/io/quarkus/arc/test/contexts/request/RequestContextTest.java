@@ -8,6 +8,7 @@ import static org.junit.Assert.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
 import javax.enterprise.context.ContextNotActiveException;
@@ -67,6 +68,23 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testRequestContextSlots() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        InjectableBean<ControllerClient> clientBean = arc.instance(ControllerClient.class).getBean();
+        assertTrue(controllerBean.getRequestContextSlot() >= 0);
+        assertEquals(-1, clientBean.getRequestContextSlot());
+
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        String id = arc.instance(Controller.class).get().getId();
+        assertEquals(id, arc.instance(Controller.class).get().getId());
+        requestContext.destroy(controllerBean);
+        assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        requestContext.terminate();
+    }
+
     @Test
     public void testRequestContextController() {
         Controller.DESTROYED.set(false);
@@ -0,0 +1,89 @@
+package io.quarkus.arc.test.instance.resolution;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainerHooks;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class InstanceResolutionTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, QualifiedBravo.class,
+            Special.class);
+
+    @Test
+    public void testResolvedBeansAreReused() {
+        Alpha first = Arc.container().instance(Alpha.class).get();
+        assertEquals(Bravo.class.getSimpleName(), first.instance.get().getName());
+        assertEquals(Bravo.class.getSimpleName(), Arc.container().instance(Bravo.class).get().getName());
+        // Each Alpha instance gets a new Instance<Bravo> from the same provider
+        for (int i = 0; i < 3; i++) {
+            // A lookup going through the cache by type and qualifiers would resolve the beans again
+            ArcContainerHooks.clearResolvedBeans();
+            long resolutions = ArcContainerHooks.getResolutionCount();
+            Alpha alpha = Arc.container().instance(Alpha.class).get();
+            assertFalse(alpha.instance.isUnsatisfied());
+            assertFalse(alpha.instance.isAmbiguous());
+            assertEquals(Bravo.class.getSimpleName(), alpha.instance.get().getName());
+            // Programmatic lookup
+            assertEquals(Bravo.class.getSimpleName(), Arc.container().instance(Bravo.class).get().getName());
+            assertEquals(resolutions, ArcContainerHooks.getResolutionCount());
+            // The lookups with qualifiers are resolved again
+            assertEquals(QualifiedBravo.class.getSimpleName(),
+                    Arc.container().instance(Bravo.class, new Special.Literal()).get().getName());
+            assertEquals(resolutions + 1, ArcContainerHooks.getResolutionCount());
+        }
+    }
+
+    @Dependent
+    static class Alpha {
+
+        @Inject
+        Instance<Bravo> instance;
+
+    }
+
+    @Dependent
+    static class Bravo {
+
+        String getName() {
+            return Bravo.class.getSimpleName();
+        }
+
+    }
+
+    @Special
+    @Dependent
+    static class QualifiedBravo extends Bravo {
+
+        @Override
+        String getName() {
+            return QualifiedBravo.class.getSimpleName();
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @interface Special {
+
+        class Literal extends AnnotationLiteral<Special> implements Special {
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+}
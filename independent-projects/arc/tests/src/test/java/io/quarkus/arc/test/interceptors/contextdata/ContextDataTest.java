@@ -0,0 +1,96 @@
+package io.quarkus.arc.test.interceptors.contextdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InvocationContextImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Annotation;
+import java.util.Set;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ContextDataTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(ContextDataBinding.class, SimpleBean.class,
+            FirstInterceptor.class, PassThroughInterceptor.class, LastInterceptor.class);
+
+    @Test
+    public void testContextDataIsSharedAlongTheChain() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // first -> pass-through (never touches the data) -> last -> foo
+        assertEquals("first:last:foo:bindings", bean.foo());
+    }
+
+    @Test
+    public void testContextDataIsNotSharedBetweenInvocations() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        for (int i = 0; i < 3; i++) {
+            // the first interceptor fails if the data of a previous invocation is visible
+            assertEquals("first:last:foo:bindings", bean.foo());
+        }
+    }
+
+    @Singleton
+    static class SimpleBean {
+
+        @ContextDataBinding
+        String foo() {
+            return "foo";
+        }
+
+    }
+
+    @ContextDataBinding
+    @Priority(1)
+    @Interceptor
+    public static class FirstInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            if (ctx.getContextData().containsKey("first") || ctx.getContextData().containsKey("last")) {
+                throw new IllegalStateException("Context data of another invocation: " + ctx.getContextData());
+            }
+            ctx.getContextData().put("first", "first");
+            Object ret = ctx.proceed();
+            // written by the last interceptor
+            return ret + ":" + ctx.getContextData().get("bindings");
+        }
+    }
+
+    @ContextDataBinding
+    @Priority(2)
+    @Interceptor
+    public static class PassThroughInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+    }
+
+    @ContextDataBinding
+    @Priority(3)
+    @Interceptor
+    public static class LastInterceptor {
+
+        @SuppressWarnings("unchecked")
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            Set<Annotation> bindings = (Set<Annotation>) ctx.getContextData()
+                    .get(InvocationContextImpl.KEY_INTERCEPTOR_BINDINGS);
+            assertEquals(1, bindings.size());
+            assertTrue(bindings.iterator().next() instanceof ContextDataBinding);
+            ctx.getContextData().put("bindings", "bindings");
+            return ctx.getContextData().get("first") + ":last:" + ctx.proceed();
+        }
+    }
+
+}
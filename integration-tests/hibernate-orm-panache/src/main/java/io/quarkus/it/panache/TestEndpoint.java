@@ -1,9 +1,11 @@
 package io.quarkus.it.panache;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -167,6 +169,7 @@ public class TestEndpoint {
         }
         testPaging(Person.findAll());
         testPaging(Person.find("ORDER BY name"));
+        testKeysetPaging(Person.findAll(Sort.by("name")));
 
         try {
             Person.findAll().singleResult();
@@ -438,6 +441,7 @@ public class TestEndpoint {
         }
         testPaging(personDao.findAll());
         testPaging(personDao.find("ORDER BY name"));
+        testKeysetPaging(personDao.findAll(Sort.by("name")));
 
         try {
             personDao.findAll().singleResult();
@@ -656,6 +660,40 @@ public class TestEndpoint {
         Assertions.assertEquals(3, query.pageCount());
     }
 
+    private void testKeysetPaging(PanacheQuery<Person> query) {
+        List<Person> persons = query.page(0, 3).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef2", persons.get(2).name);
+
+        persons = query.after(persons.get(2).name).list();
+        Assertions.assertEquals(0, query.page().index);
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef3", persons.get(0).name);
+        Assertions.assertEquals("stef4", persons.get(1).name);
+        Assertions.assertEquals("stef5", persons.get(2).name);
+
+        // the count only includes the entities after the keyset
+        Assertions.assertEquals(4, query.count());
+        Assertions.assertEquals(2, query.pageCount());
+        Assertions.assertTrue(query.hasNextPage());
+
+        persons = query.after(persons.get(2).name).list();
+        Assertions.assertEquals(1, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+        Assertions.assertEquals(1, query.cacheCount(Duration.ofMinutes(1)).count());
+        Assertions.assertFalse(query.hasNextPage());
+
+        persons = query.after(persons.get(0).name).list();
+        Assertions.assertEquals(0, persons.size());
+        Assertions.assertEquals(0, query.count());
+        Assertions.assertEquals(1, query.pageCount());
+        try {
+            query.after("stef0", 1L);
+            Assertions.fail("the number of sort key values should be checked");
+        } catch (IllegalArgumentException x) {
+        }
+    }
+
     @GET
     @Path("accessors")
     public String testAccessors() throws NoSuchMethodException, SecurityException {
@@ -770,6 +808,41 @@ public class TestEndpoint {
         return "OK";
     }
 
+    @GET
+    @Path("persist-in-batches")
+    @Transactional
+    public String testPersistInBatches() {
+        List<Person> persons = IntStream.range(0, 1000).mapToObj(i -> {
+            Person person = new Person();
+            person.name = "batch" + i;
+            return person;
+        }).collect(Collectors.toList());
+        Person.persistInBatches(persons);
+        Assertions.assertEquals(1000, Person.count());
+        // every batch was flushed and released from the persistence context
+        for (Person person : persons) {
+            Assertions.assertNotNull(person.id);
+            Assertions.assertFalse(person.isPersistent());
+        }
+
+        personDao.persistInBatches(IntStream.range(0, 1000).mapToObj(i -> {
+            Person person = new Person();
+            person.name = "dao" + i;
+            return person;
+        }), 100);
+        Assertions.assertEquals(2000, Person.count());
+        Assertions.assertEquals(1000, Person.count("name LIKE 'dao%'"));
+
+        try {
+            Person.persistInBatches(persons, -1);
+            Assertions.fail("negative batch sizes should be rejected");
+        } catch (IllegalArgumentException x) {
+        }
+
+        Assertions.assertEquals(2000, Person.deleteAll());
+        return "OK";
+    }
+
     @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
     @GET
     @Path("ignored-properties")